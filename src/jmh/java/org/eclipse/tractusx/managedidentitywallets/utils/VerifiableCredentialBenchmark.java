@@ -0,0 +1,151 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.JsonLdSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.ssi.lib.crypt.KeyPair;
+import org.eclipse.tractusx.ssi.lib.crypt.jwk.JsonWebKey;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559Generator;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559PrivateKey;
+import org.eclipse.tractusx.ssi.lib.did.web.DidWebFactory;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocumentBuilder;
+import org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethodBuilder;
+import org.eclipse.tractusx.ssi.lib.model.proof.jws.JWSSignature2020;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialBuilder;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofGenerator;
+import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of a signed credential: the single build of {@link CommonUtils#createVerifiableCredential}
+ * against the path used before, which built the credential for the proof, built it again with the proof and needed a
+ * copy of the contexts for each credential. The contexts are served by the {@link JsonLdContextLoader}, so the
+ * measurements do not include fetching them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class VerifiableCredentialBenchmark {
+
+    private static final List<URI> CONTEXTS = List.of(URI.create("https://www.w3.org/2018/credentials/v1"));
+
+    private static final List<String> TYPES = List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, "BpnCredential");
+
+    private JsonLdContextLoader contextLoader;
+
+    private DidDocument issuerDoc;
+
+    private URI verificationMethod;
+
+    private byte[] privateKey;
+
+    private VerifiableCredentialSubject subject;
+
+    private Date expiryDate;
+
+    @Setup
+    public void setUp() throws Exception {
+        MIWSettings miwSettings = new MIWSettings("localhost", null, null, null, null, CONTEXTS, List.of(), null, null,
+                false, null, List.of());
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(100, Duration.ofHours(1));
+        contextLoader = new JsonLdContextLoader(new JsonLdSettings(null, true), miwSettings,
+                new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec), new SimpleMeterRegistry());
+        contextLoader.install();
+
+        KeyPair keyPair = new x21559Generator().generateKey();
+        Did did = DidWebFactory.fromHostnameAndPath("localhost", "BPNL000000000000");
+        JsonWebKey jwk = new JsonWebKey(UUID.randomUUID().toString(), keyPair.getPublicKey(), keyPair.getPrivateKey());
+        issuerDoc = new DidDocumentBuilder()
+                .id(did.toUri())
+                .verificationMethods(List.of(new JWKVerificationMethodBuilder().did(did).jwk(jwk).build()))
+                .build();
+        verificationMethod = issuerDoc.getVerificationMethods().get(0).getId();
+        privateKey = keyPair.getPrivateKey().asByte();
+        subject = new VerifiableCredentialSubject(Map.of("id", "did:web:localhost:BPNL000000000001",
+                "bpn", "BPNL000000000001", "type", "BpnCredential"));
+        expiryDate = Date.from(Instant.now().plus(Duration.ofDays(365)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        contextLoader.uninstall();
+    }
+
+    @Benchmark
+    public VerifiableCredential singleBuild() {
+        return CommonUtils.createVerifiableCredential(issuerDoc, verificationMethod, TYPES, subject, privateKey, CONTEXTS, expiryDate);
+    }
+
+    @Benchmark
+    public VerifiableCredential doubleBuild() throws Exception {
+        List<URI> contexts = new ArrayList<>(CONTEXTS);
+        if (!contexts.contains(CommonUtils.JWS_2020_CONTEXT)) {
+            contexts.add(CommonUtils.JWS_2020_CONTEXT);
+        }
+        VerifiableCredentialBuilder builder = new VerifiableCredentialBuilder()
+                .context(contexts)
+                .id(URI.create(issuerDoc.getId() + "#" + UUID.randomUUID()))
+                .type(TYPES)
+                .issuer(issuerDoc.getId())
+                .expirationDate(expiryDate.toInstant())
+                .issuanceDate(Instant.now())
+                .credentialSubject(subject);
+        LinkedDataProofGenerator generator = LinkedDataProofGenerator.newInstance(SignatureType.JWS);
+        JWSSignature2020 proof =
+                (JWSSignature2020) generator.createProof(builder.build(), verificationMethod, new x21559PrivateKey(privateKey));
+        builder.proof(proof);
+        return builder.build();
+    }
+}
@@ -134,6 +134,9 @@ public class DidDocumentControllerApiDocs {
                                      }
                                     """)
                     })
+            }),
+            @ApiResponse(responseCode = "304", description = "DID document not modified since the ETag sent in If-None-Match", content = {
+                    @Content()
             })
     })
     @Operation(description = "Resolve the DID document for a given BPN", summary = "Resolve DID Document", security = { @SecurityRequirement(name = "Authenticate using access_token") })
@@ -278,6 +278,18 @@ public class IssuersCredentialControllerApiDocs {
                                     """)
                     })
             }),
+            @ApiResponse(responseCode = "202", description = "Issuance job, when issued asynchronously", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Issuance job", value = """
+                                     {
+                                       "id": "0d9c2b4e-6f4a-4c53-9a55-0d8b1f5b2c7e",
+                                       "type": "MEMBERSHIP",
+                                       "status": "PENDING",
+                                       "createdAt": "2023-07-19T09:27:42.000+00:00"
+                                     }
+                                    """)
+                    })
+            }),
             @ApiResponse(responseCode = "201", description = "Issuer credential", content = {
                     @Content(examples = {
                             @ExampleObject(name = "Membership credential", value = """
@@ -405,6 +417,18 @@ public class IssuersCredentialControllerApiDocs {
                                     """)
                     })
             }),
+            @ApiResponse(responseCode = "202", description = "Issuance job, when issued asynchronously", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Issuance job", value = """
+                                     {
+                                       "id": "0d9c2b4e-6f4a-4c53-9a55-0d8b1f5b2c7e",
+                                       "type": "DISMANTLER",
+                                       "status": "PENDING",
+                                       "createdAt": "2023-07-19T09:27:42.000+00:00"
+                                     }
+                                    """)
+                    })
+            }),
             @ApiResponse(responseCode = "201", description = "Dismantler Credential", content = {
                     @Content(examples = {
                             @ExampleObject(name = "Dismantler Credential", value = """
@@ -573,6 +597,18 @@ public class IssuersCredentialControllerApiDocs {
                                     """)
                     })
             }),
+            @ApiResponse(responseCode = "202", description = "Issuance job, when issued asynchronously", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Issuance job", value = """
+                                     {
+                                       "id": "0d9c2b4e-6f4a-4c53-9a55-0d8b1f5b2c7e",
+                                       "type": "FRAMEWORK",
+                                       "status": "PENDING",
+                                       "createdAt": "2023-07-19T09:27:42.000+00:00"
+                                     }
+                                    """)
+                    })
+            }),
             @ApiResponse(responseCode = "201", description = "Framework credential", content = {
                     @Content(examples = {
                             @ExampleObject(name = "BehaviorTwin credential", value = """
@@ -779,6 +815,232 @@ public class IssuersCredentialControllerApiDocs {
     public @interface IssueFrameworkCredentialApiDocs {
     }
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @RequestBody(content = {
+            @Content(examples = {
+                    @ExampleObject(name = "Framework credentials", value = """
+                                                            {
+                                                              "credentials": [
+                                                                {
+                                                                  "holderIdentifier": "BPNL000000000001",
+                                                                  "type": "PcfCredential",
+                                                                  "contract-template": "https://public.catena-x.org/contracts/pcf.v1.pdf",
+                                                                  "contract-version": "1.0.0"
+                                                                },
+                                                                {
+                                                                  "holderIdentifier": "did:web:localhost:BPNL000000000002",
+                                                                  "type": "TraceabilityCredential",
+                                                                  "contract-template": "https://public.catena-x.org/contracts/traceabilty.v1.pdf",
+                                                                  "contract-version": "1.0.0"
+                                                                }
+                                                              ]
+                                                            }
+                            """)
+            })
+    })
+    @Tag(name = API_TAG_VERIFIABLE_CREDENTIAL_ISSUER)
+    @Operation(summary = "Issue several Use Case Verifiable Credentials with base wallet issuer", description = "Permission: **update_wallets** (The BPN of base wallet must equal BPN of caller)\n\n Issue a list of framework credentials by base wallet. Each credential is issued on its own, the response lists the issued credential or the error of each request in the order of the requests", security = { @SecurityRequirement(name = "Authenticate using access_token") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "401", description = "The request could not be completed due to a failed authorization.", content = {
+                    @Content(examples = {}) }),
+            @ApiResponse(responseCode = "403", description = "The request could not be completed due to a forbidden access", content = {
+                    @Content(examples = {}) }),
+            @ApiResponse(responseCode = "500", description = "Any other internal server error", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Internal server error", value = """
+                                    {
+                                      "type": "about:blank",
+                                      "title": "Error Title",
+                                      "status": 500,
+                                      "detail": "Error Details",
+                                      "instance": "API endpoint",
+                                      "properties": {
+                                        "timestamp": 1689762476720
+                                      }
+                                    }
+                                    """)
+                    }) }),
+            @ApiResponse(responseCode = "400", description = "The input does not comply to the syntax requirements or contains too many credentials", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Response in case of invalid data provided", value = """
+                                     {
+                                         "type": "about:blank",
+                                         "title": "Invalid data provided",
+                                         "status": 400,
+                                         "detail": "details",
+                                         "instance": "API endpoint",
+                                         "properties":
+                                         {
+                                             "timestamp": 1689760833962,
+                                             "errors":
+                                             {
+                                                 "filed": "filed error message"
+                                             }
+                                         }
+                                     }
+                                    """)
+                    })
+            }),
+            @ApiResponse(responseCode = "200", description = "Result of each framework credential", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Framework credentials", value = """
+                                     [
+                                       {
+                                         "holderIdentifier": "BPNL000000000001",
+                                         "type": "PcfCredential",
+                                         "issued": true,
+                                         "credential": {
+                                           "@context": [
+                                             "https://www.w3.org/2018/credentials/v1",
+                                             "https://catenax-ng.github.io/product-core-schemas/businessPartnerData.json",
+                                             "https://w3id.org/security/suites/jws-2020/v1"
+                                           ],
+                                           "id": "did:web:localhost:BPNL000000000000#c1d3c5b6-01a0-4f87-9bd3-1f5b0f0d5b4c",
+                                           "type": [
+                                             "VerifiableCredential",
+                                             "UseCaseFrameworkCondition"
+                                           ],
+                                           "issuer": "did:web:localhost:BPNL000000000000",
+                                           "issuanceDate": "2023-07-19T09:27:42Z",
+                                           "expirationDate": "2024-12-31T18:30:00Z",
+                                           "credentialSubject": [
+                                             {
+                                               "holderIdentifier": "BPNL000000000001",
+                                               "id": "did:web:localhost:BPNL000000000001",
+                                               "type": "PcfCredential",
+                                               "contractTemplate": "https://public.catena-x.org/contracts/pcf.v1.pdf",
+                                               "contractVersion": "1.0.0"
+                                             }
+                                           ],
+                                           "proof": {
+                                             "created": "2023-07-19T09:27:44Z",
+                                             "jws": "eyJhbGciOiJFZERTQSJ9..zt7SyONY1shO7N6taHr4VQM9mBOdjUkMZ6sOxm6y_n8Eo5U2JMmCVtHOZS36AWlZQ-Sl8VR1Xc-ZL3o8zL4VCQ",
+                                             "proofPurpose": "proofPurpose",
+                                             "type": "JsonWebSignature2020",
+                                             "verificationMethod": "did:web:localhost:BPNL000000000000#"
+                                           }
+                                         }
+                                       },
+                                       {
+                                         "holderIdentifier": "did:web:localhost:BPNL000000000002",
+                                         "type": "TraceabilityCredential",
+                                         "error": "Wallet not found for identifier did:web:localhost:BPNL000000000002",
+                                         "issued": false
+                                       }
+                                     ]
+                                    """)
+                    })
+            })
+    })
+    public @interface IssueFrameworkCredentialsApiDocs {
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Tag(name = API_TAG_VERIFIABLE_CREDENTIAL_ISSUER)
+    @Operation(summary = "Get an issuance job", description = "Permission: **update_wallets** (The BPN of base wallet must equal BPN of caller)\n\n Get the status of a credential issued asynchronously, with the credential once it is completed or the error once it is failed", security = { @SecurityRequirement(name = "Authenticate using access_token") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "401", description = "The request could not be completed due to a failed authorization.", content = {
+                    @Content(examples = {}) }),
+            @ApiResponse(responseCode = "403", description = "The request could not be completed due to a forbidden access", content = {
+                    @Content(examples = {}) }),
+            @ApiResponse(responseCode = "500", description = "Any other internal server error", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Internal server error", value = """
+                                    {
+                                      "type": "about:blank",
+                                      "title": "Error Title",
+                                      "status": 500,
+                                      "detail": "Error Details",
+                                      "instance": "API endpoint",
+                                      "properties": {
+                                        "timestamp": 1689762476720
+                                      }
+                                    }
+                                    """)
+                    }) }),
+            @ApiResponse(responseCode = "404", description = "Issuance job not found", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Issuance job not found", value = """
+                                    {
+                                      "type": "about:blank",
+                                      "title": "Issuance job not found with id 0d9c2b4e-6f4a-4c53-9a55-0d8b1f5b2c7e",
+                                      "status": 404,
+                                      "detail": "Issuance job not found with id 0d9c2b4e-6f4a-4c53-9a55-0d8b1f5b2c7e",
+                                      "instance": "API endpoint",
+                                      "properties": {
+                                        "timestamp": 1689762476720
+                                      }
+                                    }
+                                    """)
+                    }) }),
+            @ApiResponse(responseCode = "200", description = "Issuance job", content = {
+                    @Content(examples = {
+                            @ExampleObject(name = "Pending issuance job", value = """
+                                     {
+                                       "id": "0d9c2b4e-6f4a-4c53-9a55-0d8b1f5b2c7e",
+                                       "type": "FRAMEWORK",
+                                       "status": "PENDING",
+                                       "createdAt": "2023-07-19T09:27:42.000+00:00"
+                                     }
+                                    """),
+                            @ExampleObject(name = "Failed issuance job", value = """
+                                     {
+                                       "id": "0d9c2b4e-6f4a-4c53-9a55-0d8b1f5b2c7e",
+                                       "type": "FRAMEWORK",
+                                       "status": "FAILED",
+                                       "createdAt": "2023-07-19T09:27:42.000+00:00",
+                                       "modifiedAt": "2023-07-19T09:27:43.000+00:00",
+                                       "error": "Wallet not found for identifier BPNL000000000001"
+                                     }
+                                    """),
+                            @ExampleObject(name = "Completed issuance job", value = """
+                                     {
+                                       "id": "0d9c2b4e-6f4a-4c53-9a55-0d8b1f5b2c7e",
+                                       "type": "FRAMEWORK",
+                                       "status": "COMPLETED",
+                                       "createdAt": "2023-07-19T09:27:42.000+00:00",
+                                       "modifiedAt": "2023-07-19T09:27:44.000+00:00",
+                                       "credential": {
+                                         "@context": [
+                                           "https://www.w3.org/2018/credentials/v1",
+                                           "https://catenax-ng.github.io/product-core-schemas/businessPartnerData.json",
+                                           "https://w3id.org/security/suites/jws-2020/v1"
+                                         ],
+                                         "id": "did:web:localhost:BPNL000000000000#c1d3c5b6-01a0-4f87-9bd3-1f5b0f0d5b4c",
+                                         "type": [
+                                           "VerifiableCredential",
+                                           "UseCaseFrameworkCondition"
+                                         ],
+                                         "issuer": "did:web:localhost:BPNL000000000000",
+                                         "issuanceDate": "2023-07-19T09:27:43Z",
+                                         "expirationDate": "2024-12-31T18:30:00Z",
+                                         "credentialSubject": [
+                                           {
+                                             "holderIdentifier": "BPNL000000000001",
+                                             "id": "did:web:localhost:BPNL000000000001",
+                                             "type": "PcfCredential",
+                                             "contractTemplate": "https://public.catena-x.org/contracts/pcf.v1.pdf",
+                                             "contractVersion": "1.0.0"
+                                           }
+                                         ],
+                                         "proof": {
+                                           "created": "2023-07-19T09:27:44Z",
+                                           "jws": "eyJhbGciOiJFZERTQSJ9..zt7SyONY1shO7N6taHr4VQM9mBOdjUkMZ6sOxm6y_n8Eo5U2JMmCVtHOZS36AWlZQ-Sl8VR1Xc-ZL3o8zL4VCQ",
+                                           "proofPurpose": "proofPurpose",
+                                           "type": "JsonWebSignature2020",
+                                           "verificationMethod": "did:web:localhost:BPNL000000000000#"
+                                         }
+                                       }
+                                     }
+                                    """)
+                    })
+            })
+    })
+    public @interface GetIssuanceJobApiDocs {
+    }
+
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @Tag(name = API_TAG_VERIFIABLE_CREDENTIAL_VALIDATION)
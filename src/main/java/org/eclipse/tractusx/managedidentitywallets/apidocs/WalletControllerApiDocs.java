@@ -521,6 +521,27 @@ public class WalletControllerApiDocs {
     public @interface RetrieveWalletsApiDoc {
     }
 
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "401", description = "The request could not be completed due to a failed authorization.", content = {
+                    @Content(examples = {}) }),
+            @ApiResponse(responseCode = "403", description = "The request could not be completed due to a forbidden access", content = {
+                    @Content(examples = {}) }),
+            @ApiResponse(responseCode = "404", description = "Wallet not found with provided identifier", content = {
+                    @Content(examples = {}) }),
+            @ApiResponse(responseCode = "200", description = "Credentials, one JSON document per line", content = {
+                    @Content(mediaType = "application/x-ndjson", examples = {
+                            @ExampleObject(name = "Credentials", value = """
+                                    {"@context":["https://www.w3.org/2018/credentials/v1","https://w3id.org/security/suites/jws-2020/v1"],"id":"did:web:localhost:BPNL000000000000#a1f8ae36-9919-4ed8-8546-535280acc5bf","type":["VerifiableCredential","BpnCredential"],"issuer":"did:web:localhost:BPNL000000000000","issuanceDate":"2023-07-19T09:14:45Z","expirationDate":"2024-12-31T18:30:00Z","credentialSubject":{"bpn":"BPNL000000000001","id":"did:web:localhost:BPNL000000000001","type":"BpnCredential"}}
+                                    {"@context":["https://www.w3.org/2018/credentials/v1","https://w3id.org/security/suites/jws-2020/v1"],"id":"did:web:localhost:BPNL000000000000#b2e96a48-6a47-4a2a-9b4f-2f7c5f4c9a70","type":["VerifiableCredential","MembershipCredential"],"issuer":"did:web:localhost:BPNL000000000000","issuanceDate":"2023-07-19T09:15:02Z","expirationDate":"2024-12-31T18:30:00Z","credentialSubject":{"holderIdentifier":"BPNL000000000001","id":"did:web:localhost:BPNL000000000001","memberOf":"Catena-X","type":"MembershipCredential"}}
+                                    """)
+                    }) })
+    })
+    @Operation(summary = "Export credentials of a wallet", description = "Permission: **view_wallets** OR **view_wallet** (The BPN of Wallet must equal the BPN of caller, authority wallet can export all wallets) \n\n Streams the credentials held, or with issued=true issued, by a wallet as newline delimited JSON, oldest first. Pass since to only export credentials created after that instant", security = { @SecurityRequirement(name = "Authenticate using access_token") })
+    public @interface ExportCredentialsApiDoc {
+    }
+
     @Target(ElementType.PARAMETER)
     @Retention(RetentionPolicy.RUNTIME)
     @Parameter(name = "pageNumber", description = "Page number, Page number start with zero")
@@ -552,4 +573,16 @@ public class WalletControllerApiDocs {
     public @interface SortTypeParameterDoc {
     }
 
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Parameter(name = "continuationToken", description = "Switches to keyset pagination. Pass an empty value for the first page and the continuationToken of the previous response for the next one. Only sortColumn createdAt is supported, pageNumber is ignored")
+    public @interface ContinuationTokenParameterDoc {
+    }
+
+    @Target(ElementType.PARAMETER)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Parameter(name = "withTotalCount", description = "Count all matching records with keyset pagination. Without it totalElements and totalPages are -1")
+    public @interface WithTotalCountParameterDoc {
+    }
+
 }
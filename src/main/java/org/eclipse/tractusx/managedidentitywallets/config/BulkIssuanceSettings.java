@@ -0,0 +1,35 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the bulk issuance of framework credentials.
+ *
+ * @param maxCredentials the maximum number of credentials issued by one request
+ * @param parallelism    the number of threads signing credentials
+ * @param queueCapacity  the number of signings waiting for a thread, further ones run on the calling thread
+ */
+@ConfigurationProperties(prefix = "miw.bulk-issuance")
+public record BulkIssuanceSettings(int maxCredentials, int parallelism, int queueCapacity) {
+}
@@ -0,0 +1,51 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the in-memory caches used by the application.
+ *
+ * @param walletKeys           decrypted signing keys, keyed by wallet id and algorithm
+ * @param stsSigners           signers of the secure token service, keyed by key id
+ * @param presentationSigners  ES256K signers of verifiable presentations, keyed by wallet id
+ * @param jwsVerifiers         verifiers of self-issued tokens, keyed by DID and key id
+ * @param wallets              wallets, keyed by BPN and by DID
+ * @param renderedDidDocuments serialized DID documents served by did.json, keyed by BPN
+ * @param jsonLdContexts       parsed JSON-LD contexts, keyed by URL
+ */
+@ConfigurationProperties(prefix = "miw.cache")
+public record CacheSettings(CacheSpec walletKeys, CacheSpec stsSigners, CacheSpec presentationSigners, CacheSpec jwsVerifiers,
+                            CacheSpec wallets, CacheSpec renderedDidDocuments, CacheSpec jsonLdContexts) {
+
+    /**
+     * Bounds of a single cache.
+     *
+     * @param maximumSize      the maximum number of entries
+     * @param expireAfterWrite the time after which an entry is evicted
+     */
+    public record CacheSpec(long maximumSize, Duration expireAfterWrite) {
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Settings of the encryption of the wallet keys at rest.
+ *
+ * @param previousKeys  keys that were used as {@code miw.encryptionKey} before, still accepted for decryption. Each is
+ *                      given as {@code <key>}, keys that were used with a configured key id as {@code <key id>=<key>}
+ * @param reEncryption  settings of the job re-encrypting the wallet keys with the current key
+ * @param directBuffers whether decrypted key material is held in direct buffers outside the Java heap
+ */
+@ConfigurationProperties(prefix = "miw.encryption")
+public record EncryptionSettings(List<String> previousKeys, ReEncryption reEncryption, boolean directBuffers) {
+
+    /**
+     * Settings of the wallet key re-encryption job.
+     *
+     * @param enabled     whether the job is started once the application is ready
+     * @param batchSize   number of wallet keys read per batch
+     * @param parallelism number of wallet keys re-encrypted concurrently
+     */
+    public record ReEncryption(boolean enabled, int batchSize, int parallelism) {
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the asynchronous issuance jobs.
+ *
+ * @param enabled      whether this instance processes issuance jobs, jobs are accepted either way
+ * @param workers      the number of threads processing issuance jobs
+ * @param pollInterval the time a worker waits before looking for new jobs once there are none left
+ * @param retention    the time completed and failed jobs are kept
+ */
+@ConfigurationProperties(prefix = "miw.issuance-jobs")
+public record IssuanceJobSettings(boolean enabled, int workers, Duration pollInterval, Duration retention) {
+}
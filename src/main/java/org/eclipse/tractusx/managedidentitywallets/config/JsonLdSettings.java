@@ -0,0 +1,37 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the local store serving the JSON-LD contexts, see
+ * {@link org.eclipse.tractusx.managedidentitywallets.utils.JsonLdContextLoader}.
+ *
+ * @param contextDirectory directory with additional or newer contexts and their {@code index.properties}, taking
+ *                         precedence over the contexts bundled with the application
+ * @param remoteFetch      whether a context missing from the store is fetched once from its URL, disable it in
+ *                         air-gapped installations
+ */
+@ConfigurationProperties(prefix = "miw.json-ld")
+public record JsonLdSettings(String contextDirectory, boolean remoteFetch) {
+}
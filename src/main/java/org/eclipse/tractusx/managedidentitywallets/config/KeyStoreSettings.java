@@ -0,0 +1,44 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the store holding the wallet signing keys. Only the ES256K presentation JWTs are signed through the
+ * store.
+ *
+ * @param type   {@code database} for the encrypted keys in {@code wallet_key}, {@code pkcs11} for a PKCS#11 token
+ * @param pkcs11 the PKCS#11 settings, only used with type {@code pkcs11}
+ */
+@ConfigurationProperties(prefix = "miw.key-store")
+public record KeyStoreSettings(String type, Pkcs11 pkcs11) {
+
+    /**
+     * Settings of the PKCS#11 key store.
+     *
+     * @param configuration path of the SunPKCS11 provider configuration, naming the PKCS#11 library and slot
+     * @param pin           the user PIN of the token
+     */
+    public record Pkcs11(String configuration, String pin) {
+    }
+}
@@ -49,6 +49,11 @@ public class RestURI {
      * The constant API_WALLETS_IDENTIFIER_CREDENTIALS.
      */
     public static final String API_WALLETS_IDENTIFIER_CREDENTIALS = "/api/wallets/{identifier}/credentials";
+
+    /**
+     * The constant API_WALLETS_IDENTIFIER_CREDENTIALS_EXPORT.
+     */
+    public static final String API_WALLETS_IDENTIFIER_CREDENTIALS_EXPORT = "/api/wallets/{identifier}/credentials/export";
     /**
      * The constant CREDENTIALS.
      */
@@ -75,6 +80,16 @@ public class RestURI {
      */
     public static final String API_CREDENTIALS_ISSUER_FRAMEWORK = "/api/credentials/issuer/framework";
 
+    /**
+     * The constant API_CREDENTIALS_ISSUER_FRAMEWORK_BULK.
+     */
+    public static final String API_CREDENTIALS_ISSUER_FRAMEWORK_BULK = "/api/credentials/issuer/framework/bulk";
+
+    /**
+     * The constant API_CREDENTIALS_ISSUER_JOB.
+     */
+    public static final String API_CREDENTIALS_ISSUER_JOB = "/api/credentials/issuer/jobs/{jobId}";
+
     public static final String API_PRESENTATIONS = "/api/presentations";
     public static final String API_PRESENTATIONS_VALIDATION = "/api/presentations/validation";
     public static final String API_PRESENTATIONS_IATP = "/api/presentations/iatp";
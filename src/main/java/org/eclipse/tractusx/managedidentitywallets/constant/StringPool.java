@@ -37,10 +37,16 @@ public class StringPool {
     public static final String VALIDATE_AUDIENCE = "validateAudience";
     public static final String VALIDATE_EXPIRY_DATE = "validateExpiryDate";
     public static final String VALIDATE_JWT_EXPIRY_DATE = "validateJWTExpiryDate";
+    public static final String VALIDATE_CREDENTIALS = "validateCredentials";
     public static final String DID_DOCUMENT = "didDocument";
     public static final String VEHICLE_DISMANTLE = "vehicleDismantle";
     public static final String CREATED_AT = "createdAt";
 
+    /**
+     * Rows fetched per round trip when credentials are streamed with a server-side cursor.
+     */
+    public static final String STREAM_FETCH_SIZE = "256";
+
     private StringPool() {
         throw new IllegalStateException("Constant class");
     }
@@ -51,6 +57,7 @@ public class StringPool {
     public static final String NAME = "name";
     public static final String CONTRACT_TEMPLATE = "contractTemplate";
     public static final String TYPE = "type";
+    public static final String TYPES = "types";
     public static final String MEMBER_OF = "memberOf";
     public static final String STATUS = "status";
     public static final String START_TIME = "startTime";
@@ -27,9 +27,12 @@ import org.eclipse.tractusx.managedidentitywallets.apidocs.DidDocumentController
 import org.eclipse.tractusx.managedidentitywallets.apidocs.DidDocumentControllerApiDocs.DidOrBpnParameterDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.DidDocumentControllerApiDocs.GetDidDocumentApiDocs;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.DidDocumentControllerApiDocs.GetDidResolveApiDocs;
+import org.eclipse.tractusx.managedidentitywallets.config.DidDocumentSettings;
 import org.eclipse.tractusx.managedidentitywallets.constant.RestURI;
+import org.eclipse.tractusx.managedidentitywallets.domain.RenderedDidDocument;
 import org.eclipse.tractusx.managedidentitywallets.service.DidDocumentService;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +51,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class DidDocumentController extends BaseController {
     private final DidDocumentService service;
 
+    private final DidDocumentSettings didDocumentSettings;
+
     /**
      * Gets did document.
      *
@@ -65,16 +70,24 @@ public class DidDocumentController extends BaseController {
 
     /**
      * Gets did resolve.
+     * <p>
+     * The document is served pre-rendered with a strong ETag, a request carrying a matching If-None-Match header is
+     * answered with 304 Not Modified.
      *
      * @param bpn the bpn
      * @return the did resolve
      */
     @GetDidResolveApiDocs
     @GetMapping(path = RestURI.DID_RESOLVE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<DidDocument> getDidResolve(
+    public ResponseEntity<byte[]> getDidResolve(
         @BpnParameterDoc @PathVariable(name = "bpn") String bpn
         ) {
         log.debug("Received request to get DID document for identifier: {}", bpn);
-        return ResponseEntity.status(HttpStatus.OK).body(service.getDidDocument(bpn));
+        RenderedDidDocument didDocument = service.getRenderedDidDocument(bpn);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(didDocument.eTag())
+                .cacheControl(CacheControl.maxAge(didDocumentSettings.maxAge()).cachePublic())
+                .body(didDocument.content());
     }
 }
@@ -30,15 +30,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.eclipse.tractusx.managedidentitywallets.apidocs.IssuersCredentialControllerApiDocs.GetCredentialsApiDocs;
+import org.eclipse.tractusx.managedidentitywallets.apidocs.IssuersCredentialControllerApiDocs.GetIssuanceJobApiDocs;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.IssuersCredentialControllerApiDocs.IssueDismantlerCredentialApiDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.IssuersCredentialControllerApiDocs.IssueMembershipCredentialApiDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.IssuersCredentialControllerApiDocs.IssueFrameworkCredentialApiDocs;
+import org.eclipse.tractusx.managedidentitywallets.apidocs.IssuersCredentialControllerApiDocs.IssueFrameworkCredentialsApiDocs;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.IssuersCredentialControllerApiDocs.IssueVerifiableCredentialUsingBaseWalletApiDocs;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.IssuersCredentialControllerApiDocs.ValidateVerifiableCredentialApiDocs;
 import org.eclipse.tractusx.managedidentitywallets.constant.RestURI;
+import org.eclipse.tractusx.managedidentitywallets.domain.CredentialIssuanceResult;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssuanceJobResponse;
 import org.eclipse.tractusx.managedidentitywallets.dto.IssueDismantlerCredentialRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialRequest;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialsRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.IssueMembershipCredentialRequest;
+import org.eclipse.tractusx.managedidentitywallets.service.BulkCredentialIssuanceService;
+import org.eclipse.tractusx.managedidentitywallets.service.IssuanceJobService;
 import org.eclipse.tractusx.managedidentitywallets.service.IssuersCredentialService;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.springframework.data.domain.PageImpl;
@@ -46,10 +54,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.security.Principal;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * The type Issuers credential controller.
@@ -68,8 +78,14 @@ public class IssuersCredentialController extends BaseController {
      */
     public static final String API_TAG_VERIFIABLE_CREDENTIAL_VALIDATION = "Verifiable Credential - Validation";
 
+    private static final String ASYNC_DESCRIPTION = "Issue the credential asynchronously. The response is the issuance job, to be polled until it is completed";
+
     private final IssuersCredentialService issuersCredentialService;
 
+    private final BulkCredentialIssuanceService bulkCredentialIssuanceService;
+
+    private final IssuanceJobService issuanceJobService;
+
 
     /**
      * Gets credentials.
@@ -86,7 +102,7 @@ public class IssuersCredentialController extends BaseController {
      */
     @GetCredentialsApiDocs
     @GetMapping(path = RestURI.ISSUERS_CREDENTIALS, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<PageImpl<VerifiableCredential>> getCredentials(@Parameter(name = "credentialId", description = "Credential Id", examples = {@ExampleObject(name = "Credential Id", value = "did:web:localhost:BPNL000000000000#12528899-160a-48bd-ba15-f396c3959ae9")}) @RequestParam(required = false) String credentialId,
+    public ResponseEntity<PageImpl<LazyVerifiableCredential>> getCredentials(@Parameter(name = "credentialId", description = "Credential Id", examples = {@ExampleObject(name = "Credential Id", value = "did:web:localhost:BPNL000000000000#12528899-160a-48bd-ba15-f396c3959ae9")}) @RequestParam(required = false) String credentialId,
                                                                          @Parameter(name = "holderIdentifier", description = "Holder identifier(did of BPN)", examples = {@ExampleObject(name = "bpn", value = "BPNL000000000001", description = "bpn"), @ExampleObject(description = "did", name = "did", value = "did:web:localhost:BPNL000000000001")}) @RequestParam(required = false) String holderIdentifier,
                                                                          @Parameter(name = "type", description = "Type of VC", examples = {@ExampleObject(name = "SummaryCredential", value = "SummaryCredential", description = "SummaryCredential"), @ExampleObject(description = "BpnCredential", name = "BpnCredential", value = "BpnCredential")}) @RequestParam(required = false) List<String> type,
                                                                          @Min(0) @Max(Integer.MAX_VALUE) @Parameter(description = "Page number, Page number start with zero") @RequestParam(required = false, defaultValue = "0") int pageNumber,
@@ -99,22 +115,29 @@ public class IssuersCredentialController extends BaseController {
                                                                                          @ExampleObject(value = "credentialId", name = "Credential id")
                                                                                  }
                                                                          ) @RequestParam(required = false, defaultValue = "createdAt") String sortColumn,
-                                                                         @Parameter(name = "sortTpe", description = "Sort order", examples = {@ExampleObject(value = "desc", name = "Descending order"), @ExampleObject(value = "asc", name = "Ascending order")}) @RequestParam(required = false, defaultValue = "desc") String sortTpe, Principal principal) {
+                                                                         @Parameter(name = "sortTpe", description = "Sort order", examples = {@ExampleObject(value = "desc", name = "Descending order"), @ExampleObject(value = "asc", name = "Ascending order")}) @RequestParam(required = false, defaultValue = "desc") String sortTpe,
+                                                                         @Parameter(name = "continuationToken", description = "Switches to keyset pagination. Pass an empty value for the first page and the continuationToken of the previous response for the next one. Only sortColumn createdAt is supported, pageNumber is ignored") @RequestParam(required = false) String continuationToken,
+                                                                         @Parameter(name = "withTotalCount", description = "Count all matching credentials with keyset pagination. Without it totalElements and totalPages are -1") @RequestParam(required = false, defaultValue = "false") boolean withTotalCount, Principal principal) {
         log.debug("Received request to get credentials. BPN: {}", getBPNFromToken(principal));
-        return ResponseEntity.status(HttpStatus.OK).body(issuersCredentialService.getCredentials(credentialId, holderIdentifier, type, sortColumn, sortTpe, pageNumber, size, getBPNFromToken(principal)));
+        return ResponseEntity.status(HttpStatus.OK).body(issuersCredentialService.getCredentials(credentialId, holderIdentifier, type, sortColumn, sortTpe, pageNumber, size, continuationToken, withTotalCount, getBPNFromToken(principal)));
     }
 
     /**
      * Issue membership credential response entity.
      *
      * @param issueMembershipCredentialRequest the issue membership credential request
+     * @param async                            whether to issue the credential asynchronously
      * @param principal                        the principal
      * @return the response entity
      */
     @IssueMembershipCredentialApiDoc
     @PostMapping(path = RestURI.CREDENTIALS_ISSUER_MEMBERSHIP, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<VerifiableCredential> issueMembershipCredential(@Valid @RequestBody IssueMembershipCredentialRequest issueMembershipCredentialRequest, Principal principal) {
+    public ResponseEntity<Object> issueMembershipCredential(@Valid @RequestBody IssueMembershipCredentialRequest issueMembershipCredentialRequest,
+                                                            @Parameter(description = ASYNC_DESCRIPTION) @RequestParam(name = "async", defaultValue = "false", required = false) boolean async, Principal principal) {
         log.debug("Received request to issue membership credential. BPN: {}", getBPNFromToken(principal));
+        if (async) {
+            return accepted(issuanceJobService.submitMembershipCredential(issueMembershipCredentialRequest, getBPNFromToken(principal)));
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(issuersCredentialService.issueMembershipCredential(issueMembershipCredentialRequest, getBPNFromToken(principal)));
     }
 
@@ -122,13 +145,18 @@ public class IssuersCredentialController extends BaseController {
      * Issue dismantler credential response entity.
      *
      * @param request   the request
+     * @param async     whether to issue the credential asynchronously
      * @param principal the principal
      * @return the response entity
      */
     @IssueDismantlerCredentialApiDoc
     @PostMapping(path = RestURI.CREDENTIALS_ISSUER_DISMANTLER, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<VerifiableCredential> issueDismantlerCredential(@Valid @RequestBody IssueDismantlerCredentialRequest request, Principal principal) {
+    public ResponseEntity<Object> issueDismantlerCredential(@Valid @RequestBody IssueDismantlerCredentialRequest request,
+                                                            @Parameter(description = ASYNC_DESCRIPTION) @RequestParam(name = "async", defaultValue = "false", required = false) boolean async, Principal principal) {
         log.debug("Received request to issue dismantler credential. BPN: {}", getBPNFromToken(principal));
+        if (async) {
+            return accepted(issuanceJobService.submitDismantlerCredential(request, getBPNFromToken(principal)));
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(issuersCredentialService.issueDismantlerCredential(request, getBPNFromToken(principal)));
     }
 
@@ -136,16 +164,49 @@ public class IssuersCredentialController extends BaseController {
      * Issue framework credential response entity.
      *
      * @param request   the request
+     * @param async     whether to issue the credential asynchronously
      * @param principal the principal
      * @return the response entity
      */
     @IssueFrameworkCredentialApiDocs
     @PostMapping(path = RestURI.API_CREDENTIALS_ISSUER_FRAMEWORK, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<VerifiableCredential> issueFrameworkCredential(@Valid @RequestBody IssueFrameworkCredentialRequest request, Principal principal) {
+    public ResponseEntity<Object> issueFrameworkCredential(@Valid @RequestBody IssueFrameworkCredentialRequest request,
+                                                           @Parameter(description = ASYNC_DESCRIPTION) @RequestParam(name = "async", defaultValue = "false", required = false) boolean async, Principal principal) {
         log.debug("Received request to issue framework credential. BPN: {}", getBPNFromToken(principal));
+        if (async) {
+            return accepted(issuanceJobService.submitFrameworkCredential(request, getBPNFromToken(principal)));
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(issuersCredentialService.issueFrameworkCredential(request, getBPNFromToken(principal)));
     }
 
+    /**
+     * Issue framework credentials response entity.
+     *
+     * @param request   the request
+     * @param principal the principal
+     * @return the response entity
+     */
+    @IssueFrameworkCredentialsApiDocs
+    @PostMapping(path = RestURI.API_CREDENTIALS_ISSUER_FRAMEWORK_BULK, consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<CredentialIssuanceResult>> issueFrameworkCredentials(@Valid @RequestBody IssueFrameworkCredentialsRequest request, Principal principal) {
+        log.debug("Received request to issue {} framework credentials. BPN: {}", request.getCredentials().size(), getBPNFromToken(principal));
+        return ResponseEntity.status(HttpStatus.OK).body(bulkCredentialIssuanceService.issueFrameworkCredentials(request.getCredentials(), getBPNFromToken(principal)));
+    }
+
+    /**
+     * Gets an issuance job.
+     *
+     * @param jobId     the job id
+     * @param principal the principal
+     * @return the response entity
+     */
+    @GetIssuanceJobApiDocs
+    @GetMapping(path = RestURI.API_CREDENTIALS_ISSUER_JOB, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<IssuanceJobResponse> getIssuanceJob(@Parameter(description = "Issuance job id") @PathVariable(name = "jobId") UUID jobId, Principal principal) {
+        log.debug("Received request to get issuance job {}. BPN: {}", jobId, getBPNFromToken(principal));
+        return ResponseEntity.status(HttpStatus.OK).body(issuanceJobService.getJob(jobId, getBPNFromToken(principal)));
+    }
+
     /**
      * Credentials validation response entity.
      *
@@ -175,4 +236,10 @@ public class IssuersCredentialController extends BaseController {
         log.debug("Received request to issue verifiable credential. BPN: {}", getBPNFromToken(principal));
         return ResponseEntity.status(HttpStatus.CREATED).body(issuersCredentialService.issueCredentialUsingBaseWallet(holderDid, data, getBPNFromToken(principal)));
     }
+
+    private static ResponseEntity<Object> accepted(IssuanceJobResponse job) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(UriComponentsBuilder.fromPath(RestURI.API_CREDENTIALS_ISSUER_JOB).buildAndExpand(job.id()).toUri())
+                .body(job);
+    }
 }
@@ -103,10 +103,10 @@ public class SecureTokenController {
         // handle idp authorization
         IdpTokenResponse idpResponse = idpAuthorization.fromSecureTokenRequest(secureTokenRequest);
         BusinessPartnerNumber bpn = idpResponse.bpn();
-        DID selfDid = new DID(walletRepo.getByBpn(bpn.toString()).getDid());
+        DID selfDid = new DID(walletRepo.findIdentityByBpn(bpn.toString()).getDid());
         DID partnerDid;
         if (Pattern.compile(StringPool.BPN_NUMBER_REGEX).matcher(secureTokenRequest.getAudience()).matches()) {
-            partnerDid = new DID(walletRepo.getByBpn(secureTokenRequest.getAudience()).getDid());
+            partnerDid = new DID(walletRepo.findIdentityByBpn(secureTokenRequest.getAudience()).getDid());
         } else if (StringUtils.startsWith(secureTokenRequest.getAudience(), "did:")) {
             partnerDid = new DID(secureTokenRequest.getAudience());
         } else {
@@ -21,13 +21,16 @@
 
 package org.eclipse.tractusx.managedidentitywallets.controller;
 
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.eclipse.tractusx.managedidentitywallets.apidocs.DidDocumentControllerApiDocs.DidOrBpnParameterDoc;
+import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.ContinuationTokenParameterDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.CreateWalletApiDoc;
+import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.ExportCredentialsApiDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.PageNumberParameterDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.RetrieveWalletApiDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.RetrieveWalletsApiDoc;
@@ -35,17 +38,22 @@ import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDo
 import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.SortColumnParameterDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.SortTypeParameterDoc;
 import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.StoreVerifiableCredentialApiDoc;
+import org.eclipse.tractusx.managedidentitywallets.apidocs.WalletControllerApiDocs.WithTotalCountParameterDoc;
 import org.eclipse.tractusx.managedidentitywallets.constant.RestURI;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dto.CreateWalletRequest;
+import org.eclipse.tractusx.managedidentitywallets.service.CredentialExportService;
 import org.eclipse.tractusx.managedidentitywallets.service.WalletService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
+import java.time.Instant;
 import java.util.Map;
 
 /**
@@ -59,6 +67,8 @@ public class WalletController extends BaseController {
 
     private final WalletService service;
 
+    private final CredentialExportService credentialExportService;
+
     /**
      * Create wallet response entity.
      *
@@ -103,6 +113,26 @@ public ResponseEntity<Wallet> getWalletByIdentifier( @DidOrBpnParameterDoc @Path
         return ResponseEntity.status(HttpStatus.OK).body(service.getWalletByIdentifier(identifier, withCredentials, getBPNFromToken(principal)));
     }
 
+    /**
+     * Exports the credentials of a wallet as newline delimited JSON.
+     *
+     * @param identifier the identifier
+     * @param issued     export issued instead of held credentials
+     * @param since      only export credentials created after this instant
+     * @return the credentials
+     */
+    @ExportCredentialsApiDoc
+    @GetMapping(path = RestURI.API_WALLETS_IDENTIFIER_CREDENTIALS_EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportCredentials(@DidOrBpnParameterDoc @PathVariable(name = "identifier") String identifier,
+                                                                   @Parameter(name = "issued", description = "Export the credentials issued by the wallet instead of the ones it holds") @RequestParam(name = "issued", defaultValue = "false") boolean issued,
+                                                                   @Parameter(name = "since", description = "Only export credentials created after this instant, ISO-8601", example = "2024-01-01T00:00:00Z") @RequestParam(name = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+                                                                   Principal principal) {
+        log.debug("Received request to export credentials of wallet with identifier {}. authorized by BPN: {}", identifier, getBPNFromToken(principal));
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(credentialExportService.exportCredentials(identifier, issued, since, getBPNFromToken(principal)));
+    }
+
     /**
      * Gets wallets.
      *
@@ -115,8 +145,10 @@ public ResponseEntity<Wallet> getWalletByIdentifier( @DidOrBpnParameterDoc @Path
             @SizeParameterDoc @RequestParam(required = false, defaultValue = Integer.MAX_VALUE
                     + "") int size,
             @SortColumnParameterDoc @RequestParam(required = false, defaultValue = "createdAt") String sortColumn,
-            @SortTypeParameterDoc @RequestParam(required = false, defaultValue = "desc") String sortTpe) {
+            @SortTypeParameterDoc @RequestParam(required = false, defaultValue = "desc") String sortTpe,
+            @ContinuationTokenParameterDoc @RequestParam(required = false) String continuationToken,
+            @WithTotalCountParameterDoc @RequestParam(required = false, defaultValue = "false") boolean withTotalCount) {
         log.debug("Received request to retrieve wallets");
-        return ResponseEntity.status(HttpStatus.OK).body(service.getWallets(pageNumber, size, sortColumn, sortTpe));
+        return ResponseEntity.status(HttpStatus.OK).body(service.getWallets(pageNumber, size, sortColumn, sortTpe, continuationToken, withTotalCount));
     }
 }
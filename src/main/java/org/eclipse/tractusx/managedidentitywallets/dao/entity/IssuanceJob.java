@@ -0,0 +1,93 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dao.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.eclipse.tractusx.managedidentitywallets.constant.IssuanceJobStatus;
+import org.eclipse.tractusx.managedidentitywallets.constant.IssuanceJobType;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.utils.LazyCredentialConverter;
+import org.hibernate.annotations.ColumnTransformer;
+
+import java.util.UUID;
+
+/**
+ * A credential issuance request, processed asynchronously by the issuance job workers.
+ */
+@Entity
+@Table(name = "issuance_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IssuanceJob extends MIWBaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "job_type")
+    private IssuanceJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IssuanceJobStatus status;
+
+    @Column(nullable = false)
+    private String callerBpn;
+
+    /**
+     * The issuance request as JSON.
+     */
+    @Column(nullable = false, name = "request_json", columnDefinition = "jsonb")
+    @ColumnTransformer(write = "?::jsonb")
+    private String request;
+
+    /**
+     * The issued credential, set once the job is completed.
+     */
+    @Column(name = "credential_json", columnDefinition = "jsonb")
+    @ColumnTransformer(write = "?::jsonb")
+    @Convert(converter = LazyCredentialConverter.class)
+    private LazyVerifiableCredential credential;
+
+    /**
+     * Why the credential could not be issued, set once the job is failed.
+     */
+    @Column
+    private String error;
+}
@@ -24,8 +24,14 @@ package org.eclipse.tractusx.managedidentitywallets.dao.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
-import org.eclipse.tractusx.managedidentitywallets.utils.StringToCredentialConverter;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.utils.LazyCredentialConverter;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.List;
 
 
 /**
@@ -55,20 +61,84 @@ public class IssuersCredential extends MIWBaseEntity {
     @Column(nullable = false, name="credential_type")
     private String type;
 
-    @Column(nullable = false, name="credential_data")
-    @Convert(converter = StringToCredentialConverter.class)
-    private VerifiableCredential data;
+    /**
+     * The types of the comma separated {@link #type}, derived by the database. It is only meant to be queried, see
+     * {@link org.eclipse.tractusx.managedidentitywallets.dao.function.CredentialTypeFunctionContributor}.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "credential_types", columnDefinition = "text[]", insertable = false, updatable = false)
+    private List<String> types;
+
+    /**
+     * The credential as stored, it is only parsed when {@link #getData()} is called.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, name = "credential_json", columnDefinition = "jsonb")
+    @ColumnTransformer(write = "?::jsonb")
+    @Convert(converter = LazyCredentialConverter.class)
+    private LazyVerifiableCredential data;
 
     @Column(nullable = false)
     private String credentialId;
 
     public static IssuersCredential of(HoldersCredential holdersCredential) {
-        return IssuersCredential.builder()
+        IssuersCredential issuersCredential = IssuersCredential.builder()
                 .credentialId(holdersCredential.getCredentialId())
-                .data(holdersCredential.getData())
                 .type(holdersCredential.getType())
                 .issuerDid(holdersCredential.getIssuerDid())
                 .holderDid(holdersCredential.getHolderDid())
                 .build();
+        issuersCredential.data = holdersCredential.getCredential();
+        return issuersCredential;
+    }
+
+    /**
+     * Gets the credential, parsing the stored JSON on first access.
+     * <p>
+     * Changes made to the returned credential are only persisted when it is set again with
+     * {@link #setData(VerifiableCredential)}.
+     *
+     * @return the verifiable credential
+     */
+    public VerifiableCredential getData() {
+        return data == null ? null : data.get();
+    }
+
+    /**
+     * Sets the credential.
+     *
+     * @param data the verifiable credential
+     */
+    public void setData(VerifiableCredential data) {
+        this.data = data == null ? null : LazyVerifiableCredential.of(data);
+    }
+
+    /**
+     * Gets the credential without parsing it, to be written to responses as is.
+     *
+     * @return the lazy verifiable credential
+     */
+    public LazyVerifiableCredential getCredential() {
+        return data;
+    }
+
+    /**
+     * The builder of IssuersCredential, taking the credential decoded.
+     */
+    public static class IssuersCredentialBuilder {
+
+        /**
+         * Sets the credential.
+         *
+         * @param data the verifiable credential
+         * @return the builder
+         */
+        public IssuersCredentialBuilder data(VerifiableCredential data) {
+            this.data = data == null ? null : LazyVerifiableCredential.of(data);
+            return this;
+        }
     }
 }
@@ -23,23 +23,28 @@ package org.eclipse.tractusx.managedidentitywallets.dao.entity;
 
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.eclipse.tractusx.managedidentitywallets.utils.StringToDidDocumentConverter;
+import org.eclipse.tractusx.managedidentitywallets.dao.listener.WalletCacheListener;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.hibernate.annotations.ColumnTransformer;
 
 import java.util.List;
 
@@ -52,6 +57,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@EntityListeners(WalletCacheListener.class)
 public class Wallet extends MIWBaseEntity {
 
     @Id
@@ -72,8 +78,17 @@ public class Wallet extends MIWBaseEntity {
     @Column(nullable = false)
     private String algorithm;
 
-    @Column(nullable = false)
-    @Convert(converter = StringToDidDocumentConverter.class)
+    /**
+     * The DID document as stored, it is only parsed when {@link #getDidDocument()} is called.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "did_document_json", nullable = false, columnDefinition = "jsonb")
+    @ColumnTransformer(write = "?::jsonb")
+    private String didDocumentJson;
+
+    @Transient
+    @Setter(AccessLevel.NONE)
     private DidDocument didDocument;
 
     @OneToMany(mappedBy = "wallet", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -82,4 +97,50 @@ public class Wallet extends MIWBaseEntity {
 
     @Transient
     private List<VerifiableCredential> verifiableCredentials;
+
+    /**
+     * Gets the DID document, parsing the stored JSON on first access.
+     * <p>
+     * Changes made to the returned document are only persisted when it is set again with
+     * {@link #setDidDocument(DidDocument)}.
+     *
+     * @return the did document
+     */
+    @JsonIgnore
+    public DidDocument getDidDocument() {
+        if (didDocument == null && didDocumentJson != null) {
+            didDocument = DidDocument.fromJson(didDocumentJson);
+        }
+        return didDocument;
+    }
+
+    /**
+     * Sets the DID document.
+     *
+     * @param didDocument the did document
+     */
+    @JsonProperty("didDocument")
+    public void setDidDocument(DidDocument didDocument) {
+        this.didDocument = didDocument;
+        this.didDocumentJson = didDocument == null ? null : didDocument.toJson();
+    }
+
+    /**
+     * Gets the DID document as JSON, written to responses as is so listings do not parse it.
+     *
+     * @return the did document json
+     */
+    @JsonRawValue
+    @JsonProperty("didDocument")
+    public String getDidDocumentJson() {
+        if (didDocumentJson == null && didDocument != null) {
+            didDocumentJson = didDocument.toJson();
+        }
+        return didDocumentJson;
+    }
+
+    @PrePersist
+    private void renderDidDocument() {
+        getDidDocumentJson();
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dao.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Publishes a {@link DidDocumentChangedEvent} whenever a wallet row is written, so everything cached about the wallet
+ * is evicted, including after writes that bypass the services.
+ */
+public class WalletCacheListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Instantiates a new Wallet cache listener.
+     *
+     * @param eventPublisher the event publisher
+     */
+    public WalletCacheListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Announces the changed wallet.
+     *
+     * @param wallet the wallet
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(Wallet wallet) {
+        eventPublisher.publishEvent(new DidDocumentChangedEvent(wallet.getDid(), wallet.getBpn()));
+    }
+}
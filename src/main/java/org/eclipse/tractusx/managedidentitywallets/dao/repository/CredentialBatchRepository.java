@@ -0,0 +1,85 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dao.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts issued credentials into the holders and issuers tables with JDBC batches.
+ * <p>
+ * The credential entities use IDENTITY ids, with which Hibernate inserts row by row to read back each generated id.
+ * The ids of bulk issued credentials are not needed, so they are written by JDBC directly, sending all rows of a table
+ * in one batch. The credential types are derived by the database trigger as for any other insert.
+ */
+@Repository
+public class CredentialBatchRepository {
+
+    private static final String INSERT_HOLDERS_CREDENTIAL = """
+            INSERT INTO holders_credential (holder_did, issuer_did, credential_id, credential_json, credential_type, is_self_issued, is_stored, created_at, modified_at)
+            VALUES (?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ISSUERS_CREDENTIAL = """
+            INSERT INTO issuers_credential (holder_did, issuer_did, credential_id, credential_json, credential_type, created_at, modified_at)
+            VALUES (?, ?, ?, ?::jsonb, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Instantiates a new Credential batch repository.
+     *
+     * @param jdbcTemplate the jdbc template
+     */
+    public CredentialBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the credentials into the holders table and, as issued by MIW, into the issuers table.
+     *
+     * @param credentials the credentials
+     */
+    public void insertIssued(List<HoldersCredential> credentials) {
+        if (credentials.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> holdersRows = new ArrayList<>(credentials.size());
+        List<Object[]> issuersRows = new ArrayList<>(credentials.size());
+        for (HoldersCredential credential : credentials) {
+            String json = credential.getCredential().getJson();
+            holdersRows.add(new Object[]{credential.getHolderDid(), credential.getIssuerDid(), credential.getCredentialId(), json,
+                    credential.getType(), credential.isSelfIssued(), credential.isStored(), now, now});
+            issuersRows.add(new Object[]{credential.getHolderDid(), credential.getIssuerDid(), credential.getCredentialId(), json,
+                    credential.getType(), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_HOLDERS_CREDENTIAL, holdersRows);
+        jdbcTemplate.batchUpdate(INSERT_ISSUERS_CREDENTIAL, issuersRows);
+    }
+}
@@ -22,17 +22,26 @@
 package org.eclipse.tractusx.managedidentitywallets.dao.repository;
 
 import com.smartsensesolutions.java.commons.base.repository.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
-import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.domain.CredentialsByType;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * The interface Credential repository.
  */
-public interface HoldersCredentialRepository extends BaseRepository<HoldersCredential, Long> {
+public interface HoldersCredentialRepository extends BaseRepository<HoldersCredential, Long>, JpaSpecificationExecutor<HoldersCredential> {
     /**
      * Gets by holder did.
      *
@@ -48,27 +57,73 @@ public interface HoldersCredentialRepository extends BaseRepository<HoldersCrede
      * @return the credentials by holder
      */
     @Query("select data from HoldersCredential where holderDid=:holderDid")
-    List<VerifiableCredential> getCredentialsByHolder(@Param("holderDid") String holderDid);
+    List<LazyVerifiableCredential> getCredentialsByHolder(@Param("holderDid") String holderDid);
 
     /**
-     * Gets by holder did and type.
+     * Streams the credentials of a holder created after a date, oldest first. The rows are read with a server-side
+     * cursor, so the stream must be consumed and closed inside a transaction.
+     *
+     * @param holderDid the holder did
+     * @param since     the exclusive lower bound of the creation date
+     * @return the credentials
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StringPool.STREAM_FETCH_SIZE))
+    @Query("select data from HoldersCredential where holderDid=:holderDid and createdAt>:since order by createdAt, id")
+    Stream<LazyVerifiableCredential> streamCredentialsByHolder(@Param("holderDid") String holderDid, @Param("since") Date since);
+
+    /**
+     * Gets the credentials of a holder having the type, among others.
      *
      * @param holderDid the holder did
      * @param type      the type
      * @return the by holder did and type
      */
-    List<HoldersCredential> getByHolderDidAndType(String holderDid, String type);
+    @Query("select c from HoldersCredential c where c.holderDid=:holderDid and has_any_type(c.types, :type)")
+    List<HoldersCredential> getByHolderDidAndType(@Param("holderDid") String holderDid, @Param("type") String type);
+
+    /**
+     * Gets the credentials of a holder having any of the types, with a single query, and the types none of them has.
+     *
+     * @param holderDid the holder did
+     * @param types     the types
+     * @return the credentials by type
+     */
+    default CredentialsByType getByHolderDidAndTypeIn(String holderDid, Collection<String> types) {
+        return CredentialsByType.of(types, getByHolderDidAndAnyType(holderDid, String.join(",", types)));
+    }
 
-    List<HoldersCredential> getByHolderDidAndIssuerDidAndTypeAndStored(String holderDid, String issuerDid, String type, boolean stored);
+    /**
+     * Gets the credentials of a holder having any of the types.
+     *
+     * @param holderDid the holder did
+     * @param types     the comma separated types
+     * @return the credentials
+     */
+    @Query("select c from HoldersCredential c where c.holderDid=:holderDid and has_any_type(c.types, :types)")
+    List<HoldersCredential> getByHolderDidAndAnyType(@Param("holderDid") String holderDid, @Param("types") String types);
+
+    /**
+     * Gets the credentials of a holder issued by an issuer having the type, among others.
+     *
+     * @param holderDid the holder did
+     * @param issuerDid the issuer did
+     * @param type      the type
+     * @param stored    whether the credentials were stored rather than issued
+     * @return the credentials
+     */
+    @Query("select c from HoldersCredential c where c.holderDid=:holderDid and c.issuerDid=:issuerDid and has_any_type(c.types, :type) and c.stored=:stored")
+    List<HoldersCredential> getByHolderDidAndIssuerDidAndTypeAndStored(@Param("holderDid") String holderDid, @Param("issuerDid") String issuerDid,
+                                                                       @Param("type") String type, @Param("stored") boolean stored);
 
     /**
-     * Exists by holder did and type boolean.
+     * Whether the holder has a credential having the type, among others.
      *
      * @param holderDid the holder did
      * @param type      the type
      * @return the boolean
      */
-    boolean existsByHolderDidAndType(String holderDid, String type);
+    @Query("select case when count(c) > 0 then true else false end from HoldersCredential c where c.holderDid=:holderDid and has_any_type(c.types, :type)")
+    boolean existsByHolderDidAndType(@Param("holderDid") String holderDid, @Param("type") String type);
 
     /**
      * Exists by holder did and credential id boolean.
@@ -0,0 +1,69 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dao.repository;
+
+import com.smartsensesolutions.java.commons.base.repository.BaseRepository;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.IssuanceJob;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * The interface Issuance job repository.
+ */
+@Repository
+public interface IssuanceJobRepository extends BaseRepository<IssuanceJob, UUID> {
+
+    /**
+     * Locks the oldest pending job until the end of the transaction. Jobs locked by other transactions, e.g. by the
+     * workers of other instances, are skipped.
+     *
+     * @return the issuance job, null if there is no pending job that is not locked
+     */
+    @Query(value = "SELECT * FROM issuance_job WHERE status = 'PENDING' ORDER BY created_at LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    IssuanceJob lockNextPending();
+
+    /**
+     * Marks a job as failed, unless it was completed in the meantime.
+     *
+     * @param id    the id
+     * @param error the error
+     * @return the number of updated jobs
+     */
+    @Modifying
+    @Query(value = "UPDATE issuance_job SET status = 'FAILED', error = :error, modified_at = CURRENT_TIMESTAMP WHERE id = :id AND status = 'PENDING'", nativeQuery = true)
+    int markFailed(@Param("id") UUID id, @Param("error") String error);
+
+    /**
+     * Deletes the completed and failed jobs last modified before a date.
+     *
+     * @param before the date
+     * @return the number of deleted jobs
+     */
+    @Modifying
+    @Query(value = "DELETE FROM issuance_job WHERE status <> 'PENDING' AND modified_at < :before", nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") Date before);
+}
@@ -22,23 +22,47 @@
 package org.eclipse.tractusx.managedidentitywallets.dao.repository;
 
 import com.smartsensesolutions.java.commons.base.repository.BaseRepository;
+import jakarta.persistence.QueryHint;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.IssuersCredential;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * The interface Credential repository.
  */
-public interface IssuersCredentialRepository extends BaseRepository<IssuersCredential, Long> {
+public interface IssuersCredentialRepository extends BaseRepository<IssuersCredential, Long>, JpaSpecificationExecutor<IssuersCredential> {
 
 
     /**
-     * Gets by issuer did and holder did and type.
+     * Gets the credentials issued to a holder having the type, among others.
      *
      * @param issuerDid the issuer did
      * @param holderDid the holder did
      * @param type      the type
      * @return the by issuer did and holder did and type
      */
-    List<IssuersCredential> getByIssuerDidAndHolderDidAndType(String issuerDid, String holderDid, String type);
+    @Query("select c from IssuersCredential c where c.issuerDid=:issuerDid and c.holderDid=:holderDid and has_any_type(c.types, :type)")
+    List<IssuersCredential> getByIssuerDidAndHolderDidAndType(@Param("issuerDid") String issuerDid, @Param("holderDid") String holderDid,
+                                                              @Param("type") String type);
+
+    /**
+     * Streams the credentials of an issuer created after a date, oldest first. The rows are read with a server-side
+     * cursor, so the stream must be consumed and closed inside a transaction.
+     *
+     * @param issuerDid the issuer did
+     * @param since     the exclusive lower bound of the creation date
+     * @return the credentials
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StringPool.STREAM_FETCH_SIZE))
+    @Query("select data from IssuersCredential where issuerDid=:issuerDid and createdAt>:since order by createdAt, id")
+    Stream<LazyVerifiableCredential> streamCredentialsByIssuer(@Param("issuerDid") String issuerDid, @Param("since") Date since);
 }
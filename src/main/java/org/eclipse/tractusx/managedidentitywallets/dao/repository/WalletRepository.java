@@ -23,13 +23,21 @@ package org.eclipse.tractusx.managedidentitywallets.dao.repository;
 
 import com.smartsensesolutions.java.commons.base.repository.BaseRepository;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dao.projection.WalletIdentity;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
 /**
  * The interface Wallet repository.
  */
 @Repository
-public interface WalletRepository extends BaseRepository<Wallet, Long> {
+public interface WalletRepository extends BaseRepository<Wallet, Long>, JpaSpecificationExecutor<Wallet> {
 
     /**
      * Gets by bpn.
@@ -57,4 +65,38 @@ public interface WalletRepository extends BaseRepository<Wallet, Long> {
 
     int countByBpn(String bpn);
 
+    /**
+     * Gets the identifiers of a wallet by bpn.
+     *
+     * @param bpn the bpn
+     * @return the wallet identity, null if there is no wallet for the bpn
+     */
+    WalletIdentity findIdentityByBpn(String bpn);
+
+    /**
+     * Gets the identifiers of a wallet by did.
+     *
+     * @param did the did
+     * @return the wallet identity, null if there is no wallet for the did
+     */
+    WalletIdentity findIdentityByDid(String did);
+
+    /**
+     * Gets the identifiers of all wallets having one of the bpns or dids.
+     *
+     * @param bpns the bpns
+     * @param dids the dids
+     * @return the wallet identities
+     */
+    List<WalletIdentity> findIdentitiesByBpnInOrDidIn(Collection<String> bpns, Collection<String> dids);
+
+    /**
+     * Gets the time a wallet was last written, without loading it.
+     *
+     * @param bpn the bpn
+     * @return the last modification or creation time, null if there is no wallet for the bpn
+     */
+    @Query("select coalesce(w.modifiedAt, w.createdAt) from Wallet w where w.bpn=:bpn")
+    Date getLastModifiedByBpn(@Param("bpn") String bpn);
+
 }
@@ -0,0 +1,60 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.domain;
+
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+
+import java.net.URI;
+
+/**
+ * Everything needed to sign with the authority wallet, loaded once and shared by all issuance calls.
+ * <p>
+ * The DID document is shared as well and must not be modified.
+ *
+ * @param walletId           the wallet id
+ * @param name               the wallet name
+ * @param did                the wallet did
+ * @param bpn                the wallet bpn
+ * @param didDocument        the parsed DID document
+ * @param verificationMethod the verification method used for proofs, the first one of the DID document
+ * @param privateKey         the Ed25519 private key
+ */
+public record AuthorityWalletContext(long walletId, String name, String did, String bpn, DidDocument didDocument,
+                                     URI verificationMethod, byte[] privateKey) {
+
+    /**
+     * Instantiates a new Authority wallet context.
+     */
+    public AuthorityWalletContext {
+        privateKey = privateKey.clone();
+    }
+
+    /**
+     * Returns a copy of the private key, so the pinned key cannot be altered by a caller.
+     *
+     * @return the private key
+     */
+    @Override
+    public byte[] privateKey() {
+        return privateKey.clone();
+    }
+}
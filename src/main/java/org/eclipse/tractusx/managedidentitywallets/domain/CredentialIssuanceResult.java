@@ -0,0 +1,70 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+
+/**
+ * The result of issuing a single credential of a bulk issuance.
+ *
+ * @param holderIdentifier the holder identifier of the request
+ * @param type             the type of the request
+ * @param credential       the issued credential, null if it was not issued
+ * @param error            why the credential was not issued, null if it was issued
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CredentialIssuanceResult(String holderIdentifier, String type, VerifiableCredential credential, String error) {
+
+    /**
+     * Creates the result of an issued credential.
+     *
+     * @param holderIdentifier the holder identifier
+     * @param type             the type
+     * @param credential       the credential
+     * @return the credential issuance result
+     */
+    public static CredentialIssuanceResult issued(String holderIdentifier, String type, VerifiableCredential credential) {
+        return new CredentialIssuanceResult(holderIdentifier, type, credential, null);
+    }
+
+    /**
+     * Creates the result of a credential that was not issued.
+     *
+     * @param holderIdentifier the holder identifier
+     * @param type             the type
+     * @param error            the error
+     * @return the credential issuance result
+     */
+    public static CredentialIssuanceResult failed(String holderIdentifier, String type, String error) {
+        return new CredentialIssuanceResult(holderIdentifier, type, null, error);
+    }
+
+    /**
+     * Whether the credential was issued.
+     *
+     * @return true if it was issued
+     */
+    public boolean isIssued() {
+        return credential != null;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.net.URI;
+
+/**
+ * The result of verifying the proof of a single credential.
+ *
+ * @param id                 the id of the credential
+ * @param verificationMethod the verification method referenced by the proof, null if the credential has no proof
+ * @param valid              whether the proof is valid
+ * @param error              why the proof could not be verified, null if it was verified
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CredentialVerificationResult(URI id, String verificationMethod, boolean valid, String error) {
+}
@@ -0,0 +1,54 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.domain;
+
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The credentials of a holder found for a set of types.
+ *
+ * @param credentials  the credentials having any of the types
+ * @param missingTypes the types none of the credentials has, in the order they were requested
+ */
+public record CredentialsByType(List<HoldersCredential> credentials, List<String> missingTypes) {
+
+    /**
+     * Collects the types the credentials do not cover.
+     *
+     * @param types       the requested types
+     * @param credentials the credentials found for them
+     * @return the credentials by type
+     */
+    public static CredentialsByType of(Collection<String> types, List<HoldersCredential> credentials) {
+        Set<String> found = new HashSet<>();
+        for (HoldersCredential credential : credentials) {
+            found.addAll(Arrays.asList(credential.getType().split(",")));
+        }
+        return new CredentialsByType(credentials, types.stream().filter(type -> !found.contains(type)).toList());
+    }
+}
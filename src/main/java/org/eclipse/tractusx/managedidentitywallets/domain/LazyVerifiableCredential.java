@@ -0,0 +1,122 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A verifiable credential kept as its JSON and only decoded when it is needed.
+ * <p>
+ * Credentials loaded from the database are not parsed until {@link #get()} is called. When serialized with Jackson the
+ * JSON is written as is, so listings pass stored credentials through to the response without building their map tree.
+ * The decoded credential must not be modified, changes would not be reflected in the JSON.
+ */
+public final class LazyVerifiableCredential implements JsonSerializable {
+
+    private static final ObjectReader MAP_READER = new ObjectMapper().readerFor(Map.class);
+
+    private String json;
+
+    private VerifiableCredential credential;
+
+    private LazyVerifiableCredential(String json, VerifiableCredential credential) {
+        this.json = json;
+        this.credential = credential;
+    }
+
+    /**
+     * Wraps the JSON of a credential without parsing it.
+     *
+     * @param json the json
+     * @return the lazy verifiable credential
+     */
+    public static LazyVerifiableCredential ofJson(String json) {
+        return new LazyVerifiableCredential(Objects.requireNonNull(json), null);
+    }
+
+    /**
+     * Wraps a decoded credential, its JSON is rendered on first access.
+     *
+     * @param credential the credential
+     * @return the lazy verifiable credential
+     */
+    public static LazyVerifiableCredential of(VerifiableCredential credential) {
+        return new LazyVerifiableCredential(null, Objects.requireNonNull(credential));
+    }
+
+    /**
+     * Gets the JSON of the credential.
+     *
+     * @return the json
+     */
+    public String getJson() {
+        if (json == null) {
+            json = credential.toJson();
+        }
+        return json;
+    }
+
+    /**
+     * Gets the credential, parsing the JSON on first access.
+     *
+     * @return the verifiable credential
+     */
+    @SneakyThrows
+    public VerifiableCredential get() {
+        if (credential == null) {
+            Map<String, Object> map = MAP_READER.readValue(json);
+            credential = new VerifiableCredential(map);
+        }
+        return credential;
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeRawValue(getJson());
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider serializers, TypeSerializer typeSerializer) throws IOException {
+        serialize(generator, serializers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof LazyVerifiableCredential other && getJson().equals(other.getJson());
+    }
+
+    @Override
+    public int hashCode() {
+        return getJson().hashCode();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.domain;
+
+/**
+ * A key pair generated ahead of wallet creation, together with its already encrypted PEM representation.
+ *
+ * @param keyId               the key id
+ * @param keyPair             the key material needed to build the DID document verification method, only public keys are pooled
+ * @param encryptedPrivateKey the encrypted private key as stored in the wallet key
+ * @param encryptedPublicKey  the encrypted public key as stored in the wallet key
+ * @param <K>                 the algorithm specific key type
+ */
+public record PooledKeyPair<K>(String keyId, K keyPair, String encryptedPrivateKey, String encryptedPublicKey) {
+}
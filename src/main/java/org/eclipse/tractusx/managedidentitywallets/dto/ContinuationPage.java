@@ -0,0 +1,99 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A page read with keyset pagination.
+ * <p>
+ * It keeps the JSON shape of a regular page and adds the token of the next page. Without a count query the total
+ * number of elements and pages are reported as -1.
+ *
+ * @param <T> the type of the content
+ */
+public class ContinuationPage<T> extends PageImpl<T> {
+
+    private final String continuationToken;
+
+    private final boolean counted;
+
+    /**
+     * Instantiates a new Continuation page.
+     *
+     * @param content           the content
+     * @param size              the requested page size
+     * @param continuationToken the token of the next page, null on the last page
+     * @param total             the total number of elements, null if not counted
+     */
+    public ContinuationPage(List<T> content, int size, String continuationToken, Long total) {
+        super(content, Pageable.ofSize(Math.max(size, 1)), total == null ? content.size() : total);
+        this.continuationToken = continuationToken;
+        this.counted = total != null;
+    }
+
+    /**
+     * Gets the token of the next page.
+     *
+     * @return the continuation token, null on the last page
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    @Override
+    public long getTotalElements() {
+        return counted ? super.getTotalElements() : -1;
+    }
+
+    @Override
+    public int getTotalPages() {
+        return counted ? super.getTotalPages() : -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return continuationToken != null;
+    }
+
+    @Override
+    public <U> ContinuationPage<U> map(Function<? super T, ? extends U> converter) {
+        return new ContinuationPage<>(getContent().stream().<U>map(converter).toList(), getSize(), continuationToken,
+                counted ? super.getTotalElements() : null);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return super.equals(obj) && obj instanceof ContinuationPage<?> other
+                && counted == other.counted && Objects.equals(continuationToken, other.continuationToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(continuationToken);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.eclipse.tractusx.managedidentitywallets.constant.IssuanceJobStatus;
+import org.eclipse.tractusx.managedidentitywallets.constant.IssuanceJobType;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.IssuanceJob;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * The state of an issuance job.
+ *
+ * @param id         the id of the job
+ * @param type       the type of the issued credential
+ * @param status     the status
+ * @param createdAt  when the job was submitted
+ * @param modifiedAt when the job was completed or failed, null while it is pending
+ * @param credential the issued credential, null unless the job is completed
+ * @param error      why the credential could not be issued, null unless the job is failed
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IssuanceJobResponse(UUID id, IssuanceJobType type, IssuanceJobStatus status, Date createdAt, Date modifiedAt,
+                                  LazyVerifiableCredential credential, String error) {
+
+    /**
+     * Creates the response of a job.
+     *
+     * @param job the job
+     * @return the issuance job response
+     */
+    public static IssuanceJobResponse of(IssuanceJob job) {
+        return new IssuanceJobResponse(job.getId(), job.getType(), job.getStatus(), job.getCreatedAt(),
+                job.getStatus() == IssuanceJobStatus.PENDING ? null : job.getModifiedAt(), job.getCredential(), job.getError());
+    }
+}
@@ -1,6 +1,6 @@
 /*
  * *******************************************************************************
- *  Copyright (c) 2021,2023 Contributors to the Eclipse Foundation
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
  *
  *  See the NOTICE file(s) distributed with this work for additional
  *  information regarding copyright ownership.
@@ -19,38 +19,26 @@
  * ******************************************************************************
  */
 
-package org.eclipse.tractusx.managedidentitywallets.dao.entity;
+package org.eclipse.tractusx.managedidentitywallets.dto;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Convert;
-import jakarta.persistence.MappedSuperclass;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import org.eclipse.tractusx.managedidentitywallets.utils.StringToCredentialConverter;
-import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
 
-@MappedSuperclass
+import java.util.List;
+
+
+/**
+ * The type Issue framework credentials request, issuing several framework credentials at once.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class BaseCredential extends MIWBaseEntity {
-
-    @Column(nullable = false)
-    private String holderDid;
-
-    @Column(nullable = false)
-    private String issuerDid;
-
-    @Column(nullable = false)
-    private String type;
-
-    @Column(nullable = false)
-    @Convert(converter = StringToCredentialConverter.class)
-    private VerifiableCredential data;
+@Builder
+public class IssueFrameworkCredentialsRequest {
 
-    @Column(nullable = false)
-    private String credentialId;
+    @Valid
+    @NotEmpty(message = "Please provide credentials")
+    private List<IssueFrameworkCredentialRequest> credentials;
 }
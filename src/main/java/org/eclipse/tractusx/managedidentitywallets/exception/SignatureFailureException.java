@@ -27,6 +27,10 @@ public class SignatureFailureException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    public SignatureFailureException(String message) {
+        super(message);
+    }
+
     public SignatureFailureException(String message, Throwable cause) {
         super(message, cause);
     }
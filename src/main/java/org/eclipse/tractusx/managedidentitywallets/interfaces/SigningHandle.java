@@ -0,0 +1,60 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.interfaces;
+
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+
+import java.util.List;
+
+/**
+ * Signs payloads with a single wallet key held by a {@link WalletKeyStore}.
+ * <p>
+ * Signatures use the JWS encoding: the raw 64 bytes for Ed25519 and the R | S concatenation for ES256K.
+ */
+public interface SigningHandle {
+
+    /**
+     * Gets the algorithm of the key.
+     *
+     * @return the algorithm
+     */
+    SupportedAlgorithms algorithm();
+
+    /**
+     * Signs a payload.
+     *
+     * @param payload the payload
+     * @return the signature
+     */
+    byte[] sign(byte[] payload);
+
+    /**
+     * Signs several payloads in one call. Stores with a per-call overhead, like a remote HSM, should override this to
+     * sign all payloads in one round trip.
+     *
+     * @param payloads the payloads
+     * @return the signatures, in the order of the payloads
+     */
+    default List<byte[]> signAll(List<byte[]> payloads) {
+        return payloads.stream().map(this::sign).toList();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.interfaces;
+
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+
+/**
+ * Store of the wallet signing keys. Implementations hand out {@link SigningHandle}s, so the key material does not
+ * have to leave the store.
+ * <p>
+ * Only the ES256K presentation JWTs are signed through the store. The Ed25519 LD proofs, presentation JWTs and STS
+ * tokens are signed with the raw keys of the {@code wallet_key} table, whatever store is configured.
+ */
+public interface WalletKeyStore {
+
+    /**
+     * Gets a handle signing with the key of a wallet.
+     *
+     * @param walletId  the wallet id
+     * @param algorithm the algorithm of the key
+     * @return the signing handle
+     */
+    SigningHandle getSigningHandle(long walletId, SupportedAlgorithms algorithm);
+}
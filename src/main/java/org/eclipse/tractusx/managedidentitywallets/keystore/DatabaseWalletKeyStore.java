@@ -0,0 +1,80 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.keystore;
+
+import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
+import lombok.SneakyThrows;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.SigningHandle;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.WalletKeyStore;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559PrivateKey;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.EdECPrivateKeySpec;
+import java.security.spec.NamedParameterSpec;
+
+/**
+ * The default {@link WalletKeyStore}, signing with the encrypted keys stored in {@code wallet_key}. The keys are
+ * decrypted through the {@link WalletPrivateKeyCache}.
+ * <p>
+ * A handle resolves its key once, when it is created. Callers caching handles, like the ES256K presentation signers,
+ * have to drop them on a {@link WalletKeyChangedEvent}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "miw.key-store", name = "type", havingValue = "database", matchIfMissing = true)
+public class DatabaseWalletKeyStore implements WalletKeyStore {
+
+    private final WalletPrivateKeyCache walletPrivateKeyCache;
+
+    /**
+     * Instantiates a new Database wallet key store.
+     *
+     * @param walletPrivateKeyCache the cache of the decrypted wallet keys
+     */
+    public DatabaseWalletKeyStore(WalletPrivateKeyCache walletPrivateKeyCache) {
+        this.walletPrivateKeyCache = walletPrivateKeyCache;
+    }
+
+    @Override
+    @SneakyThrows
+    public SigningHandle getSigningHandle(long walletId, SupportedAlgorithms algorithm) {
+        Object privateKey = walletPrivateKeyCache.getPrivateKey(walletId, algorithm);
+        if (privateKey instanceof x21559PrivateKey ed25519Key) {
+            byte[] encoded = ed25519Key.asByte();
+            try {
+                PrivateKey jcaKey = KeyFactory.getInstance("Ed25519")
+                        .generatePrivate(new EdECPrivateKeySpec(NamedParameterSpec.ED25519, encoded));
+                return new JcaSigningHandle(algorithm, jcaKey, null);
+            } finally {
+                PemUtils.wipe(encoded);
+            }
+        }
+        // secp256k1 is not supported by the JDK providers anymore
+        return new JcaSigningHandle(algorithm, (ECPrivateKey) privateKey, BouncyCastleProviderSingleton.getInstance());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.keystore;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.impl.ECDSA;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.exception.SignatureFailureException;
+import org.eclipse.tractusx.managedidentitywallets.exception.UnsupportedAlgorithmException;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.SigningHandle;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link SigningHandle} signing with a JCA {@link PrivateKey}, which may be a reference to a key inside a token.
+ */
+public class JcaSigningHandle implements SigningHandle {
+
+    private static final int ES256K_SIGNATURE_LENGTH = 64;
+
+    private final SupportedAlgorithms algorithm;
+
+    private final PrivateKey privateKey;
+
+    private final Provider provider;
+
+    /**
+     * Instantiates a new Jca signing handle.
+     *
+     * @param algorithm  the algorithm of the key
+     * @param privateKey the private key
+     * @param provider   the provider to sign with, null for the default provider
+     */
+    public JcaSigningHandle(SupportedAlgorithms algorithm, PrivateKey privateKey, Provider provider) {
+        this.algorithm = algorithm;
+        this.privateKey = privateKey;
+        this.provider = provider;
+    }
+
+    @Override
+    public SupportedAlgorithms algorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public byte[] sign(byte[] payload) {
+        return signAll(List.of(payload)).get(0);
+    }
+
+    /**
+     * Signs all payloads with a single initialized {@link Signature}, which resets itself after each signature.
+     */
+    @Override
+    public List<byte[]> signAll(List<byte[]> payloads) {
+        try {
+            Signature signature = provider == null ? Signature.getInstance(signatureAlgorithm()) : Signature.getInstance(signatureAlgorithm(), provider);
+            signature.initSign(privateKey);
+            List<byte[]> signatures = new ArrayList<>(payloads.size());
+            for (byte[] payload : payloads) {
+                signature.update(payload);
+                signatures.add(toJws(signature.sign()));
+            }
+            return signatures;
+        } catch (GeneralSecurityException | JOSEException e) {
+            throw new SignatureFailureException("Creating signature failed", e);
+        }
+    }
+
+    private String signatureAlgorithm() {
+        return switch (algorithm) {
+            case ED25519 -> "Ed25519";
+            case ES256K -> "SHA256withECDSA";
+            default -> throw new UnsupportedAlgorithmException("Unsupported algorithm: " + algorithm);
+        };
+    }
+
+    private byte[] toJws(byte[] signature) throws JOSEException {
+        // JCA encodes ECDSA signatures as DER, JWS expects R | S
+        return algorithm == SupportedAlgorithms.ES256K ? ECDSA.transcodeSignatureToConcat(signature, ES256K_SIGNATURE_LENGTH) : signature;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.keystore;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.config.KeyStoreSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.WalletKey;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletKeyRepository;
+import org.eclipse.tractusx.managedidentitywallets.exception.SignatureFailureException;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.SigningHandle;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.WalletKeyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.Security;
+
+/**
+ * A {@link WalletKeyStore} signing inside a PKCS#11 token, e.g. an HSM or SoftHSM for local testing.
+ * <p>
+ * The private key of a wallet key is looked up in the token by its key id as alias, so keys have to be provisioned
+ * into the token under the key id stored in {@code wallet_key}. The keys never leave the token.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "miw.key-store", name = "type", havingValue = "pkcs11")
+public class Pkcs11WalletKeyStore implements WalletKeyStore {
+
+    private final WalletKeyRepository walletKeyRepository;
+
+    private final Provider provider;
+
+    private final KeyStore keyStore;
+
+    private final char[] pin;
+
+    /**
+     * Instantiates a new PKCS#11 wallet key store and logs in to the token.
+     *
+     * @param walletKeyRepository the wallet key repository
+     * @param keyStoreSettings    the key store settings
+     */
+    @SneakyThrows
+    public Pkcs11WalletKeyStore(WalletKeyRepository walletKeyRepository, KeyStoreSettings keyStoreSettings) {
+        this.walletKeyRepository = walletKeyRepository;
+        this.provider = Security.getProvider("SunPKCS11").configure(keyStoreSettings.pkcs11().configuration());
+        this.pin = keyStoreSettings.pkcs11().pin().toCharArray();
+        this.keyStore = KeyStore.getInstance("PKCS11", provider);
+        keyStore.load(null, pin);
+        log.info("Using PKCS#11 key store {}", provider.getName());
+    }
+
+    @Override
+    @SneakyThrows
+    public SigningHandle getSigningHandle(long walletId, SupportedAlgorithms algorithm) {
+        WalletKey walletKey = walletKeyRepository.getByWalletIdAndAlgorithm(walletId, algorithm.toString());
+        if (walletKey == null) {
+            throw new SignatureFailureException("No " + algorithm + " key for wallet with id " + walletId);
+        }
+        Key key = keyStore.getKey(walletKey.getKeyId(), pin);
+        if (!(key instanceof PrivateKey privateKey)) {
+            throw new SignatureFailureException("No private key with alias " + walletKey.getKeyId() + " in PKCS#11 token");
+        }
+        return new JcaSigningHandle(algorithm, privateKey, provider);
+    }
+}
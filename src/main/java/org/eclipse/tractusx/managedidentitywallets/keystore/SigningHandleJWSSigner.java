@@ -0,0 +1,70 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.keystore;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.jca.JCAContext;
+import com.nimbusds.jose.util.Base64URL;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.SigningHandle;
+
+import java.util.Set;
+
+/**
+ * Adapts a {@link SigningHandle} to a Nimbus {@link JWSSigner}, so JWTs can be signed without access to the key.
+ */
+public class SigningHandleJWSSigner implements JWSSigner {
+
+    private final SigningHandle signingHandle;
+
+    private final JCAContext jcaContext = new JCAContext();
+
+    /**
+     * Instantiates a new Signing handle JWS signer.
+     *
+     * @param signingHandle the signing handle
+     */
+    public SigningHandleJWSSigner(SigningHandle signingHandle) {
+        this.signingHandle = signingHandle;
+    }
+
+    @Override
+    public Base64URL sign(JWSHeader header, byte[] signingInput) throws JOSEException {
+        if (!supportedJWSAlgorithms().contains(header.getAlgorithm())) {
+            throw new JOSEException("Unsupported JWS algorithm " + header.getAlgorithm() + ", expected " + supportedJWSAlgorithms());
+        }
+        return Base64URL.encode(signingHandle.sign(signingInput));
+    }
+
+    @Override
+    public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+        return signingHandle.algorithm() == SupportedAlgorithms.ES256K ? Set.of(JWSAlgorithm.ES256K) : Set.of(JWSAlgorithm.EdDSA);
+    }
+
+    @Override
+    public JCAContext getJCAContext() {
+        return jcaContext;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.keystore;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.WalletKey;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletKeyRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.exception.UnsupportedAlgorithmException;
+import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559PrivateKey;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.security.auth.DestroyFailedException;
+import javax.security.auth.Destroyable;
+import java.nio.ByteBuffer;
+import java.security.KeyFactory;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Arrays;
+
+/**
+ * Bounded cache of the decrypted wallet keys stored in {@code wallet_key}.
+ * <p>
+ * Evicted keys are wiped. Ed25519 keys are handed out as a fresh copy, so wiping an evicted cache entry never affects a
+ * caller that is still signing with it.
+ */
+@Slf4j
+@Component
+public class WalletPrivateKeyCache {
+
+    /**
+     * The name under which the private key cache metrics are published.
+     */
+    public static final String WALLET_KEYS_CACHE = "walletKeys";
+
+    private static final String EC = "EC";
+
+    private final WalletKeyRepository walletKeyRepository;
+
+    private final EncryptionUtils encryptionUtils;
+
+    private final Cache<PrivateKeyCacheKey, CachedPrivateKey> privateKeyCache;
+
+    /**
+     * Instantiates a new Wallet private key cache.
+     *
+     * @param walletKeyRepository the wallet key repository
+     * @param encryptionUtils     the encryption utils
+     * @param cacheSettings       the cache settings
+     * @param meterRegistry       the meter registry
+     */
+    public WalletPrivateKeyCache(WalletKeyRepository walletKeyRepository, EncryptionUtils encryptionUtils,
+                                 CacheSettings cacheSettings, MeterRegistry meterRegistry) {
+        this.walletKeyRepository = walletKeyRepository;
+        this.encryptionUtils = encryptionUtils;
+        this.privateKeyCache = Caffeine.newBuilder()
+                .maximumSize(cacheSettings.walletKeys().maximumSize())
+                .expireAfterWrite(cacheSettings.walletKeys().expireAfterWrite())
+                .removalListener((PrivateKeyCacheKey key, CachedPrivateKey value, RemovalCause cause) -> {
+                    if (value != null) {
+                        value.wipe();
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, privateKeyCache, WALLET_KEYS_CACHE);
+    }
+
+    /**
+     * Gets the decrypted key of a wallet, an {@link x21559PrivateKey} for Ed25519 and an
+     * {@link java.security.interfaces.ECPrivateKey} for ES256K.
+     *
+     * @param walletId  the wallet id
+     * @param algorithm the algorithm of the key
+     * @return the private key
+     */
+    @SneakyThrows
+    public Object getPrivateKey(long walletId, SupportedAlgorithms algorithm) {
+        PrivateKeyCacheKey cacheKey = new PrivateKeyCacheKey(walletId, algorithm);
+        if (SupportedAlgorithms.ED25519.equals(algorithm)) {
+            byte[] encoded;
+            do {
+                // null means the entry was evicted and wiped in the meantime, the next lookup loads it again
+                encoded = privateKeyCache.get(cacheKey, this::loadPrivateKey).copyEncoded();
+            } while (encoded == null);
+            return new x21559PrivateKey(encoded);
+        }
+        return privateKeyCache.get(cacheKey, this::loadPrivateKey).getKey();
+    }
+
+    /**
+     * Removes all cached private keys of a wallet.
+     *
+     * @param walletId the wallet id
+     */
+    public void evict(long walletId) {
+        privateKeyCache.invalidateAll(privateKeyCache.asMap().keySet().stream()
+                .filter(key -> key.walletId() == walletId)
+                .toList());
+        log.debug("Evicted cached private keys of wallet with id {}", walletId);
+    }
+
+    /**
+     * Evicts the cached private keys once the transaction changing the wallet keys has been committed. Runs before the
+     * other listeners, so those reloading a key read the changed one.
+     *
+     * @param event the event
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletKeyChanged(WalletKeyChangedEvent event) {
+        evict(event.walletId());
+    }
+
+    @SneakyThrows
+    private CachedPrivateKey loadPrivateKey(PrivateKeyCacheKey cacheKey) {
+        WalletKey wallet = walletKeyRepository.getByWalletIdAndAlgorithm(cacheKey.walletId(), cacheKey.algorithm().toString());
+        ByteBuffer privateKey = encryptionUtils.decryptToBuffer(wallet.getPrivateKey());
+        byte[] content;
+        try {
+            content = PemUtils.decodeToBytes(privateKey);
+        } finally {
+            PemUtils.wipe(privateKey);
+        }
+        if (SupportedAlgorithms.ED25519.equals(cacheKey.algorithm())) {
+            return new CachedPrivateKey(content, null);
+        } else if (SupportedAlgorithms.ES256K.equals(cacheKey.algorithm())) {
+            try {
+                KeyFactory kf = KeyFactory.getInstance(EC);
+                // only the parsed key is cached, the encoded form is not needed anymore
+                return new CachedPrivateKey(new byte[0], kf.generatePrivate(new PKCS8EncodedKeySpec(content)));
+            } finally {
+                PemUtils.wipe(content);
+            }
+        } else {
+            PemUtils.wipe(content);
+            throw new UnsupportedAlgorithmException("Unsupported algorithm: " + cacheKey.algorithm());
+        }
+    }
+
+    private record PrivateKeyCacheKey(long walletId, SupportedAlgorithms algorithm) {
+    }
+
+    private static final class CachedPrivateKey {
+
+        private final byte[] encoded;
+
+        private final Object key;
+
+        private boolean wiped;
+
+        private CachedPrivateKey(byte[] encoded, Object key) {
+            this.encoded = encoded;
+            this.key = key;
+        }
+
+        private Object getKey() {
+            return key;
+        }
+
+        private synchronized byte[] copyEncoded() {
+            return wiped ? null : encoded.clone();
+        }
+
+        private synchronized void wipe() {
+            wiped = true;
+            Arrays.fill(encoded, (byte) 0);
+            if (key instanceof Destroyable destroyable) {
+                try {
+                    destroyable.destroy();
+                } catch (DestroyFailedException e) {
+                    // most JCA providers do not support destroying keys, the key is left to the garbage collector
+                    log.trace("Could not destroy evicted private key", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.AuthorityWalletContext;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.exception.WalletNotFoundProblem;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the authority wallet, its DID document and its signing key in memory.
+ * <p>
+ * The context is loaded once the application is ready, that is after the authority wallet has been created, and is
+ * only reloaded after the keys or the DID document of the authority wallet changed. A context loaded while it was
+ * refreshed is not pinned, as it may have been read before the change.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AuthorityWalletService {
+
+    private final MIWSettings miwSettings;
+
+    private final WalletRepository walletRepository;
+
+    private final WalletKeyService walletKeyService;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile AuthorityWalletContext context;
+
+    /**
+     * Loads the context on start up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        getContext();
+    }
+
+    /**
+     * Gets the authority wallet context, loading it if it is not pinned yet.
+     *
+     * @return the authority wallet context
+     */
+    public AuthorityWalletContext getContext() {
+        AuthorityWalletContext current = context;
+        if (current == null) {
+            synchronized (this) {
+                current = context;
+                while (current == null) {
+                    long loading = generation.get();
+                    AuthorityWalletContext loaded = loadContext();
+                    if (generation.get() == loading) {
+                        context = loaded;
+                        current = loaded;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Drops the pinned context, the next call to {@link #getContext()} loads it again. A context that is being loaded
+     * meanwhile is loaded again as well.
+     */
+    public void refresh() {
+        generation.incrementAndGet();
+        context = null;
+        log.debug("Authority wallet context dropped");
+    }
+
+    /**
+     * Refreshes the context once the transaction changing the authority wallet keys has been committed.
+     *
+     * @param event the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletKeyChanged(WalletKeyChangedEvent event) {
+        AuthorityWalletContext current = context;
+        if (current != null && event.walletId() != null && current.walletId() == event.walletId()) {
+            refresh();
+        }
+    }
+
+    /**
+     * Refreshes the context once the transaction changing the authority DID document has been committed.
+     *
+     * @param event the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDidDocumentChanged(DidDocumentChangedEvent event) {
+        if (miwSettings.authorityWalletBpn().equals(event.bpn())) {
+            refresh();
+        }
+    }
+
+    private AuthorityWalletContext loadContext() {
+        // read from the database, the wallet cache may not have been evicted yet
+        Wallet wallet = walletRepository.getByBpn(miwSettings.authorityWalletBpn());
+        if (wallet == null) {
+            throw new WalletNotFoundProblem("Wallet not found for identifier " + miwSettings.authorityWalletBpn());
+        }
+        DidDocument didDocument = wallet.getDidDocument();
+        byte[] privateKey = walletKeyService.getPrivateKeyByWalletIdentifierAsBytes(wallet.getId(), wallet.getAlgorithm());
+        AuthorityWalletContext loaded = new AuthorityWalletContext(wallet.getId(), wallet.getName(), wallet.getDid(), wallet.getBpn(),
+                didDocument, didDocument.getVerificationMethods().get(0).getId(), privateKey);
+        PemUtils.wipe(privateKey);
+        log.info("Authority wallet context loaded for bpn {}", StringEscapeUtils.escapeJava(wallet.getBpn()));
+        return loaded;
+    }
+}
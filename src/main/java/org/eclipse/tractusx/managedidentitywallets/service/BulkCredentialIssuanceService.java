@@ -0,0 +1,245 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.managedidentitywallets.config.BulkIssuanceSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
+import org.eclipse.tractusx.managedidentitywallets.dao.projection.WalletIdentity;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.CredentialBatchRepository;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.AuthorityWalletContext;
+import org.eclipse.tractusx.managedidentitywallets.domain.CredentialIssuanceResult;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialRequest;
+import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
+import org.eclipse.tractusx.managedidentitywallets.utils.CommonUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Issues a list of framework credentials with the authority wallet in one go.
+ * <p>
+ * The holder wallets are resolved with one query and the authority key is loaded once. The credentials are signed in
+ * parallel on a bounded pool, when the pool is saturated signings run on the calling thread. Once the pool is shut
+ * down, signings that did not run fail instead. The issued credentials are then inserted with JDBC batches in one transaction, so that the summary credential of each holder is regenerated once.
+ * A request that can not be issued does not fail the others, its result carries the error instead.
+ */
+@Slf4j
+@Service
+public class BulkCredentialIssuanceService {
+
+    private final IssuersCredentialService issuersCredentialService;
+
+    private final AuthorityWalletService authorityWalletService;
+
+    private final WalletRepository walletRepository;
+
+    private final CredentialBatchRepository credentialBatchRepository;
+
+    private final SummaryCredentialRefresher summaryCredentialRefresher;
+
+    private final MIWSettings miwSettings;
+
+    private final BulkIssuanceSettings settings;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Instantiates a new Bulk credential issuance service.
+     *
+     * @param issuersCredentialService   the issuers credential service
+     * @param authorityWalletService     the authority wallet service
+     * @param walletRepository           the wallet repository
+     * @param credentialBatchRepository  the credential batch repository
+     * @param summaryCredentialRefresher the summary credential refresher
+     * @param miwSettings                the miw settings
+     * @param settings                   the bulk issuance settings
+     * @param transactionManager         the transaction manager
+     */
+    public BulkCredentialIssuanceService(IssuersCredentialService issuersCredentialService, AuthorityWalletService authorityWalletService,
+                                         WalletRepository walletRepository, CredentialBatchRepository credentialBatchRepository,
+                                         SummaryCredentialRefresher summaryCredentialRefresher, MIWSettings miwSettings, BulkIssuanceSettings settings,
+                                         @Qualifier("transactionManager") PlatformTransactionManager transactionManager) {
+        this.issuersCredentialService = issuersCredentialService;
+        this.authorityWalletService = authorityWalletService;
+        this.walletRepository = walletRepository;
+        this.credentialBatchRepository = credentialBatchRepository;
+        this.summaryCredentialRefresher = summaryCredentialRefresher;
+        this.miwSettings = miwSettings;
+        this.settings = settings;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(settings.parallelism(), settings.parallelism(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-issuance-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Stops the signing threads, the signings still waiting for a thread fail.
+     */
+    @PreDestroy
+    public void stop() {
+        for (Runnable pending : executor.shutdownNow()) {
+            ((Signing) pending).future().completeExceptionally(new RejectedExecutionException("Bulk issuance is shut down"));
+        }
+    }
+
+    /**
+     * Issues framework credentials.
+     *
+     * @param requests  the requests
+     * @param callerBpn the caller bpn
+     * @return the results, in the order of the requests
+     */
+    public List<CredentialIssuanceResult> issueFrameworkCredentials(List<IssueFrameworkCredentialRequest> requests, String callerBpn) {
+        Validate.isTrue(requests.size() > settings.maxCredentials()).launch(new BadDataException("At most " + settings.maxCredentials() + " credentials can be issued at once"));
+
+        AuthorityWalletContext issuer = authorityWalletService.getContext();
+        issuersCredentialService.validateAccess(callerBpn, issuer.bpn());
+
+        Map<String, WalletIdentity> holders = findHolders(requests);
+        CredentialIssuanceResult[] results = new CredentialIssuanceResult[requests.size()];
+        HoldersCredential[] credentials = new HoldersCredential[requests.size()];
+        byte[] privateKeyBytes = issuer.privateKey();
+        try {
+            List<CompletableFuture<HoldersCredential>> signings = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                int index = i;
+                IssueFrameworkCredentialRequest request = requests.get(i);
+                WalletIdentity holder = holders.get(request.getHolderIdentifier());
+                if (!miwSettings.supportedFrameworkVCTypes().contains(request.getType())) {
+                    results[i] = CredentialIssuanceResult.failed(request.getHolderIdentifier(), request.getType(), "Framework credential of type " + request.getType() + " is not supported, supported values are " + miwSettings.supportedFrameworkVCTypes());
+                } else if (holder == null) {
+                    results[i] = CredentialIssuanceResult.failed(request.getHolderIdentifier(), request.getType(), "Wallet not found for identifier " + request.getHolderIdentifier());
+                } else {
+                    signings.add(submit(() -> credentials[index] = sign(issuer, privateKeyBytes, request, holder))
+                            .exceptionally(e -> {
+                                log.error("Can not sign framework VC of type {} for {}", StringEscapeUtils.escapeJava(request.getType()), StringEscapeUtils.escapeJava(holder.getBpn()), e);
+                                results[index] = CredentialIssuanceResult.failed(request.getHolderIdentifier(), request.getType(), "Credential could not be signed");
+                                return null;
+                            }));
+                }
+            }
+            CompletableFuture.allOf(signings.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            // every signing has completed or failed, none uses the key anymore
+            PemUtils.wipe(privateKeyBytes);
+        }
+
+        List<HoldersCredential> issued = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (credentials[i] != null) {
+                issued.add(credentials[i]);
+                results[i] = CredentialIssuanceResult.issued(requests.get(i).getHolderIdentifier(), requests.get(i).getType(), credentials[i].getData());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            credentialBatchRepository.insertIssued(issued);
+            for (int i = 0; i < requests.size(); i++) {
+                if (credentials[i] != null) {
+                    WalletIdentity holder = holders.get(requests.get(i).getHolderIdentifier());
+                    summaryCredentialRefresher.markDirty(issuer, holder.getBpn(), holder.getDid(), requests.get(i).getType());
+                }
+            }
+        });
+
+        log.debug("{} of {} framework VCs issued in bulk", issued.size(), requests.size());
+        return List.of(results);
+    }
+
+    /**
+     * Queues a signing. When the queue is full it runs on the calling thread, when the pool is shut down it fails, so
+     * that every returned future completes.
+     */
+    private CompletableFuture<HoldersCredential> submit(Supplier<HoldersCredential> task) {
+        Signing signing = new Signing(new CompletableFuture<>(), task);
+        try {
+            executor.execute(signing);
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                signing.future().completeExceptionally(e);
+            } else {
+                signing.run();
+            }
+        }
+        return signing.future();
+    }
+
+    private Map<String, WalletIdentity> findHolders(List<IssueFrameworkCredentialRequest> requests) {
+        Set<String> identifiers = new LinkedHashSet<>();
+        requests.forEach(request -> identifiers.add(request.getHolderIdentifier()));
+        Map<String, WalletIdentity> holders = new HashMap<>();
+        for (WalletIdentity wallet : walletRepository.findIdentitiesByBpnInOrDidIn(identifiers, identifiers)) {
+            holders.put(wallet.getBpn(), wallet);
+            holders.put(wallet.getDid(), wallet);
+        }
+        return holders;
+    }
+
+    private HoldersCredential sign(AuthorityWalletContext issuer, byte[] privateKeyBytes, IssueFrameworkCredentialRequest request, WalletIdentity holder) {
+        boolean isSelfIssued = holder.getBpn().equals(issuer.bpn());
+        return CommonUtils.getHoldersCredential(IssuersCredentialService.frameworkCredentialSubject(request, holder.getDid(), holder.getBpn()),
+                IssuersCredentialService.FRAMEWORK_CREDENTIAL_TYPES, issuer.didDocument(), issuer.verificationMethod(), privateKeyBytes,
+                holder.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
+    }
+
+    private record Signing(CompletableFuture<HoldersCredential> future, Supplier<HoldersCredential> task) implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                future.complete(task.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -21,49 +21,130 @@
 
 package org.eclipse.tractusx.managedidentitywallets.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
 import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
 import org.eclipse.tractusx.managedidentitywallets.exception.WalletNotFoundProblem;
 import org.eclipse.tractusx.managedidentitywallets.utils.CommonUtils;
 import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
 import org.eclipse.tractusx.ssi.lib.exception.DidParseException;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Instant;
 import java.util.Map;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class CommonService {
 
+    /**
+     * The name under which the wallet cache metrics are published.
+     */
+    public static final String WALLETS_CACHE = "wallets";
+
     private final WalletRepository walletRepository;
 
+    /**
+     * Wallets keyed by the identifier they were looked up with, BPN or DID.
+     */
+    private final Cache<String, Wallet> walletCache;
+
+    /**
+     * Instantiates a new Common service.
+     *
+     * @param walletRepository the wallet repository
+     * @param cacheSettings    the cache settings
+     * @param meterRegistry    the meter registry
+     */
+    public CommonService(WalletRepository walletRepository, CacheSettings cacheSettings, MeterRegistry meterRegistry) {
+        this.walletRepository = walletRepository;
+        this.walletCache = Caffeine.newBuilder()
+                .maximumSize(cacheSettings.wallets().maximumSize())
+                .expireAfterWrite(cacheSettings.wallets().expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, walletCache, WALLETS_CACHE);
+    }
+
     /**
      * Gets wallet by identifier(BPN or did).
+     * <p>
+     * Wallets are read through a cache. Each call returns a copy without wallet keys, so callers can modify it freely.
+     * The copy parses the DID document only when it is accessed. An eviction waits for a load of the same identifier
+     * in progress, so a wallet loaded before a change is not kept.
+     * <p>
+     * Entries are only evicted by changes made through this instance. With several replicas, a wallet changed by
+     * another replica is served until it expires, see {@code miw.cache.wallets.expireAfterWrite}.
      *
      * @param identifier the identifier
      * @return the wallet by identifier
      */
     public Wallet getWalletByIdentifier(String identifier) {
-        Wallet wallet;
+        return copyOf(walletCache.get(identifier, this::loadCachedWallet));
+    }
+
+    /**
+     * Removes a wallet from the cache.
+     *
+     * @param did the did of the wallet
+     * @param bpn the bpn of the wallet
+     */
+    public void evictWallet(String did, String bpn) {
+        walletCache.invalidate(did);
+        walletCache.invalidate(bpn);
+    }
+
+    /**
+     * Removes a wallet from the cache once the transaction changing its DID document has been committed.
+     *
+     * @param event the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDidDocumentChanged(DidDocumentChangedEvent event) {
+        evictWallet(event.did(), event.bpn());
+    }
+
+    private Wallet loadCachedWallet(String identifier) {
+        Wallet wallet = loadWallet(identifier);
+        Validate.isNull(wallet).launch(new WalletNotFoundProblem("Wallet not found for identifier " + identifier));
+        return copyOf(wallet);
+    }
+
+    private Wallet loadWallet(String identifier) {
         if (CommonUtils.getIdentifierType(identifier).equals(StringPool.BPN)) {
-            wallet = walletRepository.getByBpn(identifier);
-        } else {
-            try {
-                wallet = walletRepository.getByDid(identifier);
-            } catch (DidParseException e) {
-                log.error("Error while parsing did {}", StringEscapeUtils.escapeJava(identifier), e);
-                throw new WalletNotFoundProblem("Error while parsing did " + identifier);
-            }
+            return walletRepository.getByBpn(identifier);
         }
-        Validate.isNull(wallet).launch(new WalletNotFoundProblem("Wallet not found for identifier " + identifier));
-        return wallet;
+        try {
+            return walletRepository.getByDid(identifier);
+        } catch (DidParseException e) {
+            log.error("Error while parsing did {}", StringEscapeUtils.escapeJava(identifier), e);
+            throw new WalletNotFoundProblem("Error while parsing did " + identifier);
+        }
+    }
+
+    private static Wallet copyOf(Wallet wallet) {
+        Wallet copy = Wallet.builder()
+                .id(wallet.getId())
+                .name(wallet.getName())
+                .did(wallet.getDid())
+                .bpn(wallet.getBpn())
+                .algorithm(wallet.getAlgorithm())
+                .didDocumentJson(wallet.getDidDocumentJson())
+                .build();
+        copy.setCreatedAt(wallet.getCreatedAt());
+        copy.setModifiedAt(wallet.getModifiedAt());
+        copy.setModifiedFrom(wallet.getModifiedFrom());
+        return copy;
     }
 
     public static boolean validateExpiry(boolean withCredentialExpiryDate, VerifiableCredential verifiableCredential, Map<String, Object> response) {
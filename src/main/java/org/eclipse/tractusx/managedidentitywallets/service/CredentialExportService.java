@@ -0,0 +1,122 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.IssuersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.exception.ForbiddenException;
+import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exports the credentials of a wallet as newline delimited JSON.
+ * <p>
+ * Credentials are read with a server-side cursor and their stored JSON is written one by one without being parsed, so
+ * memory use does not grow with the number of credentials of the wallet.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CredentialExportService {
+
+    private final CommonService commonService;
+
+    private final MIWSettings miwSettings;
+
+    private final HoldersCredentialRepository holdersCredentialRepository;
+
+    private final IssuersCredentialRepository issuersCredentialRepository;
+
+    private final ObjectMapper objectMapper;
+
+    @Qualifier("transactionManager")
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Checks access to the wallet and prepares the export of its credentials.
+     *
+     * @param identifier the did or bpn of the wallet
+     * @param issued     export the credentials issued by the wallet instead of the ones it holds
+     * @param since      only export credentials created after this instant, null for all
+     * @param callerBpn  the caller bpn
+     * @return the response body writing the credentials
+     */
+    public StreamingResponseBody exportCredentials(String identifier, boolean issued, Instant since, String callerBpn) {
+        Wallet wallet = commonService.getWalletByIdentifier(identifier);
+
+        // authority wallet can export all wallets
+        if (!miwSettings.authorityWalletBpn().equals(callerBpn)) {
+            Validate.isFalse(callerBpn.equalsIgnoreCase(wallet.getBpn())).launch(new ForbiddenException("Wallet BPN is not matching with request BPN(from the token)"));
+        }
+
+        String did = wallet.getDid();
+        Date createdAfter = Date.from(since == null ? Instant.EPOCH : since);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<LazyVerifiableCredential> credentials = issued
+                    ? issuersCredentialRepository.streamCredentialsByIssuer(did, createdAfter)
+                    : holdersCredentialRepository.streamCredentialsByHolder(did, createdAfter)) {
+                long count = write(credentials, outputStream);
+                log.debug("Exported {} credentials of wallet {}", count, StringEscapeUtils.escapeJava(did));
+            }
+        });
+    }
+
+    @SneakyThrows
+    private long write(Stream<LazyVerifiableCredential> credentials, OutputStream outputStream) {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<LazyVerifiableCredential> iterator = credentials.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+}
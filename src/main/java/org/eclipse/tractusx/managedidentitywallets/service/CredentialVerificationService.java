@@ -0,0 +1,235 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.config.CredentialVerificationSettings;
+import org.eclipse.tractusx.managedidentitywallets.domain.CredentialVerificationResult;
+import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
+import org.eclipse.tractusx.ssi.lib.exception.DidResolverException;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.ssi.lib.model.did.DidParser;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Verifies the proofs of a list of credentials, e.g. all credentials of a presentation, in one go.
+ * <p>
+ * The credentials are grouped by the verification method of their proof. The DID document of each issuer is resolved
+ * once per batch, and the proofs are verified in parallel on a bounded pool. When the pool is saturated, verifications
+ * run on the calling thread. Once the pool is shut down, verifications that did not run fail instead.
+ */
+@Slf4j
+@Service
+public class CredentialVerificationService {
+
+    private static final String PROOF_VERIFICATION_METHOD = "verificationMethod";
+
+    private final DidDocumentResolverService didDocumentResolverService;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Instantiates a new Credential verification service.
+     *
+     * @param didDocumentResolverService the did document resolver service
+     * @param settings                   the settings
+     */
+    public CredentialVerificationService(DidDocumentResolverService didDocumentResolverService, CredentialVerificationSettings settings) {
+        this.didDocumentResolverService = didDocumentResolverService;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(settings.parallelism(), settings.parallelism(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.queueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "credential-verification-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Stops the verification threads, the verifications still waiting for a thread fail.
+     */
+    @PreDestroy
+    public void stop() {
+        for (Runnable pending : executor.shutdownNow()) {
+            ((Task<?>) pending).future().completeExceptionally(new RejectedExecutionException("Credential verification is shut down"));
+        }
+    }
+
+    /**
+     * Verifies the proofs of all credentials.
+     *
+     * @param credentials the credentials
+     * @return the results, in the order of the credentials
+     */
+    public List<CredentialVerificationResult> verifyAll(List<VerifiableCredential> credentials) {
+        Map<String, List<Integer>> indexesByVerificationMethod = new LinkedHashMap<>();
+        CredentialVerificationResult[] results = new CredentialVerificationResult[credentials.size()];
+        for (int i = 0; i < credentials.size(); i++) {
+            String verificationMethod = getVerificationMethod(credentials.get(i));
+            if (verificationMethod == null) {
+                results[i] = new CredentialVerificationResult(credentials.get(i).getId(), null, false, "Credential has no proof");
+            } else {
+                indexesByVerificationMethod.computeIfAbsent(verificationMethod, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        BatchDidResolver resolver = new BatchDidResolver(didDocumentResolverService.getCompositeDidResolver());
+        Map<String, CompletableFuture<String>> resolutions = new LinkedHashMap<>();
+        indexesByVerificationMethod.keySet().forEach(verificationMethod -> resolutions.put(verificationMethod,
+                submit(() -> resolver.preResolve(verificationMethod)).exceptionally(e -> "Can not resolve DID document: " + e.getMessage())));
+
+        List<CompletableFuture<CredentialVerificationResult>> verifications = new ArrayList<>();
+        indexesByVerificationMethod.forEach((verificationMethod, indexes) -> {
+            String resolutionError = resolutions.get(verificationMethod).join();
+            if (resolutionError != null) {
+                indexes.forEach(i -> results[i] = new CredentialVerificationResult(credentials.get(i).getId(), verificationMethod, false, resolutionError));
+                return;
+            }
+            // created on the calling thread, LinkedDataProofValidation keeps no state between verifications
+            LinkedDataProofValidation proofValidation = LinkedDataProofValidation.newInstance(resolver);
+            for (int i : indexes) {
+                verifications.add(submit(() -> results[i] = verify(proofValidation, credentials.get(i), verificationMethod))
+                        .exceptionally(e -> results[i] = new CredentialVerificationResult(credentials.get(i).getId(), verificationMethod, false, e.getMessage())));
+            }
+        });
+        CompletableFuture.allOf(verifications.toArray(CompletableFuture[]::new)).join();
+        return List.of(results);
+    }
+
+    /**
+     * Queues a task. When the queue is full it runs on the calling thread, when the pool is shut down it fails, so that
+     * every returned future completes.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> supplier) {
+        Task<T> task = new Task<>(new CompletableFuture<>(), supplier);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (executor.isShutdown()) {
+                task.future().completeExceptionally(e);
+            } else {
+                task.run();
+            }
+        }
+        return task.future();
+    }
+
+    private static CredentialVerificationResult verify(LinkedDataProofValidation proofValidation, VerifiableCredential credential, String verificationMethod) {
+        try {
+            boolean valid = proofValidation.verify(credential);
+            if (valid) {
+                log.debug("Credential validation result: (valid: {}, credential-id: {})", true, credential.getId());
+            } else {
+                log.info("Credential validation result: (valid: {}, credential-id: {})", false, credential.getId());
+            }
+            return new CredentialVerificationResult(credential.getId(), verificationMethod, valid, null);
+        } catch (Exception e) {
+            log.info("Credential validation failed: (credential-id: {}, error: {})", credential.getId(), e.getMessage());
+            return new CredentialVerificationResult(credential.getId(), verificationMethod, false, e.getMessage());
+        }
+    }
+
+    private static String getVerificationMethod(VerifiableCredential credential) {
+        Map<String, Object> proof = credential.getProof();
+        if (proof == null || proof.get(PROOF_VERIFICATION_METHOD) == null) {
+            return null;
+        }
+        return proof.get(PROOF_VERIFICATION_METHOD).toString();
+    }
+
+    /**
+     * Resolves each DID at most once per batch, so all credentials of an issuer share the resolved document.
+     */
+    private static final class BatchDidResolver implements DidResolver {
+
+        private final DidResolver delegate;
+
+        private final Map<String, DidDocument> documents = new ConcurrentHashMap<>();
+
+        private BatchDidResolver(DidResolver delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Resolves the DID of a verification method ahead of the proof verification.
+         *
+         * @return null if the DID document was resolved, the reason otherwise
+         */
+        private String preResolve(String verificationMethod) {
+            try {
+                int fragment = verificationMethod.indexOf('#');
+                resolve(DidParser.parse(fragment < 0 ? verificationMethod : verificationMethod.substring(0, fragment)));
+                return null;
+            } catch (Exception e) {
+                log.info("Can not resolve DID of verification method {}: {}", verificationMethod, e.getMessage());
+                return "Can not resolve DID document: " + e.getMessage();
+            }
+        }
+
+        @Override
+        public DidDocument resolve(Did did) throws DidResolverException {
+            String key = did.toString();
+            DidDocument document = documents.get(key);
+            if (document == null) {
+                document = delegate.resolve(did);
+                documents.put(key, document);
+            }
+            return document;
+        }
+
+        @Override
+        public boolean isResolvable(Did did) {
+            return documents.containsKey(did.toString()) || delegate.isResolvable(did);
+        }
+    }
+
+    private record Task<T>(CompletableFuture<T> future, Supplier<T> supplier) implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                future.complete(supplier.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -21,21 +21,72 @@
 
 package org.eclipse.tractusx.managedidentitywallets.service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.domain.RenderedDidDocument;
+import org.eclipse.tractusx.managedidentitywallets.exception.WalletNotFoundProblem;
+import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
 
 /**
  * The type Did document service.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DidDocumentService {
-    
+
+    /**
+     * The name under which the rendered DID document cache metrics are published.
+     */
+    public static final String RENDERED_DID_DOCUMENTS_CACHE = "renderedDidDocuments";
+
     private final CommonService commonService;
 
+    private final WalletRepository walletRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, VersionedDidDocument> renderedDidDocuments;
+
+    /**
+     * Instantiates a new Did document service.
+     *
+     * @param commonService    the common service
+     * @param walletRepository the wallet repository
+     * @param objectMapper     the object mapper
+     * @param cacheSettings    the cache settings
+     * @param meterRegistry    the meter registry
+     */
+    public DidDocumentService(CommonService commonService, WalletRepository walletRepository, ObjectMapper objectMapper,
+                              CacheSettings cacheSettings, MeterRegistry meterRegistry) {
+        this.commonService = commonService;
+        this.walletRepository = walletRepository;
+        this.objectMapper = objectMapper;
+        this.renderedDidDocuments = Caffeine.newBuilder()
+                .maximumSize(cacheSettings.renderedDidDocuments().maximumSize())
+                .expireAfterWrite(cacheSettings.renderedDidDocuments().expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, renderedDidDocuments, RENDERED_DID_DOCUMENTS_CACHE);
+    }
+
     /**
      * Gets did document by identifier(BPN or Did).
      *
@@ -46,4 +97,56 @@ public class DidDocumentService {
         return commonService.getWalletByIdentifier(identifier).getDidDocument();
     }
 
+    /**
+     * Gets the serialized did document of a wallet, rendered once and kept until the document changes.
+     * <p>
+     * Every call reads the last modification time of the wallet row, a rendered document older than the row is
+     * rendered again. Changes made by other replicas are so served right away.
+     *
+     * @param bpn the bpn
+     * @return the rendered did document
+     */
+    public RenderedDidDocument getRenderedDidDocument(String bpn) {
+        Date lastModified = walletRepository.getLastModifiedByBpn(bpn);
+        Validate.isNull(lastModified).launch(new WalletNotFoundProblem("Wallet not found for identifier " + bpn));
+        VersionedDidDocument cached = renderedDidDocuments.getIfPresent(bpn);
+        if (cached == null || !cached.version().equals(lastModified.toInstant())) {
+            cached = render(bpn);
+            renderedDidDocuments.put(bpn, cached);
+        }
+        return cached.document();
+    }
+
+    /**
+     * Drops the rendered did document once the transaction changing it has been committed.
+     *
+     * @param event the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDidDocumentChanged(DidDocumentChangedEvent event) {
+        if (event.bpn() != null) {
+            renderedDidDocuments.invalidate(event.bpn());
+        }
+    }
+
+    /**
+     * Renders the document of the wallet as stored, bypassing the wallet cache of {@link CommonService}.
+     */
+    @SneakyThrows
+    private VersionedDidDocument render(String bpn) {
+        Wallet wallet = walletRepository.getByBpn(bpn);
+        Validate.isNull(wallet).launch(new WalletNotFoundProblem("Wallet not found for identifier " + bpn));
+        byte[] content = objectMapper.writeValueAsBytes(wallet.getDidDocument());
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+        log.debug("Rendered did document of bpn {}", StringEscapeUtils.escapeJava(bpn));
+        Date version = wallet.getModifiedAt() != null ? wallet.getModifiedAt() : wallet.getCreatedAt();
+        return new VersionedDidDocument(version.toInstant(),
+                new RenderedDidDocument(content, "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\""));
+    }
+
+    /**
+     * A rendered document together with the modification time of the wallet row it was rendered from.
+     */
+    private record VersionedDidDocument(Instant version, RenderedDidDocument document) {
+    }
 }
@@ -21,13 +21,8 @@
 
 package org.eclipse.tractusx.managedidentitywallets.service;
 
-import com.smartsensesolutions.java.commons.FilterRequest;
 import com.smartsensesolutions.java.commons.base.repository.BaseRepository;
 import com.smartsensesolutions.java.commons.base.service.BaseService;
-import com.smartsensesolutions.java.commons.criteria.CriteriaOperator;
-import com.smartsensesolutions.java.commons.operator.Operator;
-import com.smartsensesolutions.java.commons.sort.Sort;
-import com.smartsensesolutions.java.commons.sort.SortType;
 import com.smartsensesolutions.java.commons.specification.SpecificationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,15 +31,20 @@ import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
 import org.eclipse.tractusx.managedidentitywallets.exception.CredentialNotFoundProblem;
 import org.eclipse.tractusx.managedidentitywallets.exception.ForbiddenException;
 import org.eclipse.tractusx.managedidentitywallets.utils.CommonUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.KeysetPagination;
 import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
@@ -92,48 +92,39 @@ public class HoldersCredentialService extends BaseService<HoldersCredential, Lon
      * @param type             the type
      * @param sortColumn       the sort column
      * @param sortType         the sort type
+     * @param continuationToken the continuation token of keyset pagination, null for offset pagination
+     * @param withTotalCount    whether keyset pagination counts all matching credentials
      * @param callerBPN        the caller bpn
      * @return the credentials
      */
-    public PageImpl<VerifiableCredential> getCredentials(String credentialId, String issuerIdentifier, List<String> type, String sortColumn, String sortType, int pageNumber, int size, String callerBPN) {
-        FilterRequest filterRequest = new FilterRequest();
-        filterRequest.setPage(pageNumber);
-        filterRequest.setSize(size);
-
+    public PageImpl<LazyVerifiableCredential> getCredentials(String credentialId, String issuerIdentifier, List<String> type, String sortColumn, String sortType, int pageNumber, int size,
+                                                         String continuationToken, boolean withTotalCount, String callerBPN) {
         //Holder must be caller of API
         Wallet holderWallet = commonService.getWalletByIdentifier(callerBPN);
-        filterRequest.appendCriteria(StringPool.HOLDER_DID, Operator.EQUALS, holderWallet.getDid());
 
+        String issuerDid = null;
         if (StringUtils.hasText(issuerIdentifier)) {
-            Wallet issuerWallet = commonService.getWalletByIdentifier(issuerIdentifier);
-            filterRequest.appendCriteria(StringPool.ISSUER_DID, Operator.EQUALS, issuerWallet.getDid());
+            issuerDid = commonService.getWalletByIdentifier(issuerIdentifier).getDid();
         }
 
-        if (StringUtils.hasText(credentialId)) {
-            filterRequest.appendCriteria(StringPool.CREDENTIAL_ID, Operator.EQUALS, credentialId);
-        }
-        FilterRequest request = new FilterRequest();
-        if (!CollectionUtils.isEmpty(type)) {
-            request.setPage(filterRequest.getPage());
-            request.setSize(filterRequest.getSize());
-            request.setCriteriaOperator(CriteriaOperator.OR);
-            for (String str : type) {
-                request.appendCriteria(StringPool.TYPE, Operator.CONTAIN, str);
-            }
+        Specification<HoldersCredential> filter = Specification.<HoldersCredential>where(KeysetPagination.equal(StringPool.HOLDER_DID, holderWallet.getDid()))
+                .and(KeysetPagination.equal(StringPool.ISSUER_DID, issuerDid))
+                .and(KeysetPagination.equal(StringPool.CREDENTIAL_ID, credentialId))
+                .and(KeysetPagination.containsAny(StringPool.TYPES, type));
+
+        if (continuationToken != null) {
+            Validate.isFalse(StringPool.CREATED_AT.equals(sortColumn)).launch(new BadDataException(KeysetPagination.SORT_COLUMN_NOT_SUPPORTED));
+            return KeysetPagination.read(holdersCredentialRepository, filter, continuationToken, size, sortType, withTotalCount, HoldersCredential::getId)
+                    .map(HoldersCredential::getCredential);
         }
 
-        Sort sort = new Sort();
-        sort.setColumn(sortColumn);
-        sort.setSortType(SortType.valueOf(sortType.toUpperCase()));
-        filterRequest.setSort(sort);
-        Page<HoldersCredential> filter = filter(filterRequest, request, CriteriaOperator.AND);
+        Page<HoldersCredential> page = holdersCredentialRepository.findAll(filter, PageRequest.of(pageNumber, size, Sort.Direction.fromString(sortType), sortColumn));
 
-        List<VerifiableCredential> list = new ArrayList<>(filter.getContent().size());
-        for (HoldersCredential credential : filter.getContent()) {
-            list.add(credential.getData());
+        List<LazyVerifiableCredential> list = new ArrayList<>(page.getContent().size());
+        for (HoldersCredential credential : page.getContent()) {
+            list.add(credential.getCredential());
         }
-
-        return new PageImpl<>(list, filter.getPageable(), filter.getTotalElements());
+        return new PageImpl<>(list, page.getPageable(), page.getTotalElements());
     }
 
     /**
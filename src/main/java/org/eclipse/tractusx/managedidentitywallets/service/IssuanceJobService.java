@@ -0,0 +1,308 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.config.IssuanceJobSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.IssuanceJobStatus;
+import org.eclipse.tractusx.managedidentitywallets.constant.IssuanceJobType;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.IssuanceJob;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.IssuanceJobRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssuanceJobResponse;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssueDismantlerCredentialRequest;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialRequest;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssueMembershipCredentialRequest;
+import org.eclipse.tractusx.managedidentitywallets.exception.IssuanceJobNotFoundProblem;
+import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Issues credentials asynchronously.
+ * <p>
+ * A submitted request is stored as a pending job and the caller polls for its result. The workers lock pending jobs
+ * with {@code FOR UPDATE SKIP LOCKED}, so the workers of all instances share the jobs without processing one twice. A
+ * job is issued and completed in the transaction holding its lock, if an instance stops meanwhile the job is pending
+ * again. If the issuance fails, the job is marked as failed with the error in a new transaction, unless the workers
+ * are being stopped.
+ */
+@Slf4j
+@Service
+public class IssuanceJobService {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final IssuanceJobRepository issuanceJobRepository;
+
+    private final IssuersCredentialService issuersCredentialService;
+
+    private final AuthorityWalletService authorityWalletService;
+
+    private final ObjectMapper objectMapper;
+
+    private final IssuanceJobSettings settings;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter completedCounter;
+
+    private final Counter failedCounter;
+
+    private final ScheduledExecutorService workers;
+
+    private volatile boolean running;
+
+    /**
+     * Instantiates a new Issuance job service.
+     *
+     * @param issuanceJobRepository    the issuance job repository
+     * @param issuersCredentialService the issuers credential service
+     * @param authorityWalletService   the authority wallet service
+     * @param objectMapper             the object mapper
+     * @param settings                 the issuance job settings
+     * @param transactionManager       the transaction manager
+     * @param meterRegistry            the meter registry
+     */
+    public IssuanceJobService(IssuanceJobRepository issuanceJobRepository, IssuersCredentialService issuersCredentialService,
+                              AuthorityWalletService authorityWalletService, ObjectMapper objectMapper, IssuanceJobSettings settings,
+                              @Qualifier("transactionManager") PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.issuanceJobRepository = issuanceJobRepository;
+        this.issuersCredentialService = issuersCredentialService;
+        this.authorityWalletService = authorityWalletService;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        completedCounter = Counter.builder("miw.issuance.jobs.completed")
+                .description("Number of issuance jobs completed by this instance")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("miw.issuance.jobs.failed")
+                .description("Number of issuance jobs failed on this instance")
+                .register(meterRegistry);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // one more thread than workers for the cleanup
+        this.workers = Executors.newScheduledThreadPool(settings.workers() + 1, runnable -> {
+            Thread thread = new Thread(runnable, "issuance-job-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the workers once the application is ready, if enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!settings.enabled()) {
+            log.info("Issuance job workers are disabled on this instance");
+            return;
+        }
+        running = true;
+        long pollInterval = settings.pollInterval().toMillis();
+        for (int i = 0; i < settings.workers(); i++) {
+            workers.scheduleWithFixedDelay(this::processPending, 0, pollInterval, TimeUnit.MILLISECONDS);
+        }
+        workers.scheduleWithFixedDelay(this::deleteFinished, 1, 60, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stops the workers. The jobs they are processing are finished, if that takes too long they are interrupted, rolled
+     * back and stay pending.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Issuance job workers did not finish within {}, interrupting them", SHUTDOWN_TIMEOUT);
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Submits a request to issue a membership credential.
+     *
+     * @param request   the request
+     * @param callerBpn the caller bpn
+     * @return the issuance job
+     */
+    public IssuanceJobResponse submitMembershipCredential(IssueMembershipCredentialRequest request, String callerBpn) {
+        return submit(IssuanceJobType.MEMBERSHIP, request, callerBpn);
+    }
+
+    /**
+     * Submits a request to issue a dismantler credential.
+     *
+     * @param request   the request
+     * @param callerBpn the caller bpn
+     * @return the issuance job
+     */
+    public IssuanceJobResponse submitDismantlerCredential(IssueDismantlerCredentialRequest request, String callerBpn) {
+        return submit(IssuanceJobType.DISMANTLER, request, callerBpn);
+    }
+
+    /**
+     * Submits a request to issue a framework credential.
+     *
+     * @param request   the request
+     * @param callerBpn the caller bpn
+     * @return the issuance job
+     */
+    public IssuanceJobResponse submitFrameworkCredential(IssueFrameworkCredentialRequest request, String callerBpn) {
+        return submit(IssuanceJobType.FRAMEWORK, request, callerBpn);
+    }
+
+    /**
+     * Gets an issuance job.
+     *
+     * @param jobId     the job id
+     * @param callerBpn the caller bpn
+     * @return the issuance job
+     */
+    public IssuanceJobResponse getJob(UUID jobId, String callerBpn) {
+        IssuanceJob job = issuanceJobRepository.findById(jobId).orElse(null);
+        //jobs of other callers are not found either
+        Validate.isTrue(job == null || !job.getCallerBpn().equals(callerBpn)).launch(new IssuanceJobNotFoundProblem("Issuance job not found with id " + jobId));
+        return IssuanceJobResponse.of(job);
+    }
+
+    private IssuanceJobResponse submit(IssuanceJobType type, Object request, String callerBpn) {
+        //fail early, the access is validated again when the job is processed
+        issuersCredentialService.validateAccess(callerBpn, authorityWalletService.getContext().bpn());
+        IssuanceJob job = IssuanceJob.builder()
+                .type(type)
+                .status(IssuanceJobStatus.PENDING)
+                .callerBpn(callerBpn)
+                .request(toJson(request))
+                .build();
+        job = issuanceJobRepository.save(job);
+        log.debug("Issuance job {} of type {} submitted", job.getId(), type);
+        return IssuanceJobResponse.of(job);
+    }
+
+    private void processPending() {
+        try {
+            while (running && processNext()) {
+                // continue with the next job until there are none left
+            }
+        } catch (Exception e) {
+            log.error("Can not process issuance jobs", e);
+        }
+    }
+
+    /**
+     * Processes the oldest pending job that is not locked by another worker.
+     *
+     * @return false if there was no such job
+     */
+    boolean processNext() {
+        AtomicReference<UUID> jobId = new AtomicReference<>();
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                IssuanceJob job = issuanceJobRepository.lockNextPending();
+                if (job == null) {
+                    return false;
+                }
+                jobId.set(job.getId());
+                VerifiableCredential credential = issue(job);
+                job.setStatus(IssuanceJobStatus.COMPLETED);
+                job.setCredential(LazyVerifiableCredential.of(credential));
+                issuanceJobRepository.save(job);
+                completedCounter.increment();
+                log.debug("Issuance job {} completed", job.getId());
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            if (jobId.get() == null) {
+                throw e;
+            }
+            if (workers.isShutdown()) {
+                // the job most likely failed because its worker was interrupted, it was rolled back and stays pending
+                log.info("Issuance job {} stays pending, the workers are stopping: {}", jobId.get(), e.getMessage());
+                return false;
+            }
+            log.warn("Issuance job {} failed: {}", jobId.get(), e.getMessage());
+            String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            transactionTemplate.executeWithoutResult(status -> issuanceJobRepository.markFailed(jobId.get(), error));
+            failedCounter.increment();
+            return true;
+        }
+    }
+
+    private VerifiableCredential issue(IssuanceJob job) {
+        return switch (job.getType()) {
+            case MEMBERSHIP -> issuersCredentialService.issueMembershipCredential(fromJson(job.getRequest(), IssueMembershipCredentialRequest.class), job.getCallerBpn());
+            case DISMANTLER -> issuersCredentialService.issueDismantlerCredential(fromJson(job.getRequest(), IssueDismantlerCredentialRequest.class), job.getCallerBpn());
+            case FRAMEWORK -> issuersCredentialService.issueFrameworkCredential(fromJson(job.getRequest(), IssueFrameworkCredentialRequest.class), job.getCallerBpn());
+        };
+    }
+
+    private void deleteFinished() {
+        try {
+            Date before = new Date(System.currentTimeMillis() - settings.retention().toMillis());
+            Integer deleted = transactionTemplate.execute(status -> issuanceJobRepository.deleteFinishedBefore(before));
+            log.debug("{} finished issuance jobs deleted", deleted);
+        } catch (Exception e) {
+            log.error("Can not delete finished issuance jobs", e);
+        }
+    }
+
+    private String toJson(Object request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Can not serialize issuance request", e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can not read issuance request", e);
+        }
+    }
+}
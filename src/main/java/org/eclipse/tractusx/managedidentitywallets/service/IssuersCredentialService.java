@@ -21,13 +21,8 @@
 
 package org.eclipse.tractusx.managedidentitywallets.service;
 
-import com.smartsensesolutions.java.commons.FilterRequest;
 import com.smartsensesolutions.java.commons.base.repository.BaseRepository;
 import com.smartsensesolutions.java.commons.base.service.BaseService;
-import com.smartsensesolutions.java.commons.criteria.CriteriaOperator;
-import com.smartsensesolutions.java.commons.operator.Operator;
-import com.smartsensesolutions.java.commons.sort.Sort;
-import com.smartsensesolutions.java.commons.sort.SortType;
 import com.smartsensesolutions.java.commons.specification.SpecificationUtil;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +35,8 @@ import org.eclipse.tractusx.managedidentitywallets.dao.entity.IssuersCredential;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredentialRepository;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.IssuersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.AuthorityWalletContext;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
 import org.eclipse.tractusx.managedidentitywallets.dto.IssueDismantlerCredentialRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.IssueMembershipCredentialRequest;
@@ -47,11 +44,12 @@ import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
 import org.eclipse.tractusx.managedidentitywallets.exception.DuplicateCredentialProblem;
 import org.eclipse.tractusx.managedidentitywallets.exception.ForbiddenException;
 import org.eclipse.tractusx.managedidentitywallets.utils.CommonUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.KeysetPagination;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
 import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
 import org.eclipse.tractusx.ssi.lib.did.web.DidWebResolver;
 import org.eclipse.tractusx.ssi.lib.did.web.util.DidWebParser;
-import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
@@ -59,11 +57,13 @@ import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
 import org.eclipse.tractusx.ssi.lib.proof.SignatureType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.net.http.HttpClient;
@@ -82,6 +82,11 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
      */
     public static final String BASE_WALLET_BPN_IS_NOT_MATCHING_WITH_REQUEST_BPN_FROM_TOKEN = "Base wallet BPN is not matching with request BPN(from token)";
 
+    /**
+     * The types of framework credentials.
+     */
+    static final List<String> FRAMEWORK_CREDENTIAL_TYPES = List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, MIWVerifiableCredentialType.USE_CASE_FRAMEWORK_CONDITION);
+
     private final IssuersCredentialRepository issuersCredentialRepository;
     private final MIWSettings miwSettings;
 
@@ -93,6 +98,10 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
 
     private final CommonService commonService;
 
+    private final AuthorityWalletService authorityWalletService;
+
+    private final SummaryCredentialRefresher summaryCredentialRefresher;
+
     /**
      * Instantiates a new Issuers credential service.
      *
@@ -102,16 +111,21 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
      * @param walletKeyService            the wallet key service
      * @param holdersCredentialRepository the holders credential repository
      * @param commonService               the common service
+     * @param authorityWalletService      the authority wallet service
+     * @param summaryCredentialRefresher  the summary credential refresher
      */
     public IssuersCredentialService(IssuersCredentialRepository issuersCredentialRepository, MIWSettings miwSettings,
                                     SpecificationUtil<IssuersCredential> credentialSpecificationUtil,
-                                    WalletKeyService walletKeyService, HoldersCredentialRepository holdersCredentialRepository, CommonService commonService) {
+                                    WalletKeyService walletKeyService, HoldersCredentialRepository holdersCredentialRepository, CommonService commonService,
+                                    AuthorityWalletService authorityWalletService, SummaryCredentialRefresher summaryCredentialRefresher) {
         this.issuersCredentialRepository = issuersCredentialRepository;
         this.miwSettings = miwSettings;
         this.credentialSpecificationUtil = credentialSpecificationUtil;
         this.walletKeyService = walletKeyService;
         this.holdersCredentialRepository = holdersCredentialRepository;
         this.commonService = commonService;
+        this.authorityWalletService = authorityWalletService;
+        this.summaryCredentialRefresher = summaryCredentialRefresher;
     }
 
 
@@ -136,47 +150,39 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
      * @param sortType         the sort type
      * @param pageNumber       the page number
      * @param size             the size
+     * @param continuationToken the continuation token of keyset pagination, null for offset pagination
+     * @param withTotalCount    whether keyset pagination counts all matching credentials
      * @param callerBPN        the caller bpn
      * @return the credentials
      */
-    public PageImpl<VerifiableCredential> getCredentials(String credentialId, String holderIdentifier, List<String> type, String sortColumn, String sortType, int pageNumber, int size, String callerBPN) {
-        FilterRequest filterRequest = new FilterRequest();
-        filterRequest.setSize(size);
-        filterRequest.setPage(pageNumber);
-
+    public PageImpl<LazyVerifiableCredential> getCredentials(String credentialId, String holderIdentifier, List<String> type, String sortColumn, String sortType, int pageNumber, int size,
+                                                         String continuationToken, boolean withTotalCount, String callerBPN) {
         //Issuer must be caller of API
         Wallet issuerWallet = commonService.getWalletByIdentifier(callerBPN);
-        filterRequest.appendCriteria(StringPool.ISSUER_DID, Operator.EQUALS, issuerWallet.getDid());
 
+        String holderDid = null;
         if (StringUtils.hasText(holderIdentifier)) {
-            Wallet holderWallet = commonService.getWalletByIdentifier(holderIdentifier);
-            filterRequest.appendCriteria(StringPool.HOLDER_DID, Operator.EQUALS, holderWallet.getDid());
+            holderDid = commonService.getWalletByIdentifier(holderIdentifier).getDid();
         }
 
-        if (StringUtils.hasText(credentialId)) {
-            filterRequest.appendCriteria(StringPool.CREDENTIAL_ID, Operator.EQUALS, credentialId);
-        }
-        FilterRequest request = new FilterRequest();
-        if (!CollectionUtils.isEmpty(type)) {
-            request.setPage(filterRequest.getPage());
-            request.setSize(filterRequest.getSize());
-            request.setCriteriaOperator(CriteriaOperator.OR);
-            for (String str : type) {
-                request.appendCriteria(StringPool.TYPE, Operator.CONTAIN, str);
-            }
+        Specification<IssuersCredential> filter = Specification.<IssuersCredential>where(KeysetPagination.equal(StringPool.ISSUER_DID, issuerWallet.getDid()))
+                .and(KeysetPagination.equal(StringPool.HOLDER_DID, holderDid))
+                .and(KeysetPagination.equal(StringPool.CREDENTIAL_ID, credentialId))
+                .and(KeysetPagination.containsAny(StringPool.TYPES, type));
+
+        if (continuationToken != null) {
+            Validate.isFalse(StringPool.CREATED_AT.equals(sortColumn)).launch(new BadDataException(KeysetPagination.SORT_COLUMN_NOT_SUPPORTED));
+            return KeysetPagination.read(issuersCredentialRepository, filter, continuationToken, size, sortType, withTotalCount, IssuersCredential::getId)
+                    .map(IssuersCredential::getCredential);
         }
 
-        Sort sort = new Sort();
-        sort.setColumn(sortColumn);
-        sort.setSortType(SortType.valueOf(sortType.toUpperCase()));
-        filterRequest.setSort(sort);
-        Page<IssuersCredential> filter = filter(filterRequest, request, CriteriaOperator.AND);
+        Page<IssuersCredential> page = issuersCredentialRepository.findAll(filter, PageRequest.of(pageNumber, size, Sort.Direction.fromString(sortType), sortColumn));
 
-        List<VerifiableCredential> list = new ArrayList<>(filter.getContent().size());
-        for (IssuersCredential credential : filter.getContent()) {
-            list.add(credential.getData());
+        List<LazyVerifiableCredential> list = new ArrayList<>(page.getContent().size());
+        for (IssuersCredential credential : page.getContent()) {
+            list.add(credential.getCredential());
         }
-        return new PageImpl<>(list, filter.getPageable(), filter.getTotalElements());
+        return new PageImpl<>(list, page.getPageable(), page.getTotalElements());
     }
 
 
@@ -190,13 +196,20 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
      */
     @Transactional(isolation = Isolation.READ_UNCOMMITTED, propagation = Propagation.REQUIRED)
     public VerifiableCredential issueBpnCredential(Wallet baseWallet, Wallet holderWallet, boolean authority) {
-        byte[] privateKeyBytes = walletKeyService.getPrivateKeyByWalletIdentifierAsBytes(baseWallet.getId(), baseWallet.getAlgorithm());
+        AuthorityWalletContext issuer = authorityWalletService.getContext();
+        Validate.isFalse(issuer.bpn().equals(baseWallet.getBpn())).launch(new BadDataException("BPN credential can only be issued by the base wallet"));
         List<String> types = List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, MIWVerifiableCredentialType.BPN_CREDENTIAL);
         VerifiableCredentialSubject verifiableCredentialSubject = new VerifiableCredentialSubject(Map.of(StringPool.TYPE, MIWVerifiableCredentialType.BPN_CREDENTIAL,
                 StringPool.ID, holderWallet.getDid(),
                 StringPool.BPN, holderWallet.getBpn()));
-        HoldersCredential holdersCredential = CommonUtils.getHoldersCredential(verifiableCredentialSubject,
-                types, baseWallet.getDidDocument(), privateKeyBytes, holderWallet.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), authority);
+        byte[] privateKeyBytes = issuer.privateKey();
+        HoldersCredential holdersCredential;
+        try {
+            holdersCredential = CommonUtils.getHoldersCredential(verifiableCredentialSubject,
+                    types, issuer.didDocument(), issuer.verificationMethod(), privateKeyBytes, holderWallet.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), authority);
+        } finally {
+            PemUtils.wipe(privateKeyBytes);
+        }
 
         //Store Credential in holder wallet
         holdersCredential = holdersCredentialRepository.save(holdersCredential);
@@ -206,7 +219,7 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
         issuersCredentialRepository.save(issuersCredential);
 
         //update summery VC
-        updateSummeryCredentials(baseWallet.getDidDocument(), privateKeyBytes, baseWallet.getDid(), holderWallet.getBpn(), holderWallet.getDid(), MIWVerifiableCredentialType.BPN_CREDENTIAL);
+        summaryCredentialRefresher.markDirty(issuer, holderWallet.getBpn(), holderWallet.getDid(), MIWVerifiableCredentialType.BPN_CREDENTIAL);
 
         log.debug("BPN credential issued for bpn -{}", StringEscapeUtils.escapeJava(holderWallet.getBpn()));
 
@@ -229,23 +242,21 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
         //Fetch Holder Wallet
         Wallet holderWallet = commonService.getWalletByIdentifier(request.getHolderIdentifier());
 
-        Wallet baseWallet = commonService.getWalletByIdentifier(miwSettings.authorityWalletBpn());
+        AuthorityWalletContext baseWallet = authorityWalletService.getContext();
 
-        validateAccess(callerBPN, baseWallet);
-        // get Key
-        byte[] privateKeyBytes = walletKeyService.getPrivateKeyByWalletIdentifierAsBytes(baseWallet.getId(), baseWallet.getAlgorithm());
+        validateAccess(callerBPN, baseWallet.bpn());
 
         //if base wallet issue credentials to itself
         boolean isSelfIssued = isSelfIssued(holderWallet.getBpn());
 
-        VerifiableCredentialSubject subject = new VerifiableCredentialSubject(Map.of(
-                StringPool.TYPE, request.getType(),
-                StringPool.ID, holderWallet.getDid(),
-                StringPool.HOLDER_IDENTIFIER, holderWallet.getBpn(),
-                StringPool.CONTRACT_TEMPLATE, request.getContractTemplate(),
-                StringPool.CONTRACT_VERSION, request.getContractVersion()));
-        List<String> types = List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, MIWVerifiableCredentialType.USE_CASE_FRAMEWORK_CONDITION);
-        HoldersCredential holdersCredential = CommonUtils.getHoldersCredential(subject, types, baseWallet.getDidDocument(), privateKeyBytes, holderWallet.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
+        VerifiableCredentialSubject subject = frameworkCredentialSubject(request, holderWallet.getDid(), holderWallet.getBpn());
+        byte[] privateKeyBytes = baseWallet.privateKey();
+        HoldersCredential holdersCredential;
+        try {
+            holdersCredential = CommonUtils.getHoldersCredential(subject, FRAMEWORK_CREDENTIAL_TYPES, baseWallet.didDocument(), baseWallet.verificationMethod(), privateKeyBytes, holderWallet.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
+        } finally {
+            PemUtils.wipe(privateKeyBytes);
+        }
 
         //save in holder wallet
         holdersCredential = holdersCredentialRepository.save(holdersCredential);
@@ -255,7 +266,7 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
         issuersCredential = create(issuersCredential);
 
         //update summery cred
-        updateSummeryCredentials(baseWallet.getDidDocument(), privateKeyBytes, baseWallet.getDid(), holderWallet.getBpn(), holderWallet.getDid(), request.getType());
+        summaryCredentialRefresher.markDirty(baseWallet, holderWallet.getBpn(), holderWallet.getDid(), request.getType());
 
         log.debug("Framework VC of type ->{} issued to bpn ->{}", StringEscapeUtils.escapeJava(request.getType()), StringEscapeUtils.escapeJava(holderWallet.getBpn()));
 
@@ -277,15 +288,13 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
         Wallet holderWallet = commonService.getWalletByIdentifier(request.getBpn());
 
         // Fetch Issuer Wallet
-        Wallet issuerWallet = commonService.getWalletByIdentifier(miwSettings.authorityWalletBpn());
+        AuthorityWalletContext issuerWallet = authorityWalletService.getContext();
 
-        validateAccess(callerBPN, issuerWallet);
+        validateAccess(callerBPN, issuerWallet.bpn());
 
         //check duplicate
         isCredentialExit(holderWallet.getDid(), MIWVerifiableCredentialType.DISMANTLER_CREDENTIAL);
 
-        byte[] privateKeyBytes = walletKeyService.getPrivateKeyByWalletIdentifierAsBytes(issuerWallet.getId(), issuerWallet.getAlgorithm());
-
         //if base wallet issue credentials to itself
         boolean isSelfIssued = isSelfIssued(request.getBpn());
 
@@ -295,7 +304,13 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
                 StringPool.ACTIVITY_TYPE, request.getActivityType(),
                 StringPool.ALLOWED_VEHICLE_BRANDS, request.getAllowedVehicleBrands() == null ? Collections.emptySet() : request.getAllowedVehicleBrands()));
         List<String> types = List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, MIWVerifiableCredentialType.DISMANTLER_CREDENTIAL);
-        HoldersCredential holdersCredential = CommonUtils.getHoldersCredential(subject, types, issuerWallet.getDidDocument(), privateKeyBytes, holderWallet.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
+        byte[] privateKeyBytes = issuerWallet.privateKey();
+        HoldersCredential holdersCredential;
+        try {
+            holdersCredential = CommonUtils.getHoldersCredential(subject, types, issuerWallet.didDocument(), issuerWallet.verificationMethod(), privateKeyBytes, holderWallet.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
+        } finally {
+            PemUtils.wipe(privateKeyBytes);
+        }
 
 
         //save in holder wallet
@@ -306,7 +321,7 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
         issuersCredential = create(issuersCredential);
 
         //update summery VC
-        updateSummeryCredentials(issuerWallet.getDidDocument(), privateKeyBytes, issuerWallet.getDid(), holderWallet.getBpn(), holderWallet.getDid(), MIWVerifiableCredentialType.DISMANTLER_CREDENTIAL);
+        summaryCredentialRefresher.markDirty(issuerWallet, holderWallet.getBpn(), holderWallet.getDid(), MIWVerifiableCredentialType.DISMANTLER_CREDENTIAL);
 
         log.debug("Dismantler VC issued to bpn -> {}", StringEscapeUtils.escapeJava(request.getBpn()));
 
@@ -331,11 +346,10 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
         isCredentialExit(holderWallet.getDid(), VerifiableCredentialType.MEMBERSHIP_CREDENTIAL);
 
         // Fetch Issuer Wallet
-        Wallet issuerWallet = commonService.getWalletByIdentifier(miwSettings.authorityWalletBpn());
+        AuthorityWalletContext issuerWallet = authorityWalletService.getContext();
 
-        validateAccess(callerBPN, issuerWallet);
+        validateAccess(callerBPN, issuerWallet.bpn());
 
-        byte[] privateKeyBytes = walletKeyService.getPrivateKeyByWalletIdentifierAsBytes(issuerWallet.getId(), issuerWallet.getAlgorithm());
         List<String> types = List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, VerifiableCredentialType.MEMBERSHIP_CREDENTIAL);
 
         //if base wallet issue credentials to itself
@@ -345,10 +359,16 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
         VerifiableCredentialSubject verifiableCredentialSubject = new VerifiableCredentialSubject(Map.of(StringPool.TYPE, VerifiableCredentialType.MEMBERSHIP_CREDENTIAL,
                 StringPool.ID, holderWallet.getDid(),
                 StringPool.HOLDER_IDENTIFIER, holderWallet.getBpn(),
-                StringPool.MEMBER_OF, issuerWallet.getName(),
+                StringPool.MEMBER_OF, issuerWallet.name(),
                 StringPool.STATUS, "Active",
                 StringPool.START_TIME, Instant.now().toString()));
-        HoldersCredential holdersCredential = CommonUtils.getHoldersCredential(verifiableCredentialSubject, types, issuerWallet.getDidDocument(), privateKeyBytes, holderWallet.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
+        byte[] privateKeyBytes = issuerWallet.privateKey();
+        HoldersCredential holdersCredential;
+        try {
+            holdersCredential = CommonUtils.getHoldersCredential(verifiableCredentialSubject, types, issuerWallet.didDocument(), issuerWallet.verificationMethod(), privateKeyBytes, holderWallet.getDid(), miwSettings.vcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
+        } finally {
+            PemUtils.wipe(privateKeyBytes);
+        }
 
 
         //save in holder wallet
@@ -360,7 +380,7 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
         issuersCredential = create(issuersCredential);
 
         //update summery VC
-        updateSummeryCredentials(issuerWallet.getDidDocument(), privateKeyBytes, issuerWallet.getDid(), holderWallet.getBpn(), holderWallet.getDid(), VerifiableCredentialType.MEMBERSHIP_CREDENTIAL);
+        summaryCredentialRefresher.markDirty(issuerWallet, holderWallet.getBpn(), holderWallet.getDid(), VerifiableCredentialType.MEMBERSHIP_CREDENTIAL);
 
         log.debug("Membership VC issued to bpn ->{}", StringEscapeUtils.escapeJava(issueMembershipCredentialRequest.getBpn()));
 
@@ -389,7 +409,7 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
 
         Wallet issuerWallet = commonService.getWalletByIdentifier(verifiableCredential.getIssuer().toString());
 
-        validateAccess(callerBpn, issuerWallet);
+        validateAccess(callerBpn, issuerWallet.getBpn());
 
         // get issuer Key
         byte[] privateKeyBytes = walletKeyService.getPrivateKeyByWalletIdentifierAsBytes(issuerWallet.getId(), issuerWallet.getAlgorithm());
@@ -446,12 +466,35 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
     }
 
 
-    private void validateAccess(String callerBpn, Wallet issuerWallet) {
+    /**
+     * Builds the subject of a framework credential.
+     *
+     * @param request   the request
+     * @param holderDid the holder did
+     * @param holderBpn the holder bpn
+     * @return the verifiable credential subject
+     */
+    static VerifiableCredentialSubject frameworkCredentialSubject(IssueFrameworkCredentialRequest request, String holderDid, String holderBpn) {
+        return new VerifiableCredentialSubject(Map.of(
+                StringPool.TYPE, request.getType(),
+                StringPool.ID, holderDid,
+                StringPool.HOLDER_IDENTIFIER, holderBpn,
+                StringPool.CONTRACT_TEMPLATE, request.getContractTemplate(),
+                StringPool.CONTRACT_VERSION, request.getContractVersion()));
+    }
+
+    /**
+     * Validates that the caller may issue credentials with the issuer wallet.
+     *
+     * @param callerBpn the caller bpn
+     * @param issuerBpn the issuer bpn
+     */
+    void validateAccess(String callerBpn, String issuerBpn) {
         //validate BPN access, VC must be issued by base wallet
-        Validate.isFalse(callerBpn.equals(issuerWallet.getBpn())).launch(new ForbiddenException(BASE_WALLET_BPN_IS_NOT_MATCHING_WITH_REQUEST_BPN_FROM_TOKEN));
+        Validate.isFalse(callerBpn.equals(issuerBpn)).launch(new ForbiddenException(BASE_WALLET_BPN_IS_NOT_MATCHING_WITH_REQUEST_BPN_FROM_TOKEN));
 
         //issuer must be base wallet
-        Validate.isFalse(issuerWallet.getBpn().equals(miwSettings.authorityWalletBpn())).launch(new ForbiddenException(BASE_WALLET_BPN_IS_NOT_MATCHING_WITH_REQUEST_BPN_FROM_TOKEN));
+        Validate.isFalse(issuerBpn.equals(miwSettings.authorityWalletBpn())).launch(new ForbiddenException(BASE_WALLET_BPN_IS_NOT_MATCHING_WITH_REQUEST_BPN_FROM_TOKEN));
     }
 
 
@@ -462,96 +505,4 @@ public class IssuersCredentialService extends BaseService<IssuersCredential, Lon
     private boolean isSelfIssued(String holderBpn) {
         return holderBpn.equals(miwSettings.authorityWalletBpn());
     }
-
-
-    /**
-     * Update summery credentials.
-     *
-     * @param issuerDidDocument the issuer did document
-     * @param issuerPrivateKey  the issuer private key
-     * @param holderBpn         the holder bpn
-     * @param holderDid         the holder did
-     * @param type              the type
-     */
-    private void updateSummeryCredentials(DidDocument issuerDidDocument, byte[] issuerPrivateKey, String issuerDid, String holderBpn, String holderDid, String type) {
-
-        //get last issued summary vc to holder to update items
-        Page<IssuersCredential> filter = getLastIssuedSummaryCredential(issuerDid, holderDid);
-        List<String> items;
-        if (!filter.getContent().isEmpty()) {
-            IssuersCredential issuersCredential = filter.getContent().get(0);
-
-            //check if summery VC has subject
-            Validate.isTrue(issuersCredential.getData().getCredentialSubject().isEmpty()).launch(new BadDataException("VC subject not found in existing su,,ery VC"));
-
-            //Check if we have only one subject in summery VC
-            Validate.isTrue(issuersCredential.getData().getCredentialSubject().size() > 1).launch(new BadDataException("VC subjects can more then 1 in case of summery VC"));
-
-            VerifiableCredentialSubject subject = issuersCredential.getData().getCredentialSubject().get(0);
-            if (subject.containsKey(StringPool.ITEMS)) {
-                items = (List<String>) subject.get(StringPool.ITEMS);
-                if (!items.contains(type)) {
-                    items.add(type);
-                }
-            } else {
-                items = List.of(type);
-
-            }
-        } else {
-            items = List.of(type);
-        }
-        log.debug("Issuing summary VC with items ->{}", StringEscapeUtils.escapeJava(items.toString()));
-
-        //get summery VC of holder
-        List<HoldersCredential> vcs = holdersCredentialRepository.getByHolderDidAndIssuerDidAndTypeAndStored(holderDid, issuerDid, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL, false); //deleted only not stored VC
-        if (CollectionUtils.isEmpty(vcs)) {
-            log.debug("No summery VC found for did ->{}, checking in issuer", StringEscapeUtils.escapeJava(holderDid));
-        } else {
-            //delete old summery VC from holder table, delete only not stored VC
-            log.debug("Deleting older summary VC fir bpn -{}", holderBpn);
-            holdersCredentialRepository.deleteAll(vcs);
-        }
-
-        //issue new summery VC
-        boolean isSelfIssued = isSelfIssued(holderBpn);
-
-        VerifiableCredentialSubject subject = new VerifiableCredentialSubject(Map.of(StringPool.ID, holderDid,
-                StringPool.HOLDER_IDENTIFIER, holderBpn,
-                StringPool.ITEMS, items,
-                StringPool.TYPE, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL,
-                StringPool.CONTRACT_TEMPLATE, miwSettings.contractTemplatesUrl()));
-
-        List<String> types = List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL);
-        HoldersCredential holdersCredential = CommonUtils.getHoldersCredential(subject, types,
-                issuerDidDocument,
-                issuerPrivateKey,
-                holderDid, miwSettings.summaryVcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
-
-
-        //save in holder wallet
-        holdersCredentialRepository.save(holdersCredential);
-
-        //Store Credential in issuers table
-        issuersCredentialRepository.save(IssuersCredential.of(holdersCredential));
-
-        log.info("Summery VC updated for holder did -> {}", StringEscapeUtils.escapeJava(holderDid));
-    }
-
-    private Page<IssuersCredential> getLastIssuedSummaryCredential(String issuerDid, String holderDid) {
-        FilterRequest filterRequest = new FilterRequest();
-
-        //we need latest one record
-        filterRequest.setPage(0);
-        filterRequest.setSize(1);
-        Sort sort = new Sort();
-        sort.setColumn(StringPool.CREATED_AT);
-        sort.setSortType(SortType.valueOf("desc".toUpperCase()));
-        filterRequest.setSort(sort);
-
-        filterRequest.appendCriteria(StringPool.HOLDER_DID, Operator.EQUALS, holderDid);
-        filterRequest.appendCriteria(StringPool.ISSUER_DID, Operator.EQUALS, issuerDid);
-        filterRequest.appendCriteria(StringPool.TYPE, Operator.EQUALS, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL);
-
-        return filter(filterRequest);
-    }
 }
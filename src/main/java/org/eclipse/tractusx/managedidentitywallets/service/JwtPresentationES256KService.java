@@ -22,32 +22,33 @@
 package org.eclipse.tractusx.managedidentitywallets.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.nimbusds.jose.Algorithm;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObjectType;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.crypto.ECDSASigner;
-import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
-import com.nimbusds.jose.jwk.Curve;
 import com.nimbusds.jose.jwk.ECKey;
-import com.nimbusds.jose.jwk.KeyUse;
-import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
 import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
 import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.WalletKey;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.domain.PooledKeyPair;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
 import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
 import org.eclipse.tractusx.managedidentitywallets.exception.SignatureFailureException;
-import org.eclipse.tractusx.managedidentitywallets.exception.UnsupportedAlgorithmException;
-import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.eclipse.tractusx.managedidentitywallets.keystore.SigningHandleJWSSigner;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocumentBuilder;
@@ -59,30 +60,28 @@ import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCreden
 import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentationBuilder;
 import org.eclipse.tractusx.ssi.lib.serialization.jsonLd.JsonLdSerializer;
+import org.eclipse.tractusx.ssi.lib.serialization.jsonLd.JsonLdSerializerImpl;
 import org.eclipse.tractusx.ssi.lib.serialization.jwt.SerializedVerifiablePresentation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.io.IOException;
 import java.net.URI;
-import java.security.interfaces.ECPrivateKey;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.COLON_SEPARATOR;
-import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.PRIVATE_KEY;
-import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.PUBLIC_KEY;
 import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.REFERENCE_KEY;
 import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.VAULT_ACCESS_TOKEN;
-import static org.eclipse.tractusx.managedidentitywallets.utils.CommonUtils.getKeyString;
 import static org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethod.JWK_CURVE;
 import static org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethod.JWK_KEK_TYPE;
 import static org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethod.JWK_X;
@@ -98,74 +97,100 @@ public class JwtPresentationES256KService {
 
     public static final String JWK_Y = "y";
 
-    private JsonLdSerializer jsonLdSerializer;
-    private Did agentDid;
-    private WalletRepository walletRepository;
-    private EncryptionUtils encryptionUtils;
-    private WalletKeyService walletKeyService;
-    private MIWSettings miwSettings;
+    /**
+     * The name under which the signer cache metrics are published.
+     */
+    public static final String PRESENTATION_SIGNERS_CACHE = "presentationSigners";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JsonLdSerializer jsonLdSerializer = new JsonLdSerializerImpl();
+    private final WalletRepository walletRepository;
+    private final WalletKeyPairPool walletKeyPairPool;
+    private final WalletKeyService walletKeyService;
+    private final MIWSettings miwSettings;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<Long, JWSSigner> signerCache;
 
     @Autowired
-    public JwtPresentationES256KService(WalletRepository walletRepository, EncryptionUtils encryptionUtils, WalletKeyService walletKeyService, MIWSettings miwSettings) {
+    public JwtPresentationES256KService(WalletRepository walletRepository, WalletKeyPairPool walletKeyPairPool, WalletKeyService walletKeyService,
+                                        MIWSettings miwSettings, ApplicationEventPublisher eventPublisher, CacheSettings cacheSettings,
+                                        MeterRegistry meterRegistry) {
         this.walletRepository = walletRepository;
-        this.encryptionUtils = encryptionUtils;
+        this.walletKeyPairPool = walletKeyPairPool;
         this.walletKeyService = walletKeyService;
         this.miwSettings = miwSettings;
+        this.eventPublisher = eventPublisher;
+        this.signerCache = Caffeine.newBuilder()
+                .maximumSize(cacheSettings.presentationSigners().maximumSize())
+                .expireAfterWrite(cacheSettings.presentationSigners().expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, signerCache, PRESENTATION_SIGNERS_CACHE);
     }
 
-    public JwtPresentationES256KService(Did agentDid, JsonLdSerializer jsonLdSerializer) {
-        this.agentDid = agentDid;
-        this.jsonLdSerializer = jsonLdSerializer;
-    }
-
-    public SignedJWT createPresentation(Did issuer, List<VerifiableCredential> credentials, String audience, ECPrivateKey ecPrivateKey) {
+    /**
+     * Create a VP as JWT signed with the ES256K key of the issuer wallet.
+     *
+     * @param issuer      the issuer
+     * @param credentials the credentials
+     * @param audience    the audience
+     * @param walletId    the id of the issuer wallet
+     * @return the signed JWT
+     */
+    public SignedJWT createPresentation(Did issuer, List<VerifiableCredential> credentials, String audience, long walletId) {
         VerifiablePresentationBuilder verifiablePresentationBuilder = new VerifiablePresentationBuilder();
         final VerifiablePresentation verifiablePresentation =
                 verifiablePresentationBuilder
-                        .id(URI.create(agentDid.toUri() + "#" + UUID.randomUUID()))
+                        .id(URI.create(issuer.toUri() + "#" + UUID.randomUUID()))
                         .type(List.of("VerifiablePresentation"))
                         .verifiableCredentials(credentials)
                         .build();
         final SerializedVerifiablePresentation serializedVerifiablePresentation =
                 jsonLdSerializer.serializePresentation(verifiablePresentation);
-        return createSignedJwt(verifiablePresentation.getId(), issuer, audience, serializedVerifiablePresentation, ecPrivateKey);
+        return createSignedJwt(verifiablePresentation.getId(), issuer, audience, serializedVerifiablePresentation, getSigner(walletId));
+    }
+
+    /**
+     * Removes the cached signer of a wallet once the transaction changing its keys has been committed.
+     *
+     * @param event the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletKeyChanged(WalletKeyChangedEvent event) {
+        signerCache.invalidate(event.walletId());
     }
 
     @Transactional(isolation = Isolation.READ_UNCOMMITTED, propagation = Propagation.REQUIRES_NEW)
-    public Wallet storeWalletKeyES256K(Wallet wallet, String keyId) {
-        try {
-            ECKey ecKey = new ECKeyGenerator(Curve.SECP256K1)
-                    .keyUse(KeyUse.SIGNATURE)
-                    .keyID(keyId)
-                    .provider(BouncyCastleProviderSingleton.getInstance())
-                    .generate();
-
-            Did did = getDidFromDidString(wallet.getDid());
-
-            JWKVerificationMethod jwkVerificationMethod = getJwkVerificationMethod(ecKey, did);
-            DidDocument didDocument = wallet.getDidDocument();
-            List<VerificationMethod> verificationMethods = didDocument.getVerificationMethods();
-            verificationMethods.add(jwkVerificationMethod);
-            DidDocument updatedDidDocument = buildDidDocument(wallet.getBpn(), did, verificationMethods);
-
-            wallet = walletRepository.getByDid(wallet.getDid());
-            wallet.setDidDocument(updatedDidDocument);
-            walletRepository.save(wallet);
-
-            WalletKey walletKeyES256K = WalletKey.builder()
-                    .wallet(wallet)
-                    .keyId(keyId)
-                    .referenceKey(REFERENCE_KEY)
-                    .vaultAccessToken(VAULT_ACCESS_TOKEN)
-                    .privateKey(encryptionUtils.encrypt(getKeyString(ecKey.toECPrivateKey().getEncoded(), PRIVATE_KEY)))
-                    .publicKey(encryptionUtils.encrypt(getKeyString(ecKey.toECPublicKey().getEncoded(), PUBLIC_KEY)))
-                    .algorithm(SupportedAlgorithms.ES256K.toString())
-                    .build();
-            //Save key ES256K
-            walletKeyService.getRepository().save(walletKeyES256K);
-        } catch (JOSEException e) {
-            throw new BadDataException("Could not generate EC Jwk", e);
-        }
+    public Wallet storeWalletKeyES256K(Wallet wallet) {
+        PooledKeyPair<ECKey> pooledKeyPair = walletKeyPairPool.takeES256K();
+        ECKey ecKey = pooledKeyPair.keyPair();
+
+        Did did = getDidFromDidString(wallet.getDid());
+
+        JWKVerificationMethod jwkVerificationMethod = getJwkVerificationMethod(ecKey, did);
+        DidDocument didDocument = wallet.getDidDocument();
+        List<VerificationMethod> verificationMethods = didDocument.getVerificationMethods();
+        verificationMethods.add(jwkVerificationMethod);
+        DidDocument updatedDidDocument = buildDidDocument(wallet.getBpn(), did, verificationMethods);
+
+        wallet = walletRepository.getByDid(wallet.getDid());
+        wallet.setDidDocument(updatedDidDocument);
+        walletRepository.save(wallet);
+
+        WalletKey walletKeyES256K = WalletKey.builder()
+                .wallet(wallet)
+                .keyId(pooledKeyPair.keyId())
+                .referenceKey(REFERENCE_KEY)
+                .vaultAccessToken(VAULT_ACCESS_TOKEN)
+                .privateKey(pooledKeyPair.encryptedPrivateKey())
+                .publicKey(pooledKeyPair.encryptedPublicKey())
+                .algorithm(SupportedAlgorithms.ES256K.toString())
+                .build();
+        //Save key ES256K
+        walletKeyService.getRepository().save(walletKeyES256K);
+        eventPublisher.publishEvent(new WalletKeyChangedEvent(wallet.getId()));
+        eventPublisher.publishEvent(new DidDocumentChangedEvent(wallet.getDid(), wallet.getBpn()));
         return wallet;
     }
 
@@ -207,11 +232,11 @@ public class JwtPresentationES256KService {
         return didDocument;
     }
 
-    public SignedJWT createSignedJwt(URI id, Did didIssuer, String audience, SerializedVerifiablePresentation serializedPresentation, ECPrivateKey ecPrivateKey) {
+    private SignedJWT createSignedJwt(URI id, Did didIssuer, String audience, SerializedVerifiablePresentation serializedPresentation, JWSSigner signer) {
         String issuer = didIssuer.toString();
         String subject = didIssuer.toString();
         try {
-            Map<String, Object> vp = new ObjectMapper().readValue(serializedPresentation.getJson(), HashMap.class);
+            Map<String, Object> vp = OBJECT_MAPPER.readValue(serializedPresentation.getJson(), HashMap.class);
             JWTClaimsSet claimsSet = (new JWTClaimsSet.Builder())
                     .issuer(issuer)
                     .subject(subject)
@@ -220,27 +245,27 @@ public class JwtPresentationES256KService {
                     .expirationTime(new Date((new Date()).getTime() + 60000L))
                     .jwtID(id.toString())
                     .build();
-            return createSignedES256KJwt(ecPrivateKey, claimsSet, issuer);
+            return createSignedES256KJwt(signer, claimsSet, issuer);
         } catch (IOException e) {
             throw new BadDataException("Incorrect VP serialization");
         }
     }
 
-    private static SignedJWT createSignedES256KJwt(ECPrivateKey ecPrivateKey, JWTClaimsSet claimsSet, String issuer) {
+    /**
+     * Gets the cached signer of a wallet. The signer wraps a signing handle, which resolves and parses the key once.
+     */
+    private JWSSigner getSigner(long walletId) {
+        return signerCache.get(walletId, key -> new SigningHandleJWSSigner(walletKeyService.getSigningHandle(key, SupportedAlgorithms.ES256K)));
+    }
+
+    private static SignedJWT createSignedES256KJwt(JWSSigner signer, JWTClaimsSet claimsSet, String issuer) {
         try {
-            JWSSigner signer = new ECDSASigner(ecPrivateKey);
-            signer.getJCAContext().setProvider(BouncyCastleProviderSingleton.getInstance());
-            if (!signer.supportedJWSAlgorithms().contains(JWSAlgorithm.ES256K)) {
-                throw new UnsupportedAlgorithmException(String.format("Invalid signing method. Supported signing methods: %s",
-                        signer.supportedJWSAlgorithms().stream().map(Algorithm::getName).collect(Collectors.joining(", "))));
-            } else {
-                JWSAlgorithm algorithm = JWSAlgorithm.ES256K;
-                JOSEObjectType type = JOSEObjectType.JWT;
-                JWSHeader header = new JWSHeader.Builder(algorithm).type(type).keyID(issuer).base64URLEncodePayload(true).build();
-                SignedJWT vc = new SignedJWT(header, claimsSet);
-                vc.sign(signer);
-                return vc;
-            }
+            JWSAlgorithm algorithm = JWSAlgorithm.ES256K;
+            JOSEObjectType type = JOSEObjectType.JWT;
+            JWSHeader header = new JWSHeader.Builder(algorithm).type(type).keyID(issuer).base64URLEncodePayload(true).build();
+            SignedJWT vc = new SignedJWT(header, claimsSet);
+            vc.sign(signer);
+            return vc;
         } catch (JOSEException e) {
             throw new SignatureFailureException("Creating signature failed", e);
         }
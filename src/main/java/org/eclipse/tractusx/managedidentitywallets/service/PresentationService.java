@@ -39,13 +39,14 @@ import org.eclipse.tractusx.managedidentitywallets.dao.entity.JtiRecord;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredentialRepository;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.JtiRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.CredentialVerificationResult;
+import org.eclipse.tractusx.managedidentitywallets.domain.CredentialsByType;
 import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
 import org.eclipse.tractusx.managedidentitywallets.exception.MissingVcTypesException;
 import org.eclipse.tractusx.managedidentitywallets.exception.PermissionViolationException;
 import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
 import org.eclipse.tractusx.ssi.lib.crypt.octet.OctetKeyPairFactory;
 import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559PrivateKey;
-import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
 import org.eclipse.tractusx.ssi.lib.exception.InvalidJsonLdException;
 import org.eclipse.tractusx.ssi.lib.exception.InvalidePrivateKeyFormat;
 import org.eclipse.tractusx.ssi.lib.exception.JwtExpiredException;
@@ -58,7 +59,6 @@ import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCreden
 import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentation;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentationBuilder;
 import org.eclipse.tractusx.ssi.lib.model.verifiable.presentation.VerifiablePresentationType;
-import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
 import org.eclipse.tractusx.ssi.lib.serialization.jsonLd.JsonLdSerializerImpl;
 import org.eclipse.tractusx.ssi.lib.serialization.jwt.SerializedJwtPresentationFactory;
 import org.eclipse.tractusx.ssi.lib.serialization.jwt.SerializedJwtPresentationFactoryImpl;
@@ -67,12 +67,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.net.URI;
-import java.security.interfaces.ECPrivateKey;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.BLANK_SEPARATOR;
@@ -107,6 +108,10 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
 
     private final JtiRepository jtiRepository;
 
+    private final JwtPresentationES256KService jwtPresentationES256KService;
+
+    private final CredentialVerificationService credentialVerificationService;
+
     @Override
     protected BaseRepository<HoldersCredential, Long> getRepository() {
         return holdersCredentialRepository;
@@ -146,7 +151,7 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
                                         List<VerifiableCredential> verifiableCredentials, SupportedAlgorithms algorithm) {
         Map<String, Object> response = new HashMap<>();
         if (asJwt && algorithm.equals(SupportedAlgorithms.ES256K)) {
-            buildVPJwtES256K(audience, callerBpn, callerWallet, verifiableCredentials, algorithm, response);
+            buildVPJwtES256K(audience, callerBpn, callerWallet, verifiableCredentials, response);
         } else if (asJwt && algorithm.equals(SupportedAlgorithms.ED25519)) {
             buildVPJwtEdDSA(audience, callerBpn, callerWallet, verifiableCredentials, algorithm, response);
         } else {
@@ -182,25 +187,26 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
         response.put(StringPool.VP, presentation.serialize());
     }
 
-    private void buildVPJwtES256K(String audience, String callerBpn, Wallet callerWallet, List<VerifiableCredential> verifiableCredentials, SupportedAlgorithms algorithm, Map<String, Object> response) {
-        Pair<Did, Object> result = getPrivateKey(callerWallet, algorithm, audience, callerBpn);
-        ECPrivateKey ecPrivateKey = (ECPrivateKey) result.getRight();
-
-        JwtPresentationES256KService presentationFactory = new JwtPresentationES256KService(result.getLeft(), new JsonLdSerializerImpl());
-        SignedJWT presentation = presentationFactory.createPresentation(result.getLeft(), verifiableCredentials, audience, ecPrivateKey);
+    private void buildVPJwtES256K(String audience, String callerBpn, Wallet callerWallet, List<VerifiableCredential> verifiableCredentials, Map<String, Object> response) {
+        Did vpIssuerDid = getVpIssuerDid(callerWallet, audience, callerBpn);
+        SignedJWT presentation = jwtPresentationES256KService.createPresentation(vpIssuerDid, verifiableCredentials, audience, callerWallet.getId());
 
         response.put(StringPool.VP, presentation.serialize());
     }
 
     private Pair<Did, Object> getPrivateKey(Wallet callerWallet, SupportedAlgorithms algorithm, String audience, String callerBpn) {
+        Did vpIssuerDid = getVpIssuerDid(callerWallet, audience, callerBpn);
+
+        //Build JWT
+        return Pair.of(vpIssuerDid, walletKeyService.getPrivateKeyByWalletIdentifierAndAlgorithm(callerWallet.getId(), algorithm));
+    }
+
+    private Did getVpIssuerDid(Wallet callerWallet, String audience, String callerBpn) {
         log.debug("Creating VP as JWT for bpn ->{}", callerBpn);
         Validate.isFalse(StringUtils.hasText(audience)).launch(new BadDataException("Audience needed to create VP as JWT"));
 
         //Issuer of VP is holder of VC
-        Did vpIssuerDid = DidParser.parse(callerWallet.getDid());
-
-        //Build JWT
-        return Pair.of(vpIssuerDid, walletKeyService.getPrivateKeyByWalletIdentifierAndAlgorithm(callerWallet.getId(), algorithm));
+        return DidParser.parse(callerWallet.getDid());
     }
 
 
@@ -247,10 +253,11 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
 
                 for (VerifiableCredential credential : presentation.getVerifiableCredentials()) {
                     validateExpiryDate = CommonService.validateExpiry(withCredentialExpiryDate, credential, response);
-                    if (!validateCredential(credential)) {
-                        validCredential = false;
-                    }
                 }
+
+                List<CredentialVerificationResult> credentialResults = credentialVerificationService.verifyAll(presentation.getVerifiableCredentials());
+                validCredential = credentialResults.stream().allMatch(CredentialVerificationResult::valid);
+                response.put(StringPool.VALIDATE_CREDENTIALS, credentialResults);
             } catch (InvalidJsonLdException e) {
                 throw new BadDataException(String.format("Invalid Json-LD: %s", e.getMessage()));
             }
@@ -309,29 +316,12 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
         }
     }
 
-    @SneakyThrows
-    private boolean validateCredential(VerifiableCredential credential) {
-        final DidResolver resolver = didDocumentResolverService.getCompositeDidResolver();
-        final LinkedDataProofValidation linkedDataProofValidation = LinkedDataProofValidation.newInstance(resolver);
-        final boolean isValid = linkedDataProofValidation.verify(credential);
-
-        if (isValid) {
-            log.debug("Credential validation result: (valid: {}, credential-id: {})", isValid, credential.getId());
-        } else {
-            log.info("Credential validation result: (valid: {}, credential-id: {})", isValid, credential.getId());
-        }
-        return isValid;
-    }
-
     public Map<String, Object> createVpWithRequiredScopes(SignedJWT innerJWT, boolean asJwt) {
 
         JWTClaimsSet jwtClaimsSet = getClaimsSet(innerJWT);
         JtiRecord jtiRecord = getJtiRecord(jwtClaimsSet);
 
-        List<HoldersCredential> holdersCredentials = new ArrayList<>();
-        List<String> missingVCTypes = new ArrayList<>();
-        List<VerifiableCredential> verifiableCredentials = new ArrayList<>();
-
+        Set<String> vcTypes = new LinkedHashSet<>();
         String scopeValue = getScope(jwtClaimsSet);
         String[] scopes = scopeValue.split(BLANK_SEPARATOR);
 
@@ -339,22 +329,16 @@ public class PresentationService extends BaseService<HoldersCredential, Long> {
             String[] scopeParts = scope.split(COLON_SEPARATOR);
             String vcType = scopeParts[1];
             checkReadPermission(scopeParts[2]);
-            String vcTypeNoVersion = removeVersion(vcType);
-
-            List<HoldersCredential> credentials =
-                    holdersCredentialRepository.getByHolderDidAndType(jwtClaimsSet.getIssuer(), vcTypeNoVersion);
-            if ((null == credentials) || credentials.isEmpty()) {
-                missingVCTypes.add(vcTypeNoVersion);
-            } else {
-                holdersCredentials.addAll(credentials);
-            }
+            vcTypes.add(removeVersion(vcType));
         }
 
-        checkMissingVcs(missingVCTypes);
-
         Wallet callerWallet = commonService.getWalletByIdentifier(jwtClaimsSet.getIssuer());
 
-        holdersCredentials.forEach(c -> verifiableCredentials.add(c.getData()));
+        CredentialsByType credentialsByType = holdersCredentialRepository.getByHolderDidAndTypeIn(callerWallet.getDid(), vcTypes);
+        checkMissingVcs(credentialsByType.missingTypes());
+
+        List<VerifiableCredential> verifiableCredentials = new ArrayList<>(credentialsByType.credentials().size());
+        credentialsByType.credentials().forEach(c -> verifiableCredentials.add(c.getData()));
 
         // if as JWT true -> get key ES256K and sign with it
         Map<String, Object> vp = buildVP(asJwt, jwtClaimsSet.getAudience().get(0), callerWallet.getBpn(),
@@ -96,7 +96,7 @@ public class SecureTokenServiceImpl implements SecureTokenService {
                 .orElseThrow(() -> new UnknownBusinessPartnerNumberException(String.format("The provided BPN '%s' is unknown", self)));
         KeyPair keyPair = walletKey.toDto();
         DID selfDid = new DID(walletKey.getWallet().getDid());
-        DID partnerDid = new DID(Optional.ofNullable(walletRepository.getByBpn(partner.toString()))
+        DID partnerDid = new DID(Optional.ofNullable(walletRepository.findIdentityByBpn(partner.toString()))
                 .orElseThrow(() -> new UnknownBusinessPartnerNumberException(String.format("The provided BPN '%s' is unknown", partner)))
                 .getDid());
         // IMPORTANT: we re-use the expiration time intentionally to mitigate any kind of timing attacks,
@@ -113,7 +113,7 @@ public class SecureTokenServiceImpl implements SecureTokenService {
                 .orElseThrow(() -> new UnknownBusinessPartnerNumberException(String.format("The provided BPN '%s' is unknown", self)));
         KeyPair keyPair = walletKey.toDto();
         DID selfDid = new DID(walletKey.getWallet().getDid());
-        DID partnerDid = new DID(Optional.of(walletRepository.getByBpn(partner.toString()))
+        DID partnerDid = new DID(Optional.of(walletRepository.findIdentityByBpn(partner.toString()))
                 .orElseThrow(() -> new UnknownBusinessPartnerNumberException(String.format("The provided BPN '%s' is unknown", partner)))
                 .getDid());
         Instant expirationTime = Instant.now().plus(properties.tokenDuration());
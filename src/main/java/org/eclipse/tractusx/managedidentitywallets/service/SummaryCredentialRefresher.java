@@ -0,0 +1,347 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.SummaryCredentialSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.MIWVerifiableCredentialType;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.IssuersCredential;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.IssuersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.AuthorityWalletContext;
+import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
+import org.eclipse.tractusx.managedidentitywallets.utils.CommonUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.KeysetPagination;
+import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regenerates the summary credential of a holder once for all credentials issued to it, instead of once per credential.
+ * <p>
+ * Issuances mark the (issuer, holder) pair dirty. By default the summary credentials of all pairs marked by a
+ * transaction are regenerated right before it commits, in the same transaction. With a debounce window, the pairs are
+ * queued once the transaction has committed and each one is regenerated when its window ends, on a single thread so
+ * two regenerations of a holder never overlap. Queued pairs are regenerated on shutdown, but are lost if the
+ * application stops abruptly.
+ * <p>
+ * The items of the new summary credential are those of the last one issued to the holder plus all marked types.
+ */
+@Slf4j
+@Component
+public class SummaryCredentialRefresher {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final IssuersCredentialRepository issuersCredentialRepository;
+
+    private final HoldersCredentialRepository holdersCredentialRepository;
+
+    private final MIWSettings miwSettings;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration debounce;
+
+    private final Map<SummaryKey, DirtySummary> queued = new ConcurrentHashMap<>();
+
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "summary-credential-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer refreshTimer;
+
+    private final Counter coalescedCounter;
+
+    private final Counter failedCounter;
+
+    /**
+     * Instantiates a new Summary credential refresher.
+     *
+     * @param issuersCredentialRepository the issuers credential repository
+     * @param holdersCredentialRepository the holders credential repository
+     * @param miwSettings                 the miw settings
+     * @param settings                    the summary credential settings
+     * @param transactionManager          the transaction manager
+     * @param meterRegistry               the meter registry
+     */
+    public SummaryCredentialRefresher(IssuersCredentialRepository issuersCredentialRepository, HoldersCredentialRepository holdersCredentialRepository,
+                                      MIWSettings miwSettings, SummaryCredentialSettings settings,
+                                      @Qualifier("transactionManager") PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.issuersCredentialRepository = issuersCredentialRepository;
+        this.holdersCredentialRepository = holdersCredentialRepository;
+        this.miwSettings = miwSettings;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.debounce = settings.debounce() == null || settings.debounce().isNegative() ? Duration.ZERO : settings.debounce();
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        Gauge.builder("miw.summary.credential.queued", queued, Map::size)
+                .description("Number of holders waiting for the debounced regeneration of their summary credential")
+                .register(meterRegistry);
+        refreshTimer = Timer.builder("miw.summary.credential.refresh")
+                .description("Regenerations of summary credentials")
+                .register(meterRegistry);
+        coalescedCounter = Counter.builder("miw.summary.credential.coalesced")
+                .description("Number of issuances added to a summary credential regeneration already pending")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("miw.summary.credential.failed")
+                .description("Number of debounced summary credential regenerations that failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Marks the summary credential of a holder to be regenerated with the type among its items.
+     *
+     * @param issuer    the authority wallet issuing the summary credential
+     * @param holderBpn the holder bpn
+     * @param holderDid the holder did
+     * @param type      the type of the issued credential
+     */
+    public void markDirty(AuthorityWalletContext issuer, String holderBpn, String holderDid, String type) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (debounce.isZero()) {
+                DirtySummary summary = new DirtySummary(issuer, holderBpn, holderDid);
+                summary.types.add(type);
+                refresh(summary);
+            } else {
+                queue(issuer, holderBpn, holderDid, Set.of(type));
+            }
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<SummaryKey, DirtySummary> marked = (Map<SummaryKey, DirtySummary>) TransactionSynchronizationManager.getResource(this);
+        if (marked == null) {
+            Map<SummaryKey, DirtySummary> transactionMarked = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, transactionMarked);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (debounce.isZero()) {
+                        transactionMarked.values().forEach(SummaryCredentialRefresher.this::refresh);
+                    }
+                }
+
+                @Override
+                public void afterCommit() {
+                    if (!debounce.isZero()) {
+                        transactionMarked.values().forEach(summary -> queue(summary.issuer, summary.holderBpn, summary.holderDid, summary.types));
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SummaryCredentialRefresher.this);
+                }
+            });
+            marked = transactionMarked;
+        }
+        DirtySummary summary = marked.get(new SummaryKey(issuer.did(), holderDid));
+        if (summary == null) {
+            summary = new DirtySummary(issuer, holderBpn, holderDid);
+            marked.put(new SummaryKey(issuer.did(), holderDid), summary);
+        } else {
+            coalescedCounter.increment();
+        }
+        summary.types.add(type);
+    }
+
+    /**
+     * Regenerates the queued summary credentials, so none is lost on shutdown. A regeneration already running is
+     * left to finish first, as its pair is no longer queued.
+     */
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Summary credential regeneration did not finish within {}", SHUTDOWN_TIMEOUT);
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        queued.keySet().forEach(this::refreshQueued);
+    }
+
+    private void queue(AuthorityWalletContext issuer, String holderBpn, String holderDid, Set<String> types) {
+        SummaryKey key = new SummaryKey(issuer.did(), holderDid);
+        queued.compute(key, (k, summary) -> {
+            if (summary == null) {
+                summary = new DirtySummary(issuer, holderBpn, holderDid);
+                scheduler.schedule(() -> refreshQueued(k), debounce.toMillis(), TimeUnit.MILLISECONDS);
+            } else {
+                coalescedCounter.increment();
+            }
+            summary.types.addAll(types);
+            return summary;
+        });
+    }
+
+    private void refreshQueued(SummaryKey key) {
+        DirtySummary summary = queued.remove(key);
+        if (summary == null) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> refresh(summary));
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Could not regenerate the summary VC of holder did -> {}", StringEscapeUtils.escapeJava(summary.holderDid), e);
+        }
+    }
+
+    private void refresh(DirtySummary dirty) {
+        refreshTimer.record(() -> regenerate(dirty));
+    }
+
+    private void regenerate(DirtySummary dirty) {
+        AuthorityWalletContext issuer = dirty.issuer;
+        String issuerDid = issuer.did();
+        String holderDid = dirty.holderDid;
+
+        //get last issued summary vc to holder to update items
+        List<IssuersCredential> lastIssued = getLastIssuedSummaryCredential(issuerDid, holderDid);
+        List<String> items = new ArrayList<>();
+        if (!lastIssued.isEmpty()) {
+            VerifiableCredential lastSummary = lastIssued.get(0).getData();
+
+            //check if summery VC has subject
+            Validate.isTrue(lastSummary.getCredentialSubject().isEmpty()).launch(new BadDataException("VC subject not found in existing su,,ery VC"));
+
+            //Check if we have only one subject in summery VC
+            Validate.isTrue(lastSummary.getCredentialSubject().size() > 1).launch(new BadDataException("VC subjects can more then 1 in case of summery VC"));
+
+            VerifiableCredentialSubject subject = lastSummary.getCredentialSubject().get(0);
+            if (subject.containsKey(StringPool.ITEMS)) {
+                items.addAll((List<String>) subject.get(StringPool.ITEMS));
+            }
+        }
+        for (String type : dirty.types) {
+            if (!items.contains(type)) {
+                items.add(type);
+            }
+        }
+        log.debug("Issuing summary VC with items ->{}", StringEscapeUtils.escapeJava(items.toString()));
+
+        //get summery VC of holder
+        List<HoldersCredential> vcs = holdersCredentialRepository.getByHolderDidAndIssuerDidAndTypeAndStored(holderDid, issuerDid, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL, false); //deleted only not stored VC
+        if (vcs.isEmpty()) {
+            log.debug("No summery VC found for did ->{}, checking in issuer", StringEscapeUtils.escapeJava(holderDid));
+        } else {
+            //delete old summery VC from holder table, delete only not stored VC
+            log.debug("Deleting older summary VC fir bpn -{}", StringEscapeUtils.escapeJava(dirty.holderBpn));
+            holdersCredentialRepository.deleteAll(vcs);
+        }
+
+        //issue new summery VC
+        boolean isSelfIssued = dirty.holderBpn.equals(miwSettings.authorityWalletBpn());
+
+        VerifiableCredentialSubject subject = new VerifiableCredentialSubject(Map.of(StringPool.ID, holderDid,
+                StringPool.HOLDER_IDENTIFIER, dirty.holderBpn,
+                StringPool.ITEMS, items,
+                StringPool.TYPE, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL,
+                StringPool.CONTRACT_TEMPLATE, miwSettings.contractTemplatesUrl()));
+
+        List<String> types = List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL);
+        byte[] privateKeyBytes = issuer.privateKey();
+        HoldersCredential holdersCredential;
+        try {
+            holdersCredential = CommonUtils.getHoldersCredential(subject, types,
+                    issuer.didDocument(),
+                    issuer.verificationMethod(),
+                    privateKeyBytes,
+                    holderDid, miwSettings.summaryVcContexts(), miwSettings.vcExpiryDate(), isSelfIssued);
+        } finally {
+            PemUtils.wipe(privateKeyBytes);
+        }
+
+        //save in holder wallet
+        holdersCredentialRepository.save(holdersCredential);
+
+        //Store Credential in issuers table
+        issuersCredentialRepository.save(IssuersCredential.of(holdersCredential));
+
+        log.info("Summery VC updated for holder did -> {}", StringEscapeUtils.escapeJava(holderDid));
+    }
+
+    private List<IssuersCredential> getLastIssuedSummaryCredential(String issuerDid, String holderDid) {
+        //we need latest one record
+        Specification<IssuersCredential> filter = Specification.<IssuersCredential>where(KeysetPagination.equal(StringPool.HOLDER_DID, holderDid))
+                .and(KeysetPagination.equal(StringPool.ISSUER_DID, issuerDid))
+                .and(KeysetPagination.containsAny(StringPool.TYPES, List.of(MIWVerifiableCredentialType.SUMMARY_CREDENTIAL)));
+        return issuersCredentialRepository.findAll(filter, PageRequest.of(0, 1, Sort.Direction.DESC, StringPool.CREATED_AT)).getContent();
+    }
+
+    private record SummaryKey(String issuerDid, String holderDid) {
+    }
+
+    private static final class DirtySummary {
+
+        private final AuthorityWalletContext issuer;
+
+        private final String holderBpn;
+
+        private final String holderDid;
+
+        private final Set<String> types = new LinkedHashSet<>();
+
+        private DirtySummary(AuthorityWalletContext issuer, String holderBpn, String holderDid) {
+            this.issuer = issuer;
+            this.holderBpn = holderBpn;
+            this.holderDid = holderDid;
+        }
+    }
+}
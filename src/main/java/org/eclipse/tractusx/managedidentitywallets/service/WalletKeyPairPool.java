@@ -0,0 +1,266 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.config.KeyPairPoolSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.domain.PooledKeyPair;
+import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
+import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
+import org.eclipse.tractusx.ssi.lib.crypt.IKeyGenerator;
+import org.eclipse.tractusx.ssi.lib.crypt.IPrivateKey;
+import org.eclipse.tractusx.ssi.lib.crypt.IPublicKey;
+import org.eclipse.tractusx.ssi.lib.crypt.KeyPair;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559Generator;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559PrivateKey;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a bounded number of pre-generated and pre-encrypted key pairs per algorithm, so wallet creation does not have
+ * to wait for key generation.
+ * <p>
+ * Taken key pairs are replaced by a background thread. If the pool is empty, for example during a burst of wallet
+ * creations, the key pair is generated inline as before.
+ * <p>
+ * Private keys are only kept encrypted while pooled. An Ed25519 private key is decrypted when its key pair is taken.
+ */
+@Slf4j
+@Component
+public class WalletKeyPairPool {
+
+    private final EncryptionUtils encryptionUtils;
+
+    private final int size;
+
+    private final ExecutorService refillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "wallet-key-pair-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Pool<IPublicKey> ed25519Pool;
+
+    private final Pool<ECKey> es256kPool;
+
+    /**
+     * Instantiates a new Wallet key pair pool.
+     *
+     * @param encryptionUtils the encryption utils
+     * @param settings        the settings
+     * @param meterRegistry   the meter registry
+     */
+    public WalletKeyPairPool(EncryptionUtils encryptionUtils, KeyPairPoolSettings settings, MeterRegistry meterRegistry) {
+        this.encryptionUtils = encryptionUtils;
+        this.size = settings.size();
+        this.ed25519Pool = new Pool<>(SupportedAlgorithms.ED25519, this::generateEd25519, meterRegistry);
+        this.es256kPool = new Pool<>(SupportedAlgorithms.ES256K, this::generateES256K, meterRegistry);
+    }
+
+    /**
+     * Starts filling the pool in the background.
+     */
+    @PostConstruct
+    public void fill() {
+        ed25519Pool.refill();
+        es256kPool.refill();
+    }
+
+    /**
+     * Stops the refill thread.
+     */
+    @PreDestroy
+    public void stop() {
+        refillExecutor.shutdownNow();
+    }
+
+    /**
+     * Takes an Ed25519 key pair. The private key is decrypted from the pooled encrypted key.
+     *
+     * @return the key pair
+     */
+    public PooledKeyPair<KeyPair> takeEd25519() {
+        PooledKeyPair<IPublicKey> pooledKeyPair = ed25519Pool.take();
+        KeyPair keyPair = new KeyPair(pooledKeyPair.keyPair(), decryptEd25519PrivateKey(pooledKeyPair.encryptedPrivateKey()));
+        return new PooledKeyPair<>(pooledKeyPair.keyId(), keyPair, pooledKeyPair.encryptedPrivateKey(), pooledKeyPair.encryptedPublicKey());
+    }
+
+    /**
+     * Takes an ES256K key pair. Only the public part of the key is kept unencrypted.
+     *
+     * @return the key pair
+     */
+    public PooledKeyPair<ECKey> takeES256K() {
+        return es256kPool.take();
+    }
+
+    @SneakyThrows
+    private PooledKeyPair<IPublicKey> generateEd25519() {
+        IKeyGenerator keyGenerator = new x21559Generator();
+        KeyPair keyPair = keyGenerator.generateKey();
+        return new PooledKeyPair<>(UUID.randomUUID().toString(), keyPair.getPublicKey(),
+                encryptKey(keyPair.getPrivateKey().asByte(), StringPool.PRIVATE_KEY),
+                encryptKey(keyPair.getPublicKey().asByte(), StringPool.PUBLIC_KEY));
+    }
+
+    @SneakyThrows
+    private IPrivateKey decryptEd25519PrivateKey(String encryptedPrivateKey) {
+        ByteBuffer pem = encryptionUtils.decryptToBuffer(encryptedPrivateKey);
+        try {
+            return new x21559PrivateKey(PemUtils.decodeToBytes(pem));
+        } finally {
+            PemUtils.wipe(pem);
+        }
+    }
+
+    private PooledKeyPair<ECKey> generateES256K() {
+        String keyId = UUID.randomUUID().toString();
+        try {
+            ECKey ecKey = new ECKeyGenerator(Curve.SECP256K1)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .keyID(keyId)
+                    .provider(BouncyCastleProviderSingleton.getInstance())
+                    .generate();
+            return new PooledKeyPair<>(keyId, ecKey.toPublicJWK(),
+                    encryptKey(ecKey.toECPrivateKey().getEncoded(), StringPool.PRIVATE_KEY),
+                    encryptKey(ecKey.toECPublicKey().getEncoded(), StringPool.PUBLIC_KEY));
+        } catch (JOSEException e) {
+            throw new BadDataException("Could not generate EC Jwk", e);
+        }
+    }
+
+    /**
+     * Encrypts the PEM encoding of a key, without creating a String of the plain key.
+     */
+    private String encryptKey(byte[] encodedKey, String keyType) {
+        byte[] pem = PemUtils.encode(keyType, encodedKey);
+        try {
+            return encryptionUtils.encrypt(pem);
+        } finally {
+            PemUtils.wipe(pem);
+        }
+    }
+
+    private final class Pool<K> {
+
+        private final SupportedAlgorithms algorithm;
+
+        private final BlockingQueue<PooledKeyPair<K>> keyPairs;
+
+        private final Supplier<PooledKeyPair<K>> generator;
+
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        private final Timer refillTimer;
+
+        private final Counter pooledCounter;
+
+        private final Counter inlineCounter;
+
+        private Pool(SupportedAlgorithms algorithm, Supplier<PooledKeyPair<K>> generator, MeterRegistry meterRegistry) {
+            this.algorithm = algorithm;
+            this.generator = generator;
+            this.keyPairs = new ArrayBlockingQueue<>(Math.max(size, 1));
+            String tag = algorithm.toString();
+            Gauge.builder("miw.key.pair.pool.available", keyPairs, BlockingQueue::size)
+                    .description("Number of pre-generated key pairs ready to be taken")
+                    .tag("algorithm", tag)
+                    .register(meterRegistry);
+            refillTimer = Timer.builder("miw.key.pair.pool.refill")
+                    .description("Generation of key pairs refilling the pool")
+                    .tag("algorithm", tag)
+                    .register(meterRegistry);
+            pooledCounter = Counter.builder("miw.key.pair.pool.taken")
+                    .description("Number of key pairs handed out for wallet creation")
+                    .tag("algorithm", tag)
+                    .tag("source", "pool")
+                    .register(meterRegistry);
+            inlineCounter = Counter.builder("miw.key.pair.pool.taken")
+                    .description("Number of key pairs handed out for wallet creation")
+                    .tag("algorithm", tag)
+                    .tag("source", "inline")
+                    .register(meterRegistry);
+        }
+
+        private PooledKeyPair<K> take() {
+            PooledKeyPair<K> keyPair = keyPairs.poll();
+            if (keyPair == null) {
+                inlineCounter.increment();
+                keyPair = generator.get();
+            } else {
+                pooledCounter.increment();
+            }
+            refill();
+            return keyPair;
+        }
+
+        private void refill() {
+            if (size > 0 && keyPairs.remainingCapacity() > 0 && refilling.compareAndSet(false, true)) {
+                try {
+                    refillExecutor.execute(this::fillUp);
+                } catch (RejectedExecutionException e) {
+                    refilling.set(false);
+                }
+            }
+        }
+
+        private void fillUp() {
+            try {
+                while (keyPairs.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                    keyPairs.offer(refillTimer.record(generator));
+                }
+            } catch (RuntimeException e) {
+                log.error("Could not refill the {} key pair pool, falling back to inline generation", algorithm, e);
+                refilling.set(false);
+                return;
+            }
+            refilling.set(false);
+            // a key pair may have been taken after the loop ended but before the flag was reset
+            refill();
+        }
+    }
+}
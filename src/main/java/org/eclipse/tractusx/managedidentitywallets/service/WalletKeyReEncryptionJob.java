@@ -0,0 +1,243 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.config.EncryptionSettings;
+import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Re-encrypts the wallet keys with the current encryption key and envelope format of {@link EncryptionUtils}.
+ * <p>
+ * The job walks {@code wallet_key} in batches ordered by id and re-encrypts the keys of a batch in parallel. Every row
+ * is updated on its own and only if it was not changed in the meantime, so no long running transaction or table lock
+ * is involved. After each batch the last processed id is stored in {@code re_encryption_checkpoint}, a restarted job
+ * continues from there. The checkpoint is kept per target key id, so rotating the key again starts a new run.
+ * <p>
+ * A run is only marked completed if every key could be re-encrypted. Otherwise the checkpoint is reset, so the next
+ * start walks the table again and retries the failed keys, skipping those already encrypted with the current key.
+ */
+@Slf4j
+@Component
+public class WalletKeyReEncryptionJob {
+
+    /**
+     * The prefix of the checkpoint name, followed by the id of the target key.
+     */
+    public static final String JOB_NAME_PREFIX = "wallet_key:";
+
+    private static final String SELECT_BATCH = "SELECT id, private_key, public_key FROM wallet_key WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_KEY = "UPDATE wallet_key SET private_key = ?, public_key = ? WHERE id = ? AND private_key = ? AND public_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EncryptionUtils encryptionUtils;
+
+    private final EncryptionSettings.ReEncryption settings;
+
+    private final AtomicLong total = new AtomicLong();
+
+    private final AtomicLong processed = new AtomicLong();
+
+    private final Counter reEncryptedCounter;
+
+    private final Counter failedCounter;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "wallet-key-re-encryption"));
+
+    private CompletableFuture<Void> run;
+
+    /**
+     * Instantiates a new Wallet key re-encryption job.
+     *
+     * @param jdbcTemplate       the jdbc template
+     * @param encryptionUtils    the encryption utils
+     * @param encryptionSettings the encryption settings
+     * @param meterRegistry      the meter registry
+     */
+    public WalletKeyReEncryptionJob(JdbcTemplate jdbcTemplate, EncryptionUtils encryptionUtils, EncryptionSettings encryptionSettings,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.encryptionUtils = encryptionUtils;
+        this.settings = encryptionSettings.reEncryption();
+        Gauge.builder("miw.wallet.key.reencryption.total", total, AtomicLong::get)
+                .description("Number of wallet keys to be checked by the re-encryption job")
+                .register(meterRegistry);
+        Gauge.builder("miw.wallet.key.reencryption.processed", processed, AtomicLong::get)
+                .description("Number of wallet keys checked by the re-encryption job")
+                .register(meterRegistry);
+        reEncryptedCounter = Counter.builder("miw.wallet.key.reencryption.reencrypted")
+                .description("Number of wallet keys re-encrypted with the current key")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("miw.wallet.key.reencryption.failed")
+                .description("Number of wallet keys which could not be re-encrypted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the job in the background once the application is ready, if enabled.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (settings.enabled()) {
+            start();
+        }
+    }
+
+    /**
+     * Starts the job in the background, unless it is already running.
+     *
+     * @return the future completing when the job has finished
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (run == null || run.isDone()) {
+            run = CompletableFuture.runAsync(this::reEncryptAll, coordinator)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Re-encryption of wallet keys stopped, it will resume from the last checkpoint on the next start", e);
+                        }
+                    });
+        }
+        return run;
+    }
+
+    /**
+     * Stops the job after the current batch.
+     */
+    @PreDestroy
+    public void stop() {
+        coordinator.shutdownNow();
+    }
+
+    private void reEncryptAll() {
+        String jobName = JOB_NAME_PREFIX + encryptionUtils.getKeyId();
+        jdbcTemplate.update("INSERT INTO re_encryption_checkpoint (job_name) VALUES (?) ON CONFLICT (job_name) DO NOTHING", jobName);
+        Checkpoint checkpoint = jdbcTemplate.queryForObject("SELECT last_id, processed, completed FROM re_encryption_checkpoint WHERE job_name = ?",
+                (rs, rowNum) -> new Checkpoint(rs.getLong("last_id"), rs.getLong("processed"), rs.getBoolean("completed")), jobName);
+        if (checkpoint.completed()) {
+            log.info("Wallet keys are already re-encrypted with key {}", encryptionUtils.getKeyId());
+            return;
+        }
+
+        long lastId = checkpoint.lastId();
+        processed.set(checkpoint.processed());
+        total.set(jdbcTemplate.queryForObject("SELECT count(*) FROM wallet_key", Long.class));
+        log.info("Re-encrypting wallet keys with key {}, starting after id {} ({} of {} processed)", encryptionUtils.getKeyId(), lastId,
+                processed.get(), total.get());
+
+        AtomicLong failures = new AtomicLong();
+        ExecutorService workers = Executors.newFixedThreadPool(settings.parallelism());
+        try {
+            List<EncryptedKey> batch;
+            while (!(batch = jdbcTemplate.query(SELECT_BATCH, (rs, rowNum) -> new EncryptedKey(rs.getLong("id"),
+                    rs.getString("private_key"), rs.getString("public_key")), lastId, settings.batchSize())).isEmpty()) {
+                List<Future<?>> futures = new ArrayList<>(batch.size());
+                for (EncryptedKey key : batch) {
+                    futures.add(workers.submit(() -> reEncrypt(key, failures)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                lastId = batch.get(batch.size() - 1).id();
+                processed.addAndGet(batch.size());
+                jdbcTemplate.update("UPDATE re_encryption_checkpoint SET last_id = ?, processed = ?, modified_at = CURRENT_TIMESTAMP WHERE job_name = ?",
+                        lastId, processed.get(), jobName);
+                log.info("Re-encryption of wallet keys: {} of {} processed", processed.get(), total.get());
+            }
+            if (failures.get() == 0) {
+                jdbcTemplate.update("UPDATE re_encryption_checkpoint SET completed = true, modified_at = CURRENT_TIMESTAMP WHERE job_name = ?", jobName);
+                log.info("Re-encryption of wallet keys with key {} completed, {} keys re-encrypted", encryptionUtils.getKeyId(),
+                        reEncryptedCounter.count());
+            } else {
+                jdbcTemplate.update("UPDATE re_encryption_checkpoint SET last_id = 0, processed = 0, modified_at = CURRENT_TIMESTAMP WHERE job_name = ?",
+                        jobName);
+                log.warn("Re-encryption of wallet keys with key {} finished, {} keys could not be re-encrypted and are retried on the next start",
+                        encryptionUtils.getKeyId(), failures.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Re-encryption of wallet keys interrupted after id {}", lastId);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Re-encryption of wallet keys failed after id " + lastId, e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void reEncrypt(EncryptedKey key, AtomicLong failures) {
+        if (encryptionUtils.isEncryptedWithCurrentKey(key.privateKey()) && encryptionUtils.isEncryptedWithCurrentKey(key.publicKey())) {
+            return;
+        }
+        try {
+            String privateKey = reEncrypt(key.privateKey());
+            String publicKey = reEncrypt(key.publicKey());
+            if (jdbcTemplate.update(UPDATE_KEY, privateKey, publicKey, key.id(), key.privateKey(), key.publicKey()) == 1) {
+                reEncryptedCounter.increment();
+            } else {
+                // the key was changed concurrently and therefore already written with the current key
+                log.debug("Wallet key with id {} was modified during re-encryption, skipped", key.id());
+            }
+        } catch (RuntimeException e) {
+            // a broken key must not block the migration of all other keys
+            failedCounter.increment();
+            failures.incrementAndGet();
+            log.error("Could not re-encrypt wallet key with id {}", key.id(), e);
+        }
+    }
+
+    private String reEncrypt(String encrypted) {
+        if (encryptionUtils.isEncryptedWithCurrentKey(encrypted)) {
+            return encrypted;
+        }
+        byte[] plain = encryptionUtils.decryptToBytes(encrypted);
+        try {
+            return encryptionUtils.encrypt(plain);
+        } finally {
+            Arrays.fill(plain, (byte) 0);
+        }
+    }
+
+    private record Checkpoint(long lastId, long processed, boolean completed) {
+    }
+
+    private record EncryptedKey(long id, String privateKey, String publicKey) {
+    }
+}
@@ -27,19 +27,16 @@ import com.smartsensesolutions.java.commons.specification.SpecificationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.bouncycastle.util.io.pem.PemReader;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.WalletKey;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletKeyRepository;
-import org.eclipse.tractusx.managedidentitywallets.exception.UnsupportedAlgorithmException;
-import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.SigningHandle;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.WalletKeyStore;
+import org.eclipse.tractusx.managedidentitywallets.keystore.WalletPrivateKeyCache;
 import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
 import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559PrivateKey;
 import org.springframework.stereotype.Service;
 
-import java.io.StringReader;
-import java.security.KeyFactory;
 import java.security.interfaces.ECPrivateKey;
-import java.security.spec.PKCS8EncodedKeySpec;
 
 /**
  * The type Wallet key service.
@@ -55,7 +52,9 @@ public class WalletKeyService extends BaseService<WalletKey, Long> {
 
     private final SpecificationUtil<WalletKey> specificationUtil;
 
-    private final EncryptionUtils encryptionUtils;
+    private final WalletPrivateKeyCache walletPrivateKeyCache;
+
+    private final WalletKeyStore walletKeyStore;
 
     @Override
     public BaseRepository<WalletKey, Long> getRepository() {
@@ -85,23 +84,24 @@ public class WalletKeyService extends BaseService<WalletKey, Long> {
 
     /**
      * Gets private key by wallet identifier.
+     * <p>
+     * Decrypted keys are served from the {@link WalletPrivateKeyCache}.
      *
      * @param walletId the wallet id
      * @return the private key by wallet identifier
      */
-    @SneakyThrows
-
     public Object getPrivateKeyByWalletIdentifierAndAlgorithm(long walletId, SupportedAlgorithms algorithm) {
-        WalletKey wallet = walletKeyRepository.getByWalletIdAndAlgorithm(walletId, algorithm.toString());
-        String privateKey = encryptionUtils.decrypt(wallet.getPrivateKey());
-        byte[] content = new PemReader(new StringReader(privateKey)).readPemObject().getContent();
-        if (SupportedAlgorithms.ED25519.equals(algorithm)) {
-            return new x21559PrivateKey(content);
-        } else if (SupportedAlgorithms.ES256K.equals(algorithm)) {
-            KeyFactory kf = KeyFactory.getInstance(EC);
-            return kf.generatePrivate(new PKCS8EncodedKeySpec(content));
-        } else {
-            throw new UnsupportedAlgorithmException("Unsupported algorithm: " + algorithm);
-        }
+        return walletPrivateKeyCache.getPrivateKey(walletId, algorithm);
+    }
+
+    /**
+     * Gets a handle signing with the key of a wallet in the configured {@link WalletKeyStore}.
+     *
+     * @param walletId  the wallet id
+     * @param algorithm the algorithm of the key
+     * @return the signing handle
+     */
+    public SigningHandle getSigningHandle(long walletId, SupportedAlgorithms algorithm) {
+        return walletKeyStore.getSigningHandle(walletId, algorithm);
     }
 }
@@ -40,16 +40,16 @@ import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dao.entity.WalletKey;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredentialRepository;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.domain.PooledKeyPair;
 import org.eclipse.tractusx.managedidentitywallets.dto.CreateWalletRequest;
 import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
 import org.eclipse.tractusx.managedidentitywallets.exception.DuplicateWalletProblem;
 import org.eclipse.tractusx.managedidentitywallets.exception.ForbiddenException;
-import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.KeysetPagination;
 import org.eclipse.tractusx.managedidentitywallets.utils.Validate;
-import org.eclipse.tractusx.ssi.lib.crypt.IKeyGenerator;
 import org.eclipse.tractusx.ssi.lib.crypt.KeyPair;
 import org.eclipse.tractusx.ssi.lib.crypt.jwk.JsonWebKey;
-import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559Generator;
 import org.eclipse.tractusx.ssi.lib.did.web.DidWebFactory;
 import org.eclipse.tractusx.ssi.lib.model.did.Did;
 import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
@@ -59,6 +59,7 @@ import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCreden
 import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
@@ -68,13 +69,11 @@ import org.springframework.transaction.support.TransactionTemplate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.COLON_SEPARATOR;
 import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.ED_25519;
 import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.REFERENCE_KEY;
 import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.VAULT_ACCESS_TOKEN;
-import static org.eclipse.tractusx.managedidentitywallets.utils.CommonUtils.getKeyString;
 
 /**
  * The type Wallet service.
@@ -93,8 +92,6 @@ public class WalletService extends BaseService<Wallet, Long> {
 
     private final MIWSettings miwSettings;
 
-    private final EncryptionUtils encryptionUtils;
-
     private final WalletKeyService walletKeyService;
 
     private final HoldersCredentialRepository holdersCredentialRepository;
@@ -110,6 +107,8 @@ public class WalletService extends BaseService<Wallet, Long> {
 
     private final JwtPresentationES256KService jwtPresentationES256KService;
 
+    private final WalletKeyPairPool walletKeyPairPool;
+
 
     @Override
     protected BaseRepository<Wallet, Long> getRepository() {
@@ -178,7 +177,9 @@ public class WalletService extends BaseService<Wallet, Long> {
         }
 
         if (withCredentials) {
-            wallet.setVerifiableCredentials(holdersCredentialRepository.getCredentialsByHolder(wallet.getDid()));
+            wallet.setVerifiableCredentials(holdersCredentialRepository.getCredentialsByHolder(wallet.getDid()).stream()
+                    .map(LazyVerifiableCredential::get)
+                    .toList());
         }
         return wallet;
     }
@@ -191,9 +192,15 @@ public class WalletService extends BaseService<Wallet, Long> {
      * @param size       the size
      * @param sortColumn the sort column
      * @param sortType   the sort type
+     * @param continuationToken the continuation token of keyset pagination, null for offset pagination
+     * @param withTotalCount    whether keyset pagination counts all wallets
      * @return the wallets
      */
-    public Page<Wallet> getWallets(int pageNumber, int size, String sortColumn, String sortType) {
+    public Page<Wallet> getWallets(int pageNumber, int size, String sortColumn, String sortType, String continuationToken, boolean withTotalCount) {
+        if (continuationToken != null) {
+            Validate.isFalse(StringPool.CREATED_AT.equals(sortColumn)).launch(new BadDataException(KeysetPagination.SORT_COLUMN_NOT_SUPPORTED));
+            return KeysetPagination.read(walletRepository, Specification.<Wallet>where(null), continuationToken, size, sortType, withTotalCount, Wallet::getId);
+        }
         FilterRequest filterRequest = new FilterRequest();
         filterRequest.setSize(size);
         filterRequest.setPage(pageNumber);
@@ -235,14 +242,14 @@ public class WalletService extends BaseService<Wallet, Long> {
     private Wallet createWallet(CreateWalletRequest request, boolean authority, String callerBpn) {
         validateCreateWallet(request, callerBpn);
 
-        //create private key pair EdDSA
-        IKeyGenerator keyGenerator = new x21559Generator();
-        KeyPair keyPair = keyGenerator.generateKey();
+        //take private key pair EdDSA
+        PooledKeyPair<KeyPair> pooledKeyPair = walletKeyPairPool.takeEd25519();
+        KeyPair keyPair = pooledKeyPair.keyPair();
 
         //create did json
         Did did = createDidJson(request.getDidUrl());
 
-        String keyId = UUID.randomUUID().toString();
+        String keyId = pooledKeyPair.keyId();
 
         JsonWebKey jwk = new JsonWebKey(keyId, keyPair.getPublicKey(), keyPair.getPrivateKey());
         JWKVerificationMethod jwkVerificationMethod =
@@ -264,8 +271,8 @@ public class WalletService extends BaseService<Wallet, Long> {
                 .keyId(keyId)
                 .referenceKey(REFERENCE_KEY)
                 .vaultAccessToken(VAULT_ACCESS_TOKEN)
-                .privateKey(encryptionUtils.encrypt(getKeyString(keyPair.getPrivateKey().asByte(), StringPool.PRIVATE_KEY)))
-                .publicKey(encryptionUtils.encrypt(getKeyString(keyPair.getPublicKey().asByte(), StringPool.PUBLIC_KEY)))
+                .privateKey(pooledKeyPair.encryptedPrivateKey())
+                .publicKey(pooledKeyPair.encryptedPublicKey())
                 .algorithm(SupportedAlgorithms.ED25519.toString())
                 .build();
 
@@ -318,16 +325,19 @@ public class WalletService extends BaseService<Wallet, Long> {
     }
 
     private Wallet updateWalletWithWalletKeyES256K(TransactionTemplate transactionTemplate, Wallet[] wallets) {
-        String keyId = UUID.randomUUID().toString();
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
             @Override
             protected void doInTransactionWithoutResult(TransactionStatus status) {
                 // create additional key pair ES256K
                 if (wallets[0] != null) {
-                    wallets[0] = jwtPresentationES256KService.storeWalletKeyES256K(wallets[0], keyId);
+                    wallets[0] = jwtPresentationES256KService.storeWalletKeyES256K(wallets[0]);
                 }
             }
         });
+        // drop lookups cached while the wallet only had its EdDSA key
+        if (wallets[0] != null) {
+            commonService.evictWallet(wallets[0].getDid(), wallets[0].getBpn());
+        }
         return wallets[0];
     }
 
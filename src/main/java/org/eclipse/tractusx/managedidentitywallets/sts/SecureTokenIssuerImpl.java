@@ -21,6 +21,8 @@
 
 package org.eclipse.tractusx.managedidentitywallets.sts;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.nimbusds.jose.JOSEObjectType;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
@@ -29,17 +31,23 @@ import com.nimbusds.jose.jwk.OctetKeyPair;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
 import org.eclipse.tractusx.managedidentitywallets.domain.DID;
 import org.eclipse.tractusx.managedidentitywallets.domain.KeyPair;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
 import org.eclipse.tractusx.managedidentitywallets.interfaces.SecureTokenIssuer;
 import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
 import org.eclipse.tractusx.ssi.lib.crypt.octet.OctetKeyPairFactory;
 import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559PrivateKey;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Set;
@@ -52,11 +60,34 @@ import static org.springframework.security.oauth2.core.oidc.IdTokenClaimNames.NO
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SecureTokenIssuerImpl implements SecureTokenIssuer {
 
+    /**
+     * The name under which the signer cache metrics are published.
+     */
+    public static final String STS_SIGNERS_CACHE = "stsSigners";
+
     private final EncryptionUtils encryptionUtils;
 
+    private final Cache<String, CachedSigner> signerCache;
+
+    /**
+     * Instantiates a new Secure token issuer.
+     *
+     * @param encryptionUtils the encryption utils
+     * @param cacheSettings   the cache settings
+     * @param meterRegistry   the meter registry
+     */
+    public SecureTokenIssuerImpl(EncryptionUtils encryptionUtils, CacheSettings cacheSettings, MeterRegistry meterRegistry) {
+        this.encryptionUtils = encryptionUtils;
+        this.signerCache = Caffeine.newBuilder()
+                .maximumSize(cacheSettings.stsSigners().maximumSize())
+                .expireAfterWrite(cacheSettings.stsSigners().expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, signerCache, STS_SIGNERS_CACHE);
+    }
+
     @Override
     public JWT createIdToken(KeyPair keyPair, DID self, DID partner, Instant expirationTime, JWT accessToken) {
         log.debug("'createIdToken' using a provided access_token.");
@@ -101,14 +132,56 @@ public class SecureTokenIssuerImpl implements SecureTokenIssuer {
         log.debug("Creating JWS signature for issuer '{}' and holder '{}'", builder.getClaims().get("iss"),
                 builder.getClaims().get("sub"));
         SignedJWT signedJWT = new SignedJWT(header, body);
-        String privateKey = encryptionUtils.decrypt(keyPair.privateKey());
-        // todo bri: this should become dynamic in the future, as we want to support more key algos.
-        OctetKeyPair jwk = new OctetKeyPairFactory().fromPrivateKey(new x21559PrivateKey(privateKey, true));
-        Ed25519Signer signer = new Ed25519Signer(jwk);
-        signedJWT.sign(signer);
+        signedJWT.sign(getSigner(keyPair));
         log.debug("JWT signed for issuer '{}' and holder '{}'", builder.getClaims().get("iss"),
                 builder.getClaims().get("sub"));
 
         return signedJWT;
     }
+
+    /**
+     * Removes the cached signers once the transaction changing wallet keys has been committed. The signers are cached
+     * by key id, which the event does not carry, and keys change rarely, so all signers are removed.
+     *
+     * @param event the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWalletKeyChanged(WalletKeyChangedEvent event) {
+        signerCache.invalidateAll();
+        log.debug("Evicted cached signers after a key change of wallet with id {}", event.walletId());
+    }
+
+    private Ed25519Signer getSigner(KeyPair keyPair) {
+        CachedSigner cachedSigner = signerCache.get(keyPair.keyId(), keyId -> createSigner(keyPair));
+        if (!cachedSigner.encryptedPrivateKey().equals(keyPair.privateKey())) {
+            // the stored key was replaced or re-encrypted since the signer was created
+            cachedSigner = createSigner(keyPair);
+            signerCache.put(keyPair.keyId(), cachedSigner);
+        }
+        return cachedSigner.signer();
+    }
+
+    @SneakyThrows
+    private CachedSigner createSigner(KeyPair keyPair) {
+        log.debug("Creating signer for key '{}'", keyPair.keyId());
+        ByteBuffer pem = encryptionUtils.decryptToBuffer(keyPair.privateKey());
+        byte[] privateKey = null;
+        try {
+            privateKey = PemUtils.decodeToBytes(pem);
+            // todo bri: this should become dynamic in the future, as we want to support more key algos.
+            OctetKeyPair jwk = new OctetKeyPairFactory().fromPrivateKey(new x21559PrivateKey(privateKey));
+            return new CachedSigner(keyPair.privateKey(), new Ed25519Signer(jwk));
+        } finally {
+            PemUtils.wipe(pem);
+            if (privateKey != null) {
+                PemUtils.wipe(privateKey);
+            }
+        }
+    }
+
+    /**
+     * A signer together with the encrypted key it was created from.
+     */
+    private record CachedSigner(String encryptedPrivateKey, Ed25519Signer signer) {
+    }
 }
@@ -47,6 +47,7 @@ import java.io.StringWriter;
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +62,11 @@ public class CommonUtils {
 
     public static final Pattern BPN_NUMBER_PATTERN = Pattern.compile(StringPool.BPN_NUMBER_REGEX);
 
+    /**
+     * The context of the JWS proof, added to every issued credential.
+     */
+    public static final URI JWS_2020_CONTEXT = URI.create("https://w3id.org/security/suites/jws-2020/v1");
+
 
     /**
      * Gets identifier type.
@@ -90,10 +96,28 @@ public class CommonUtils {
      */
     public static HoldersCredential getHoldersCredential(VerifiableCredentialSubject subject, List<String> types, DidDocument issuerDoc,
                                                          byte[] privateKeyBytes, String holderDid, List<URI> contexts, Date expiryDate, boolean selfIssued) {
+        return getHoldersCredential(subject, types, issuerDoc, issuerDoc.getVerificationMethods().get(0).getId(),
+                privateKeyBytes, holderDid, contexts, expiryDate, selfIssued);
+    }
+
+    /**
+     * Gets credential signed with a known verification method of the issuer.
+     *
+     * @param subject            the subject
+     * @param types              the types
+     * @param issuerDoc          the issuer doc
+     * @param verificationMethod the verification method of the issuer doc used for the proof
+     * @param privateKeyBytes    the private key bytes
+     * @param holderDid          the holder did
+     * @return the credential
+     */
+    public static HoldersCredential getHoldersCredential(VerifiableCredentialSubject subject, List<String> types, DidDocument issuerDoc,
+                                                         URI verificationMethod, byte[] privateKeyBytes, String holderDid,
+                                                         List<URI> contexts, Date expiryDate, boolean selfIssued) {
         List<String> cloneTypes = new ArrayList<>(types);
 
         // Create VC
-        VerifiableCredential verifiableCredential = createVerifiableCredential(issuerDoc, types,
+        VerifiableCredential verifiableCredential = createVerifiableCredential(issuerDoc, verificationMethod, types,
                 subject, privateKeyBytes, contexts, expiryDate);
 
         cloneTypes.remove(VerifiableCredentialType.VERIFIABLE_CREDENTIAL);
@@ -109,18 +133,23 @@ public class CommonUtils {
                 .build();
     }
 
+    /**
+     * Creates a signed credential. The credential is built once, canonicalized once to create the proof and the proof
+     * is then added to it. The given contexts are not changed.
+     *
+     * @param issuerDoc                   the issuer doc
+     * @param verificationMethod          the verification method of the issuer doc used for the proof
+     * @param verifiableCredentialType    the types
+     * @param verifiableCredentialSubject the subject
+     * @param privateKey                  the private key bytes
+     * @param contexts                    the contexts, completed with the JWS context in the credential
+     * @param expiryDate                  the expiry date, none if {@code null}
+     * @return the verifiable credential
+     */
     @SneakyThrows({ UnsupportedSignatureTypeException.class, InvalidePrivateKeyFormat.class })
-    private static VerifiableCredential createVerifiableCredential(DidDocument issuerDoc, List<String> verifiableCredentialType,
-                                                                   VerifiableCredentialSubject verifiableCredentialSubject,
-                                                                   byte[] privateKey, List<URI> contexts, Date expiryDate) {
-        //VC Builder
-
-        // if the credential does not contain the JWS proof-context add it
-        URI jwsUri = URI.create("https://w3id.org/security/suites/jws-2020/v1");
-        if (!contexts.contains(jwsUri)) {
-            contexts.add(jwsUri);
-        }
-
+    static VerifiableCredential createVerifiableCredential(DidDocument issuerDoc, URI verificationMethod, List<String> verifiableCredentialType,
+                                                           VerifiableCredentialSubject verifiableCredentialSubject,
+                                                           byte[] privateKey, List<URI> contexts, Date expiryDate) {
         // check if the expiryDate is set
         // if its null then it will be ignored from the SSI Lib (VerifiableCredentialBuilder) and will not be added to the VC
         Instant expiryInstant = null;
@@ -129,28 +158,40 @@ public class CommonUtils {
         }
 
         URI id = URI.create(UUID.randomUUID().toString());
-        VerifiableCredentialBuilder builder = new VerifiableCredentialBuilder()
-                .context(contexts)
+        VerifiableCredential verifiableCredential = new VerifiableCredentialBuilder()
+                .context(withJwsContext(contexts))
                 .id(URI.create(issuerDoc.getId() + "#" + id))
                 .type(verifiableCredentialType)
                 .issuer(issuerDoc.getId())
                 .expirationDate(expiryInstant)
                 .issuanceDate(Instant.now())
-                .credentialSubject(verifiableCredentialSubject);
-
+                .credentialSubject(verifiableCredentialSubject)
+                .build();
 
         LinkedDataProofGenerator generator = LinkedDataProofGenerator.newInstance(SignatureType.JWS);
-        URI verificationMethod = issuerDoc.getVerificationMethods().get(0).getId();
 
         JWSSignature2020 proof =
-                (JWSSignature2020) generator.createProof(builder.build(), verificationMethod, new x21559PrivateKey(privateKey));
-
+                (JWSSignature2020) generator.createProof(verifiableCredential, verificationMethod, new x21559PrivateKey(privateKey));
 
-        //Adding Proof to VC
-        builder.proof(proof);
+        // Adding Proof to VC, the credential has been validated when it was built and the proof is not part of the signed content
+        verifiableCredential.put(VerifiableCredential.PROOF, proof);
+        return verifiableCredential;
+    }
 
-        //Create Credential
-        return builder.build();
+    /**
+     * Gets the contexts of a credential, completed with the JWS proof context if it is missing.
+     *
+     * @param contexts the contexts, not changed
+     * @return the unmodifiable contexts
+     */
+    static List<URI> withJwsContext(List<URI> contexts) {
+        if (contexts.contains(JWS_2020_CONTEXT)) {
+            return List.copyOf(contexts);
+        }
+        List<URI> completed = new ArrayList<>(contexts.size() + 1);
+        completed.addAll(contexts);
+        completed.add(JWS_2020_CONTEXT);
+        return Collections.unmodifiableList(completed);
     }
 
     @SneakyThrows
@@ -21,15 +21,22 @@
 
 package org.eclipse.tractusx.managedidentitywallets.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.Ed25519Verifier;
 import com.nimbusds.jose.jwk.Curve;
 import com.nimbusds.jose.jwk.OctetKeyPair;
 import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
 import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
 import org.eclipse.tractusx.managedidentitywallets.service.DidDocumentService;
 import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
@@ -40,19 +47,73 @@ import org.eclipse.tractusx.ssi.lib.model.did.Ed25519VerificationMethod;
 import org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethod;
 import org.eclipse.tractusx.ssi.lib.model.did.VerificationMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Map;
+import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 @Data
 public class CustomSignedJWTVerifier {
     private DidResolver didResolver;
     private final DidDocumentService didDocumentService;
     public static final String KID = "kid";
 
+    /**
+     * The name under which the verifier cache metrics are published.
+     */
+    public static final String JWS_VERIFIERS_CACHE = "jwsVerifiers";
+
+    /**
+     * Verifiers keyed by DID (or BPN) and kid, empty if the verification method is not supported.
+     */
+    private final Cache<VerifierCacheKey, Optional<JWSVerifier>> verifierCache;
+
+    public CustomSignedJWTVerifier(DidDocumentService didDocumentService, CacheSettings cacheSettings, MeterRegistry meterRegistry) {
+        this.didDocumentService = didDocumentService;
+        this.verifierCache = Caffeine.newBuilder()
+                .maximumSize(cacheSettings.jwsVerifiers().maximumSize())
+                .expireAfterWrite(cacheSettings.jwsVerifiers().expireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifierCache, JWS_VERIFIERS_CACHE);
+    }
+
     public boolean verify(String did, SignedJWT jwt) throws JOSEException {
-        VerificationMethod verificationMethod = checkVerificationMethod(did, jwt);
+        String kid = String.valueOf(jwt.getHeader().toJSONObject().get(KID));
+        Optional<JWSVerifier> verifier = verifierCache.get(new VerifierCacheKey(did, kid), key -> createVerifier(checkVerificationMethod(did, kid)));
+        return verifier.isPresent() && jwt.verify(verifier.get());
+    }
+
+    /**
+     * Removes the cached verifiers of a wallet once the transaction changing its DID document has been committed.
+     *
+     * @param event the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDidDocumentChanged(DidDocumentChangedEvent event) {
+        verifierCache.invalidateAll(verifierCache.asMap().keySet().stream()
+                .filter(key -> key.identifier().equals(event.did()) || key.identifier().equals(event.bpn()))
+                .toList());
+    }
+
+    public VerificationMethod checkVerificationMethod(String did, SignedJWT jwt) {
+        Map<String, Object> headers = jwt.getHeader().toJSONObject();
+        return checkVerificationMethod(did, String.valueOf(headers.get(KID)));
+    }
+
+    private VerificationMethod checkVerificationMethod(String did, String kid) {
+        DidDocument didDocument = didDocumentService.getDidDocument(did);
+        for (VerificationMethod method : didDocument.getVerificationMethods()) {
+            if (method.getId().toString().contains(kid)) {
+                return method;
+            }
+        }
+        throw new BadDataException("Verification method doesn't match 'kid' parameter");
+    }
+
+    @SneakyThrows
+    private static Optional<JWSVerifier> createVerifier(VerificationMethod verificationMethod) {
         if (JWKVerificationMethod.isInstance(verificationMethod)) {
             JWKVerificationMethod method = new JWKVerificationMethod(verificationMethod);
             String kty = method.getPublicKeyJwk().getKty();
@@ -63,27 +124,18 @@ public class CustomSignedJWTVerifier {
             }
 
             OctetKeyPair keyPair = (new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.from(x))).build();
-            return jwt.verify(new Ed25519Verifier(keyPair));
+            return Optional.of(new Ed25519Verifier(keyPair));
 
         } else if (Ed25519VerificationMethod.isInstance(verificationMethod)) {
             Ed25519VerificationMethod method = new Ed25519VerificationMethod(verificationMethod);
             MultibaseString multibase = method.getPublicKeyBase58();
             Ed25519PublicKeyParameters publicKeyParameters = new Ed25519PublicKeyParameters(multibase.getDecoded(), 0);
             OctetKeyPair keyPair = (new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(publicKeyParameters.getEncoded()))).build();
-            return jwt.verify(new Ed25519Verifier(keyPair));
+            return Optional.of(new Ed25519Verifier(keyPair));
         }
-        return false;
+        return Optional.empty();
     }
 
-    public VerificationMethod checkVerificationMethod(String did, SignedJWT jwt) {
-        Map<String, Object> headers = jwt.getHeader().toJSONObject();
-        String kid = String.valueOf(headers.get(KID));
-        DidDocument didDocument = didDocumentService.getDidDocument(did);
-        for (VerificationMethod method : didDocument.getVerificationMethods()) {
-            if (method.getId().toString().contains(kid)) {
-                return method;
-            }
-        }
-        throw new BadDataException("Verification method doesn't match 'kid' parameter");
+    private record VerifierCacheKey(String identifier, String kid) {
     }
 }
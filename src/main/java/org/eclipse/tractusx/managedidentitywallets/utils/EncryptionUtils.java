@@ -21,33 +21,109 @@
 
 package org.eclipse.tractusx.managedidentitywallets.utils;
 
+import lombok.Getter;
 import lombok.SneakyThrows;
+import org.eclipse.tractusx.managedidentitywallets.config.EncryptionSettings;
 import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.Key;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * The type Encryption utils.
+ * <p>
+ * Values are encrypted with AES-GCM into the envelope {@code v1.<key id>.<base64(iv | ciphertext | tag)>}. The key
+ * id is the truncated SHA-256 of the key, so a rotated key always gets a new id, and resolves to exactly one
+ * decryption key, which is set up once at startup. The envelope header is authenticated as additional data.
+ * <p>
+ * Values written by earlier versions may carry a key id that was configured with the key. They are decrypted with the
+ * previous key configured under that id until {@code WalletKeyReEncryptionJob} has migrated them.
+ * <p>
+ * Values without envelope were written with AES/ECB by earlier versions. They are still decrypted with the current
+ * key until {@code WalletKeyReEncryptionJob} has migrated them.
+ * <p>
+ * {@link Cipher} instances are kept per thread, so the provider lookup is only paid once per thread.
+ * <p>
+ * Decrypted key material can be obtained as a {@link ByteBuffer}, optionally allocated outside the Java heap, which
+ * the caller wipes with {@link PemUtils#wipe(ByteBuffer)} once the key is parsed.
  */
 @Component
 public class EncryptionUtils {
 
     public static final String AES = "AES";
-    private final Key aesKey;
+    public static final String AES_GCM = "AES/GCM/NoPadding";
+    public static final String ENVELOPE_VERSION = "v1";
+    private static final String ENVELOPE_SEPARATOR = ".";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH = 128;
+    private static final int KEY_ID_LENGTH = 8;
+    private static final Pattern KEY_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final String PREVIOUS_KEY_SEPARATOR = "=";
+    private static final Set<Integer> AES_KEY_LENGTHS = Set.of(16, 24, 32);
+
+    private final SecretKeySpec aesKey;
+    @Getter
+    private final String keyId;
+    private final String envelopePrefix;
+    private final Map<String, SecretKeySpec> keysById = new HashMap<>();
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> gcmCipher;
+    private final ThreadLocal<Cipher> legacyDecryptCipher;
+    private final boolean directBuffers;
 
     /**
      * Instantiates a new Encryption utils.
      *
-     * @param miwSettings the miw settings
+     * @param miwSettings        the miw settings
+     * @param encryptionSettings the encryption settings
      */
     @SneakyThrows
-    public EncryptionUtils(MIWSettings miwSettings) {
+    public EncryptionUtils(MIWSettings miwSettings, EncryptionSettings encryptionSettings) {
         aesKey = new SecretKeySpec(miwSettings.encryptionKey().getBytes(), AES);
-
+        keyId = keyIdOf(aesKey);
+        envelopePrefix = ENVELOPE_VERSION + ENVELOPE_SEPARATOR + keyId + ENVELOPE_SEPARATOR;
+        keysById.put(keyId, aesKey);
+        directBuffers = encryptionSettings.directBuffers();
+        List<SecretKeySpec> unnamedKeys = new ArrayList<>();
+        for (String previousKey : Objects.requireNonNullElse(encryptionSettings.previousKeys(), List.<String>of())) {
+            int separator = previousKey.indexOf(PREVIOUS_KEY_SEPARATOR);
+            String previousKeyId = separator < 0 ? null : previousKey.substring(0, separator);
+            String previousKeyValue = separator < 0 ? null : previousKey.substring(separator + 1);
+            // a key given without id may contain the separator itself, e.g. as base64 padding
+            if (previousKeyId != null && KEY_ID_PATTERN.matcher(previousKeyId).matches()
+                    && AES_KEY_LENGTHS.contains(previousKeyValue.getBytes().length)) {
+                SecretKeySpec configured = keysById.putIfAbsent(previousKeyId, new SecretKeySpec(previousKeyValue.getBytes(), AES));
+                if (configured != null && !MessageDigest.isEqual(configured.getEncoded(), previousKeyValue.getBytes())) {
+                    throw new IllegalArgumentException("Encryption key id " + previousKeyId + " is configured for more than one key");
+                }
+            } else {
+                unnamedKeys.add(new SecretKeySpec(previousKey.getBytes(), AES));
+            }
+        }
+        unnamedKeys.forEach(unnamedKey -> keysById.putIfAbsent(keyIdOf(unnamedKey), unnamedKey));
+        gcmCipher = ThreadLocal.withInitial(() -> getCipher(AES_GCM));
+        legacyDecryptCipher = ThreadLocal.withInitial(() -> {
+            Cipher cipher = getCipher(AES);
+            initCipher(cipher, Cipher.DECRYPT_MODE, aesKey, null);
+            return cipher;
+        });
     }
 
     /**
@@ -56,12 +132,27 @@ public class EncryptionUtils {
      * @param text the text
      * @return the string
      */
-    @SneakyThrows
     public String encrypt(String text){
-        Cipher cipher = Cipher.getInstance(AES);
-        cipher.init(Cipher.ENCRYPT_MODE, aesKey);
-        byte[] encrypted = cipher.doFinal(text.getBytes());
-        return Base64.getEncoder().encodeToString(encrypted);
+        return encrypt(text.getBytes());
+    }
+
+    /**
+     * Encrypt bytes.
+     *
+     * @param plain the plain bytes
+     * @return the encrypted envelope
+     */
+    @SneakyThrows
+    public String encrypt(byte[] plain) {
+        byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        // the ciphertext is written right behind the IV, so the envelope is assembled without copying
+        byte[] envelope = doFinal(gcmCipher, aesKey, Cipher.ENCRYPT_MODE, new GCMParameterSpec(TAG_LENGTH, iv), envelopePrefix, cipher -> {
+            byte[] output = Arrays.copyOf(iv, IV_LENGTH + cipher.getOutputSize(plain.length));
+            cipher.doFinal(plain, 0, plain.length, output, IV_LENGTH);
+            return output;
+        });
+        return envelopePrefix + Base64.getEncoder().encodeToString(envelope);
     }
 
     /**
@@ -70,10 +161,111 @@ public class EncryptionUtils {
      * @param text the text
      * @return the string
      */
-    @SneakyThrows
     public String decrypt(String text){
-        Cipher cipher = Cipher.getInstance(AES);
-        cipher.init(Cipher.DECRYPT_MODE, aesKey);
-        return new String(cipher.doFinal(Base64.getDecoder().decode(text)));
+        return new String(decryptToBytes(text));
+    }
+
+    /**
+     * Decrypt to bytes, without creating a String of the plain value.
+     *
+     * @param text the encrypted envelope or legacy value
+     * @return the plain bytes
+     */
+    public byte[] decryptToBytes(String text) {
+        return decrypt(text, (cipher, input, offset, length) -> cipher.doFinal(input, offset, length));
+    }
+
+    /**
+     * Decrypt into a buffer, which is allocated outside the Java heap if {@code miw.encryption.directBuffers} is set.
+     * The caller is responsible for wiping the buffer after use.
+     *
+     * @param text the encrypted envelope or legacy value
+     * @return the plain bytes, between position and limit of the buffer
+     */
+    public ByteBuffer decryptToBuffer(String text) {
+        return decrypt(text, (cipher, input, offset, length) -> {
+            int outputSize = cipher.getOutputSize(length);
+            ByteBuffer output = directBuffers ? ByteBuffer.allocateDirect(outputSize) : ByteBuffer.allocate(outputSize);
+            cipher.doFinal(ByteBuffer.wrap(input, offset, length), output);
+            return output.flip();
+        });
+    }
+
+    @SneakyThrows
+    private <T> T decrypt(String text, Decryption<T> decryption) {
+        if (!text.startsWith(ENVELOPE_VERSION + ENVELOPE_SEPARATOR)) {
+            byte[] encrypted = Base64.getDecoder().decode(text);
+            return doFinal(legacyDecryptCipher, null, Cipher.DECRYPT_MODE, null, null,
+                    cipher -> decryption.apply(cipher, encrypted, 0, encrypted.length));
+        }
+        int keyIdEnd = text.indexOf(ENVELOPE_SEPARATOR, ENVELOPE_VERSION.length() + 1);
+        if (keyIdEnd < 0) {
+            throw new IllegalArgumentException("Malformed encryption envelope");
+        }
+        String envelopeKeyId = text.substring(ENVELOPE_VERSION.length() + 1, keyIdEnd);
+        SecretKeySpec key = keysById.get(envelopeKeyId);
+        if (key == null) {
+            throw new IllegalStateException("No encryption key configured for key id " + envelopeKeyId);
+        }
+        byte[] envelope = Base64.getDecoder().decode(text.substring(keyIdEnd + 1));
+        return doFinal(gcmCipher, key, Cipher.DECRYPT_MODE, new GCMParameterSpec(TAG_LENGTH, envelope, 0, IV_LENGTH),
+                text.substring(0, keyIdEnd + 1), cipher -> decryption.apply(cipher, envelope, IV_LENGTH, envelope.length - IV_LENGTH));
+    }
+
+    /**
+     * Checks whether a value is already encrypted with the current key in the current envelope format.
+     *
+     * @param text the encrypted value
+     * @return true if the value does not need to be re-encrypted
+     */
+    public boolean isEncryptedWithCurrentKey(String text) {
+        return text.startsWith(envelopePrefix);
+    }
+
+    @SneakyThrows
+    private static Cipher getCipher(String transformation) {
+        return Cipher.getInstance(transformation);
+    }
+
+    @SneakyThrows
+    private static void initCipher(Cipher cipher, int mode, SecretKeySpec key, GCMParameterSpec parameterSpec) {
+        if (parameterSpec == null) {
+            cipher.init(mode, key);
+        } else {
+            cipher.init(mode, key, parameterSpec);
+        }
+    }
+
+    private static <T> T doFinal(ThreadLocal<Cipher> cipherHolder, SecretKeySpec key, int mode, GCMParameterSpec parameterSpec,
+                                 String header, CipherOperation<T> operation) throws GeneralSecurityException {
+        try {
+            Cipher cipher = cipherHolder.get();
+            if (key != null) {
+                // GCM needs a fresh IV for every operation, so the cipher is initialized on each use
+                initCipher(cipher, mode, key, parameterSpec);
+                cipher.updateAAD(header.getBytes(StandardCharsets.US_ASCII));
+            }
+            return operation.apply(cipher);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            // the state of a cipher is undefined after a failed operation, the next call starts with a fresh one
+            cipherHolder.remove();
+            throw e;
+        }
+    }
+
+    @SneakyThrows
+    private static String keyIdOf(SecretKeySpec key) {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+        return HexFormat.of().formatHex(digest, 0, KEY_ID_LENGTH);
+    }
+
+    @FunctionalInterface
+    private interface CipherOperation<T> {
+        T apply(Cipher cipher) throws GeneralSecurityException;
+    }
+
+    @FunctionalInterface
+    private interface Decryption<T> {
+        T apply(Cipher cipher, byte[] input, int offset, int length) throws GeneralSecurityException;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,302 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.utils;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.http.media.MediaType;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.loader.HttpLoader;
+import com.apicatalog.jsonld.loader.SchemeRouter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.JsonLdSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Serves the JSON-LD contexts of the credentials from a local store, so canonicalization while signing and verifying
+ * does not wait for, nor depend on, the hosts of the contexts.
+ * <p>
+ * The store consists of the contexts bundled in {@value #BUNDLED_CONTEXTS} and those of
+ * {@link JsonLdSettings#contextDirectory()}, which take precedence. Both list their files in an {@value #INDEX},
+ * mapping the file name to the URL of the context. Parsed contexts are kept in a bounded cache and the configured
+ * contexts are loaded on startup. Contexts of the store do not expire, as they only change with a release. A context
+ * missing from the store is fetched from its URL, unless {@link JsonLdSettings#remoteFetch()} is disabled, and fetched
+ * again once its cache entry expired.
+ * <p>
+ * The http and https schemes of titanium's default {@link SchemeRouter}, which is the loader used by the JSON-LD
+ * processing of the SSI library, are routed to the most recently installed loader. The router is global to the JVM,
+ * so a loader that is uninstalled, e.g. when one of several application contexts of a test run is closed, hands the
+ * schemes back to the loader installed before it, or to titanium's http loader if there is none.
+ */
+@Slf4j
+@Component
+public class JsonLdContextLoader implements DocumentLoader {
+
+    /**
+     * The name under which the JSON-LD context cache metrics are published.
+     */
+    public static final String JSON_LD_CONTEXTS_CACHE = "jsonLdContexts";
+
+    /**
+     * The classpath location of the bundled contexts.
+     */
+    static final String BUNDLED_CONTEXTS = "jsonld/contexts/";
+
+    /**
+     * The file listing the contexts of a store, mapping the file name to the URL of the context.
+     */
+    static final String INDEX = "index.properties";
+
+    private static final String[] SCHEMES = {"http", "https"};
+
+    private static final Deque<JsonLdContextLoader> INSTALLED = new ConcurrentLinkedDeque<>();
+
+    private static final DocumentLoader ROUTED = (url, options) -> {
+        JsonLdContextLoader loader = INSTALLED.peekLast();
+        return loader == null ? HttpLoader.defaultInstance().loadDocument(url, options) : loader.loadDocument(url, options);
+    };
+
+    private final Map<URI, Resource> store;
+
+    private final DocumentLoader remoteLoader;
+
+    private final Set<URI> configuredContexts;
+
+    private final Cache<URI, Document> contexts;
+
+    /**
+     * Instantiates a new Json ld context loader.
+     *
+     * @param settings      the settings
+     * @param miwSettings   the miw settings
+     * @param cacheSettings the cache settings
+     * @param meterRegistry the meter registry
+     */
+    @Autowired
+    public JsonLdContextLoader(JsonLdSettings settings, MIWSettings miwSettings, CacheSettings cacheSettings, MeterRegistry meterRegistry) {
+        this(settings, miwSettings, cacheSettings, meterRegistry, settings.remoteFetch() ? HttpLoader.defaultInstance() : null);
+    }
+
+    /**
+     * Instantiates a new Json ld context loader.
+     *
+     * @param settings      the settings
+     * @param miwSettings   the miw settings
+     * @param cacheSettings the cache settings
+     * @param meterRegistry the meter registry
+     * @param remoteLoader  the loader of contexts missing from the store, {@code null} to not fetch them
+     */
+    JsonLdContextLoader(JsonLdSettings settings, MIWSettings miwSettings, CacheSettings cacheSettings, MeterRegistry meterRegistry,
+                        DocumentLoader remoteLoader) {
+        this.store = readStore(settings.contextDirectory());
+        this.remoteLoader = remoteLoader;
+        this.configuredContexts = new LinkedHashSet<>();
+        configuredContexts.addAll(miwSettings.vcContexts());
+        configuredContexts.addAll(miwSettings.summaryVcContexts());
+        configuredContexts.addAll(miwSettings.didDocumentContextUrls());
+        configuredContexts.add(CommonUtils.JWS_2020_CONTEXT);
+        this.contexts = Caffeine.newBuilder()
+                .maximumSize(cacheSettings.jsonLdContexts().maximumSize())
+                .expireAfter(new FetchedContextExpiry(store.keySet(), cacheSettings.jsonLdContexts().expireAfterWrite()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, contexts, JSON_LD_CONTEXTS_CACHE);
+        log.info("Serving {} JSON-LD contexts from the local store, fetching missing contexts is {}", store.size(),
+                remoteLoader == null ? "disabled" : "enabled");
+    }
+
+    /**
+     * Routes the http and https schemes of the default scheme router to this loader and loads the configured contexts.
+     */
+    @PostConstruct
+    public void install() {
+        INSTALLED.remove(this);
+        INSTALLED.addLast(this);
+        SchemeRouter router = (SchemeRouter) SchemeRouter.defaultInstance();
+        for (String scheme : SCHEMES) {
+            router.set(scheme, ROUTED);
+        }
+        preload();
+    }
+
+    /**
+     * Stops routing the http and https schemes of the default scheme router to this loader.
+     */
+    @PreDestroy
+    public void uninstall() {
+        INSTALLED.remove(this);
+    }
+
+    /**
+     * Loads the contexts of the settings into the cache. A context which cannot be loaded is only logged, the
+     * credentials using it fail when they are signed or verified.
+     */
+    void preload() {
+        for (URI context : configuredContexts) {
+            try {
+                loadDocument(context, new DocumentLoaderOptions());
+            } catch (JsonLdError e) {
+                log.warn("Could not load JSON-LD context {}: {}", context, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Loads a context from the cache, the local store or, if enabled, its URL.
+     *
+     * @param url     the url of the context
+     * @param options the options
+     * @return the context document
+     * @throws JsonLdError if the context is neither in the store nor can be fetched
+     */
+    @Override
+    public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        try {
+            return contexts.get(url, key -> {
+                try {
+                    return load(key, options);
+                } catch (JsonLdError e) {
+                    throw new LoadingFailedException(e);
+                }
+            });
+        } catch (LoadingFailedException e) {
+            throw e.error;
+        }
+    }
+
+    private Document load(URI url, DocumentLoaderOptions options) throws JsonLdError {
+        Resource resource = store.get(url);
+        if (resource != null) {
+            try (InputStream inputStream = resource.getInputStream()) {
+                JsonDocument document = JsonDocument.of(MediaType.JSON_LD, inputStream);
+                document.setDocumentUrl(url);
+                return document;
+            } catch (IOException e) {
+                throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, e);
+            }
+        }
+        if (remoteLoader == null) {
+            throw new JsonLdError(JsonLdErrorCode.LOADING_DOCUMENT_FAILED,
+                    "JSON-LD context " + url + " is not in the local store and fetching it is disabled");
+        }
+        log.info("JSON-LD context {} is not in the local store, fetching it", StringEscapeUtils.escapeJava(url.toString()));
+        return remoteLoader.loadDocument(url, options);
+    }
+
+    private static Map<URI, Resource> readStore(String contextDirectory) {
+        Map<URI, Resource> store = new HashMap<>();
+        readIndex(new ClassPathResource(BUNDLED_CONTEXTS), store);
+        if (StringUtils.isNotBlank(contextDirectory)) {
+            readIndex(new FileSystemResource(StringUtils.appendIfMissing(contextDirectory.trim(), "/")), store);
+        }
+        return store;
+    }
+
+    private static void readIndex(Resource directory, Map<URI, Resource> store) {
+        try {
+            Resource index = directory.createRelative(INDEX);
+            if (!index.exists()) {
+                log.warn("No JSON-LD contexts found, {} does not exist", index.getDescription());
+                return;
+            }
+            Properties properties = new Properties();
+            try (InputStream inputStream = index.getInputStream()) {
+                properties.load(inputStream);
+            }
+            for (String name : properties.stringPropertyNames()) {
+                Resource file = directory.createRelative(name);
+                if (file.exists()) {
+                    store.put(URI.create(properties.getProperty(name).trim()), file);
+                } else {
+                    log.warn("JSON-LD context {} listed in {} does not exist", name, index.getDescription());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Carries a {@link JsonLdError} out of the cache's mapping function.
+     */
+    private static final class LoadingFailedException extends RuntimeException {
+
+        private final JsonLdError error;
+
+        private LoadingFailedException(JsonLdError error) {
+            super(error);
+            this.error = error;
+        }
+    }
+
+    /**
+     * Never expires the contexts of the store, fetched contexts expire after the configured time.
+     */
+    private record FetchedContextExpiry(Set<URI> stored, Duration expireAfterWrite) implements Expiry<URI, Document> {
+
+        @Override
+        public long expireAfterCreate(URI url, Document document, long currentTime) {
+            return stored.contains(url) ? Long.MAX_VALUE : expireAfterWrite.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(URI url, Document document, long currentTime, long currentDuration) {
+            return expireAfterCreate(url, document, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(URI url, Document document, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
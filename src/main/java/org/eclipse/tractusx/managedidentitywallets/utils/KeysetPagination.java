@@ -0,0 +1,169 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.utils;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.MIWBaseEntity;
+import org.eclipse.tractusx.managedidentitywallets.dao.function.CredentialTypeFunctionContributor;
+import org.eclipse.tractusx.managedidentitywallets.dto.ContinuationPage;
+import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination over {@code (created_at, id)}.
+ * <p>
+ * Each page continues after the last row of the previous one instead of skipping an offset, so deep pages cost the
+ * same as the first one. The position is handed to clients as an opaque continuation token.
+ */
+public final class KeysetPagination {
+
+    public static final String SORT_COLUMN_NOT_SUPPORTED = "Continuation token pagination only supports sorting by createdAt";
+
+    private static final String ID = "id";
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Reads a page of entities matching the filter.
+     *
+     * @param repository        the repository
+     * @param filter            the filter of the listing
+     * @param continuationToken the token of the previous page, empty for the first page
+     * @param size              the page size
+     * @param sortType          asc or desc, applied to the creation date
+     * @param withTotalCount    whether to count all matching entities
+     * @param idOf              the id of an entity
+     * @param <T>               the entity type
+     * @return the page
+     */
+    public static <T extends MIWBaseEntity> ContinuationPage<T> read(JpaSpecificationExecutor<T> repository, Specification<T> filter,
+                                                                    String continuationToken, int size, String sortType,
+                                                                    boolean withTotalCount, Function<T, Long> idOf) {
+        Validate.isTrue(size < 1).launch(new BadDataException("Page size must be positive with a continuation token"));
+        boolean ascending = direction(sortType).isAscending();
+        Specification<T> specification = filter;
+        if (StringUtils.hasText(continuationToken)) {
+            specification = specification.and(after(decode(continuationToken), ascending));
+        }
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, StringPool.CREATED_AT).and(Sort.by(direction, ID));
+        int limit = size == Integer.MAX_VALUE ? size : size + 1;
+        List<T> rows = repository.findBy(specification, query -> query.sortBy(sort).limit(limit).all());
+
+        String nextToken = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            T last = rows.get(size - 1);
+            nextToken = encode(new Position(last.getCreatedAt().toInstant(), idOf.apply(last)));
+        }
+        Long total = withTotalCount ? repository.count(filter) : null;
+        return new ContinuationPage<>(rows, size, nextToken, total);
+    }
+
+    /**
+     * Matches entities whose attribute equals the value, or all entities if the value is empty.
+     *
+     * @param attribute the attribute
+     * @param value     the value
+     * @param <T>       the entity type
+     * @return the specification
+     */
+    public static <T> Specification<T> equal(String attribute, String value) {
+        return (root, query, cb) -> StringUtils.hasText(value) ? cb.equal(root.get(attribute), value) : null;
+    }
+
+    /**
+     * Matches entities whose array attribute contains any of the values, or all entities if there are no values.
+     *
+     * @param attribute the attribute
+     * @param values    the values
+     * @param <T>       the entity type
+     * @return the specification
+     */
+    public static <T> Specification<T> containsAny(String attribute, List<String> values) {
+        return (root, query, cb) -> CollectionUtils.isEmpty(values) ? null
+                : cb.isTrue(cb.function(CredentialTypeFunctionContributor.HAS_ANY_TYPE, Boolean.class, root.get(attribute),
+                cb.literal(String.join(",", values))));
+    }
+
+    private static <T> Specification<T> after(Position position, boolean ascending) {
+        Timestamp createdAt = Timestamp.from(position.createdAt());
+        return (root, query, cb) -> {
+            Path<Date> createdAtPath = root.get(StringPool.CREATED_AT);
+            Path<Long> idPath = root.get(ID);
+            Predicate sameCreatedAt = cb.equal(createdAtPath, createdAt);
+            return ascending
+                    ? cb.or(cb.greaterThan(createdAtPath, createdAt), cb.and(sameCreatedAt, cb.greaterThan(idPath, position.id())))
+                    : cb.or(cb.lessThan(createdAtPath, createdAt), cb.and(sameCreatedAt, cb.lessThan(idPath, position.id())));
+        };
+    }
+
+    private static Sort.Direction direction(String sortType) {
+        try {
+            return Sort.Direction.fromString(sortType);
+        } catch (IllegalArgumentException e) {
+            throw new BadDataException("Invalid sort type " + sortType);
+        }
+    }
+
+    static String encode(Position position) {
+        String value = position.createdAt() + SEPARATOR + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Position decode(String continuationToken) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new Position(Instant.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadDataException("Invalid continuation token");
+        }
+    }
+
+    /**
+     * The position of the last row of a page.
+     *
+     * @param createdAt the creation date
+     * @param id        the id
+     */
+    record Position(Instant createdAt, long id) {
+    }
+}
@@ -22,23 +22,21 @@
 package org.eclipse.tractusx.managedidentitywallets.utils;
 
 import jakarta.persistence.AttributeConverter;
-import lombok.SneakyThrows;
-import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+
 
 /**
- * The type String to did document converter.
+ * Maps the stored credential JSON to a {@link LazyVerifiableCredential}, without parsing it.
  */
-public class StringToDidDocumentConverter implements AttributeConverter<DidDocument, String> {
+public class LazyCredentialConverter implements AttributeConverter<LazyVerifiableCredential, String> {
 
-    @SneakyThrows
     @Override
-    public String convertToDatabaseColumn(DidDocument didDocument) {
-        return didDocument.toJson();
+    public String convertToDatabaseColumn(LazyVerifiableCredential credential) {
+        return credential == null ? null : credential.getJson();
     }
 
     @Override
-    public DidDocument convertToEntityAttribute(String string) {
-
-        return DidDocument.fromJson(string);
+    public LazyVerifiableCredential convertToEntityAttribute(String json) {
+        return json == null ? null : LazyVerifiableCredential.ofJson(json);
     }
-}
\ No newline at end of file
+}
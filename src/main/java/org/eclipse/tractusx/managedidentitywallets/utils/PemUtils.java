@@ -0,0 +1,171 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes PEM key material on byte arrays and buffers, so private keys never end up in immutable
+ * {@link String}s that stay on the heap until they are garbage collected.
+ * <p>
+ * The encoding matches the one of Bouncy Castle's {@code PemWriter}, which wrote the existing wallet keys.
+ */
+public final class PemUtils {
+
+    private static final byte[] BEGIN = "-----BEGIN ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END = "-----END ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DASHES = "-----".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+    private static final int LINE_LENGTH = 64;
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        byte[] alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < alphabet.length; i++) {
+            BASE64_VALUES[alphabet[i]] = (byte) i;
+        }
+    }
+
+    private PemUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Encodes DER content as PEM.
+     *
+     * @param type    the PEM type, e.g. {@code PRIVATE KEY}
+     * @param content the DER content
+     * @return the PEM bytes, to be wiped by the caller
+     */
+    public static byte[] encode(String type, byte[] content) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        byte[] base64 = Base64.getMimeEncoder(LINE_LENGTH, LINE_SEPARATOR).encode(content);
+        try {
+            ByteBuffer pem = ByteBuffer.allocate(BEGIN.length + END.length + 2 * (typeBytes.length + DASHES.length + 1) + base64.length + 1);
+            pem.put(BEGIN).put(typeBytes).put(DASHES).put(LINE_SEPARATOR)
+                    .put(base64).put(LINE_SEPARATOR)
+                    .put(END).put(typeBytes).put(DASHES).put(LINE_SEPARATOR);
+            return pem.array();
+        } finally {
+            wipe(base64);
+        }
+    }
+
+    /**
+     * Decodes the content of the first PEM object in a buffer. The content is written to a new buffer of the same
+     * kind, so key material read from a direct buffer stays outside the Java heap.
+     *
+     * @param pem the PEM bytes between position and limit, the buffer itself is not modified
+     * @return the DER content between position and limit, to be wiped by the caller
+     */
+    public static ByteBuffer decode(ByteBuffer pem) {
+        int begin = indexOf(pem, BEGIN, pem.position());
+        int contentStart = begin < 0 ? -1 : indexOf(pem, LINE_SEPARATOR, begin);
+        int contentEnd = contentStart < 0 ? -1 : indexOf(pem, END, contentStart);
+        if (contentEnd < 0) {
+            throw new IllegalArgumentException("No PEM object found");
+        }
+        int maxLength = (contentEnd - contentStart + 3) / 4 * 3;
+        ByteBuffer content = pem.isDirect() ? ByteBuffer.allocateDirect(maxLength) : ByteBuffer.allocate(maxLength);
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = contentStart + 1; i < contentEnd; i++) {
+            byte b = pem.get(i);
+            if (b == '=') {
+                break;
+            }
+            if (b == '\r' || b == '\n' || b == ' ' || b == '\t') {
+                continue;
+            }
+            if (b < 0 || BASE64_VALUES[b] < 0) {
+                wipe(content);
+                throw new IllegalArgumentException("Invalid character in PEM content");
+            }
+            bits = bits << 6 | BASE64_VALUES[b];
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                content.put((byte) (bits >> bitCount));
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+        return content.flip();
+    }
+
+    /**
+     * Decodes the content of the first PEM object to a byte array.
+     *
+     * @param pem the PEM bytes between position and limit
+     * @return the DER content, to be wiped by the caller
+     */
+    public static byte[] decodeToBytes(ByteBuffer pem) {
+        ByteBuffer content = decode(pem);
+        try {
+            byte[] bytes = new byte[content.remaining()];
+            content.get(bytes);
+            return bytes;
+        } finally {
+            wipe(content);
+        }
+    }
+
+    /**
+     * Overwrites the whole buffer with zeros.
+     *
+     * @param buffer the buffer
+     */
+    public static void wipe(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            Arrays.fill(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.capacity(), (byte) 0);
+        } else {
+            for (int i = 0; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+    }
+
+    /**
+     * Overwrites the array with zeros.
+     *
+     * @param bytes the bytes
+     */
+    public static void wipe(byte[] bytes) {
+        Arrays.fill(bytes, (byte) 0);
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte[] pattern, int from) {
+        for (int i = from; i <= buffer.limit() - pattern.length; i++) {
+            int j = 0;
+            while (j < pattern.length && buffer.get(i + j) == pattern[j]) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,59 +0,0 @@
-/*
- * *******************************************************************************
- *  Copyright (c) 2021,2023 Contributors to the Eclipse Foundation
- *
- *  See the NOTICE file(s) distributed with this work for additional
- *  information regarding copyright ownership.
- *
- *  This program and the accompanying materials are made available under the
- *  terms of the Apache License, Version 2.0 which is available at
- *  https://www.apache.org/licenses/LICENSE-2.0.
- *
- *  Unless required by applicable law or agreed to in writing, software
- *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
- *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
- *  License for the specific language governing permissions and limitations
- *  under the License.
- *
- *  SPDX-License-Identifier: Apache-2.0
- * ******************************************************************************
- */
-
-package org.eclipse.tractusx.managedidentitywallets.utils;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.persistence.AttributeConverter;
-import lombok.SneakyThrows;
-import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
-
-import java.util.Map;
-
-
-/**
- * The type String to credential converter.
- */
-public class StringToCredentialConverter implements AttributeConverter<VerifiableCredential, String> {
-
-    private final ObjectMapper objectMapper;
-
-    /**
-     * Instantiates a new String to credential converter.
-     *
-     * @param objectMapper the object mapper
-     */
-    public StringToCredentialConverter(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-    }
-
-    @Override
-    public String convertToDatabaseColumn(VerifiableCredential verifiableCredential) {
-        return verifiableCredential.toJson();
-    }
-
-    @SneakyThrows
-    @Override
-    public VerifiableCredential convertToEntityAttribute(String string) {
-        Map<String, Object> map = objectMapper.readValue(string, Map.class);
-        return new VerifiableCredential(map);
-    }
-}
\ No newline at end of file
@@ -0,0 +1,43 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+
+-- liquibase formatted sql
+-- changeset miw:create-issuance-job-table
+
+CREATE TABLE IF NOT EXISTS public.issuance_job
+(
+    id              uuid         NOT NULL,
+    job_type        varchar(50)  NOT NULL,
+    status          varchar(50)  NOT NULL,
+    caller_bpn      varchar(255) NOT NULL,
+    request_json    jsonb        NOT NULL,
+    credential_json jsonb        NULL,
+    error           text         NULL,
+    created_at      timestamp(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    modified_at     timestamp(6) NULL,
+    modified_from   varchar(255) NULL,
+    CONSTRAINT issuance_job_pkey PRIMARY KEY (id)
+);
+COMMENT ON TABLE public.issuance_job IS 'This table will store the credential issuance requests processed asynchronously and their results';
+
+-- the workers only look for pending jobs, oldest first
+CREATE INDEX IF NOT EXISTS issuance_job_pending_idx ON public.issuance_job (created_at) WHERE status = 'PENDING';
@@ -0,0 +1,35 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+-- liquibase formatted sql
+-- changeset miw:create-re-encryption-checkpoint-table
+
+CREATE TABLE IF NOT EXISTS public.re_encryption_checkpoint
+(
+    job_name      varchar(255) NOT NULL,
+    last_id       int8         NOT NULL DEFAULT 0,
+    processed     int8         NOT NULL DEFAULT 0,
+    completed     bool         NOT NULL DEFAULT false,
+    created_at    timestamp(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    modified_at   timestamp(6) NULL,
+    CONSTRAINT re_encryption_checkpoint_pkey PRIMARY KEY (job_name)
+);
+COMMENT ON TABLE public.re_encryption_checkpoint IS 'This table will store the progress of the wallet key re-encryption job';
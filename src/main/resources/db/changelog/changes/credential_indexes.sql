@@ -0,0 +1,42 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+
+
+-- liquibase formatted sql
+
+-- Indexes for the credential lookups, which filter by holder and issuer DIDs and sort by creation date. Type filters
+-- are applied on top of them, or through the GIN index of credential_types when the DIDs select many rows. The
+-- indexes are built concurrently, so writes are not blocked while they are created.
+
+-- changeset miw:add-credential-lookup-indexes runInTransaction:false
+-- listings, exports and type lookups of a holder
+CREATE INDEX CONCURRENTLY IF NOT EXISTS holders_credential_holder_created_idx ON public.holders_credential (holder_did, created_at, id);
+-- summary credential lookups
+CREATE INDEX CONCURRENTLY IF NOT EXISTS holders_credential_holder_issuer_stored_idx ON public.holders_credential (holder_did, issuer_did, is_stored);
+-- duplicate checks of stored credentials
+CREATE INDEX CONCURRENTLY IF NOT EXISTS holders_credential_holder_credential_id_idx ON public.holders_credential (holder_did, credential_id);
+-- listings and exports of an issuer
+CREATE INDEX CONCURRENTLY IF NOT EXISTS issuers_credential_issuer_created_idx ON public.issuers_credential (issuer_did, created_at, id);
+-- credentials issued to a holder, latest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS issuers_credential_issuer_holder_created_idx ON public.issuers_credential (issuer_did, holder_did, created_at DESC);
+-- cascading deletes of wallets
+CREATE INDEX CONCURRENTLY IF NOT EXISTS issuers_credential_holder_idx ON public.issuers_credential (holder_did);
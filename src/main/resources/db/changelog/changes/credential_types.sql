@@ -0,0 +1,83 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+
+
+-- liquibase formatted sql
+
+-- Stores the comma joined credential_type as a text[] column with a GIN index, so type filters are index lookups and
+-- match single types of credentials having several. The column is derived from credential_type by a trigger, which
+-- keeps it right for instances writing only credential_type during a rolling update.
+
+-- changeset miw:add-credential-types-columns splitStatements:false
+ALTER TABLE public.holders_credential ADD COLUMN IF NOT EXISTS credential_types text[] NULL;
+ALTER TABLE public.issuers_credential ADD COLUMN IF NOT EXISTS credential_types text[] NULL;
+
+CREATE OR REPLACE FUNCTION public.sync_credential_types() RETURNS trigger AS
+$$
+BEGIN
+    NEW.credential_types := string_to_array(NEW.credential_type, ',');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS holders_credential_sync_types ON public.holders_credential;
+CREATE TRIGGER holders_credential_sync_types BEFORE INSERT OR UPDATE OF credential_type ON public.holders_credential
+    FOR EACH ROW EXECUTE FUNCTION public.sync_credential_types();
+
+DROP TRIGGER IF EXISTS issuers_credential_sync_types ON public.issuers_credential;
+CREATE TRIGGER issuers_credential_sync_types BEFORE INSERT OR UPDATE OF credential_type ON public.issuers_credential
+    FOR EACH ROW EXECUTE FUNCTION public.sync_credential_types();
+
+-- changeset miw:backfill-credential-types-columns runInTransaction:false splitStatements:false
+DO
+$$
+DECLARE
+    last_id bigint;
+    batch_end bigint;
+BEGIN
+    last_id := 0;
+    LOOP
+        SELECT max(id) INTO batch_end FROM (SELECT id FROM public.holders_credential WHERE id > last_id ORDER BY id LIMIT 1000) batch;
+        EXIT WHEN batch_end IS NULL;
+        UPDATE public.holders_credential SET credential_types = string_to_array(credential_type, ',')
+        WHERE id > last_id AND id <= batch_end AND credential_types IS NULL;
+        last_id := batch_end;
+        COMMIT;
+    END LOOP;
+
+    last_id := 0;
+    LOOP
+        SELECT max(id) INTO batch_end FROM (SELECT id FROM public.issuers_credential WHERE id > last_id ORDER BY id LIMIT 1000) batch;
+        EXIT WHEN batch_end IS NULL;
+        UPDATE public.issuers_credential SET credential_types = string_to_array(credential_type, ',')
+        WHERE id > last_id AND id <= batch_end AND credential_types IS NULL;
+        last_id := batch_end;
+        COMMIT;
+    END LOOP;
+END
+$$;
+
+-- changeset miw:index-credential-types-columns runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS holders_credential_types_idx ON public.holders_credential USING gin (credential_types);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS issuers_credential_types_idx ON public.issuers_credential USING gin (credential_types);
+COMMENT ON COLUMN public.holders_credential.credential_types IS 'Types of the credential, derived from credential_type';
+COMMENT ON COLUMN public.issuers_credential.credential_types IS 'Types of the credential, derived from credential_type';
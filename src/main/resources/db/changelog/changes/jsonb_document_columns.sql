@@ -0,0 +1,146 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+
+-- liquibase formatted sql
+
+-- Expand phase of moving credential_data and did_document from text to jsonb. The jsonb columns are added next to the
+-- text ones and kept in sync by triggers, so instances still writing the text columns keep working during a rolling
+-- update. The text columns can be dropped together with the triggers once no such instance is left.
+
+-- changeset miw:add-jsonb-document-columns
+ALTER TABLE public.holders_credential ADD COLUMN IF NOT EXISTS credential_json jsonb NULL;
+ALTER TABLE public.holders_credential ALTER COLUMN credential_data DROP NOT NULL;
+ALTER TABLE public.issuers_credential ADD COLUMN IF NOT EXISTS credential_json jsonb NULL;
+ALTER TABLE public.issuers_credential ALTER COLUMN credential_data DROP NOT NULL;
+ALTER TABLE public.wallet ADD COLUMN IF NOT EXISTS did_document_json jsonb NULL;
+ALTER TABLE public.wallet ALTER COLUMN did_document DROP NOT NULL;
+
+-- changeset miw:sync-jsonb-document-columns splitStatements:false
+CREATE OR REPLACE FUNCTION public.sync_credential_json() RETURNS trigger AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        IF NEW.credential_json IS NULL THEN
+            NEW.credential_json := NEW.credential_data::jsonb;
+        ELSIF NEW.credential_data IS NULL THEN
+            NEW.credential_data := NEW.credential_json::text;
+        END IF;
+    ELSIF NEW.credential_data IS DISTINCT FROM OLD.credential_data AND NEW.credential_json IS NOT DISTINCT FROM OLD.credential_json THEN
+        NEW.credential_json := NEW.credential_data::jsonb;
+    ELSIF NEW.credential_json IS DISTINCT FROM OLD.credential_json AND NEW.credential_data IS NOT DISTINCT FROM OLD.credential_data
+        AND OLD.credential_json IS NOT NULL THEN
+        NEW.credential_data := NEW.credential_json::text;
+    END IF;
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION public.sync_did_document_json() RETURNS trigger AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        IF NEW.did_document_json IS NULL THEN
+            NEW.did_document_json := NEW.did_document::jsonb;
+        ELSIF NEW.did_document IS NULL THEN
+            NEW.did_document := NEW.did_document_json::text;
+        END IF;
+    ELSIF NEW.did_document IS DISTINCT FROM OLD.did_document AND NEW.did_document_json IS NOT DISTINCT FROM OLD.did_document_json THEN
+        NEW.did_document_json := NEW.did_document::jsonb;
+    ELSIF NEW.did_document_json IS DISTINCT FROM OLD.did_document_json AND NEW.did_document IS NOT DISTINCT FROM OLD.did_document
+        AND OLD.did_document_json IS NOT NULL THEN
+        NEW.did_document := NEW.did_document_json::text;
+    END IF;
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS holders_credential_sync_json ON public.holders_credential;
+CREATE TRIGGER holders_credential_sync_json BEFORE INSERT OR UPDATE ON public.holders_credential
+    FOR EACH ROW EXECUTE FUNCTION public.sync_credential_json();
+
+DROP TRIGGER IF EXISTS issuers_credential_sync_json ON public.issuers_credential;
+CREATE TRIGGER issuers_credential_sync_json BEFORE INSERT OR UPDATE ON public.issuers_credential
+    FOR EACH ROW EXECUTE FUNCTION public.sync_credential_json();
+
+DROP TRIGGER IF EXISTS wallet_sync_did_document_json ON public.wallet;
+CREATE TRIGGER wallet_sync_did_document_json BEFORE INSERT OR UPDATE ON public.wallet
+    FOR EACH ROW EXECUTE FUNCTION public.sync_did_document_json();
+
+-- Backfills the existing rows in batches, each committed on its own, so the tables stay available and no long
+-- running transaction is held. Rows written meanwhile are covered by the triggers.
+-- changeset miw:backfill-jsonb-document-columns runInTransaction:false splitStatements:false
+DO
+$$
+DECLARE
+    last_id bigint;
+    batch_end bigint;
+BEGIN
+    last_id := 0;
+    LOOP
+        SELECT max(id) INTO batch_end FROM (SELECT id FROM public.holders_credential WHERE id > last_id ORDER BY id LIMIT 1000) batch;
+        EXIT WHEN batch_end IS NULL;
+        UPDATE public.holders_credential SET credential_json = credential_data::jsonb
+        WHERE id > last_id AND id <= batch_end AND credential_json IS NULL;
+        last_id := batch_end;
+        COMMIT;
+    END LOOP;
+
+    last_id := 0;
+    LOOP
+        SELECT max(id) INTO batch_end FROM (SELECT id FROM public.issuers_credential WHERE id > last_id ORDER BY id LIMIT 1000) batch;
+        EXIT WHEN batch_end IS NULL;
+        UPDATE public.issuers_credential SET credential_json = credential_data::jsonb
+        WHERE id > last_id AND id <= batch_end AND credential_json IS NULL;
+        last_id := batch_end;
+        COMMIT;
+    END LOOP;
+
+    last_id := 0;
+    LOOP
+        SELECT max(id) INTO batch_end FROM (SELECT id FROM public.wallet WHERE id > last_id ORDER BY id LIMIT 1000) batch;
+        EXIT WHEN batch_end IS NULL;
+        UPDATE public.wallet SET did_document_json = did_document::jsonb
+        WHERE id > last_id AND id <= batch_end AND did_document_json IS NULL;
+        last_id := batch_end;
+        COMMIT;
+    END LOOP;
+END
+$$;
+
+-- The NOT NULL constraints are first validated as check constraints, which does not block writes, so setting them
+-- does not need to scan the tables under an exclusive lock.
+-- changeset miw:require-jsonb-document-columns
+ALTER TABLE public.holders_credential ADD CONSTRAINT holders_credential_json_not_null CHECK (credential_json IS NOT NULL) NOT VALID;
+ALTER TABLE public.holders_credential VALIDATE CONSTRAINT holders_credential_json_not_null;
+ALTER TABLE public.holders_credential ALTER COLUMN credential_json SET NOT NULL;
+ALTER TABLE public.holders_credential DROP CONSTRAINT holders_credential_json_not_null;
+ALTER TABLE public.issuers_credential ADD CONSTRAINT issuers_credential_json_not_null CHECK (credential_json IS NOT NULL) NOT VALID;
+ALTER TABLE public.issuers_credential VALIDATE CONSTRAINT issuers_credential_json_not_null;
+ALTER TABLE public.issuers_credential ALTER COLUMN credential_json SET NOT NULL;
+ALTER TABLE public.issuers_credential DROP CONSTRAINT issuers_credential_json_not_null;
+ALTER TABLE public.wallet ADD CONSTRAINT wallet_did_document_json_not_null CHECK (did_document_json IS NOT NULL) NOT VALID;
+ALTER TABLE public.wallet VALIDATE CONSTRAINT wallet_did_document_json_not_null;
+ALTER TABLE public.wallet ALTER COLUMN did_document_json SET NOT NULL;
+ALTER TABLE public.wallet DROP CONSTRAINT wallet_did_document_json_not_null;
+COMMENT ON COLUMN public.holders_credential.credential_json IS 'Credential JSON, replaces credential_data';
+COMMENT ON COLUMN public.issuers_credential.credential_json IS 'Credential JSON, replaces credential_data';
+COMMENT ON COLUMN public.wallet.did_document_json IS 'DID document JSON, replaces did_document';
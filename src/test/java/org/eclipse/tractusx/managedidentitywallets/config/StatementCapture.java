@@ -0,0 +1,72 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread while an action runs, so tests can check the statements
+ * generated for repository methods. Outside of {@link #capture(Runnable)} statements are passed through untouched.
+ */
+@Component
+public class StatementCapture implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+    /**
+     * Runs the action and returns the SQL it prepared.
+     *
+     * @param action the action
+     * @return the statements in the order they were prepared
+     */
+    public List<String> capture(Runnable action) {
+        List<String> captured = new ArrayList<>();
+        statements.set(captured);
+        try {
+            action.run();
+        } finally {
+            statements.remove();
+        }
+        return captured;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = statements.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dao.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.managedidentitywallets.domain.LazyVerifiableCredential;
+import org.eclipse.tractusx.managedidentitywallets.utils.LazyCredentialConverter;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class HoldersCredentialEntityTest {
+
+    private static final String VC = """
+            {
+                "@context": ["https://www.w3.org/2018/credentials/v1", "https://www.w3.org/2018/credentials/examples/v1"],
+                "id": "urn:uuid:12345678-1234-1234-1234-123456789abc",
+                "type": ["VerifiableCredential", "University-Degree-Credential"],
+                "issuer": "did:web:localhost:BPNL000000000000",
+                "issuanceDate": "2023-06-02T12:00:00Z",
+                "expirationDate": "2030-06-02T12:00:00Z",
+                "credentialSubject": [{"id": "did:web:localhost:BPNL000000000001", "college": "Test-University"}]
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final LazyCredentialConverter converter = new LazyCredentialConverter();
+
+    @Test
+    void storedCredentialIsParsedOnceTest() {
+        LazyVerifiableCredential stored = converter.convertToEntityAttribute(VC);
+
+        VerifiableCredential data = stored.get();
+
+        Assertions.assertEquals("urn:uuid:12345678-1234-1234-1234-123456789abc", data.getId().toString());
+        Assertions.assertSame(data, stored.get());
+    }
+
+    @Test
+    void storedJsonIsSerializedAsIsTest() throws Exception {
+        LazyVerifiableCredential stored = converter.convertToEntityAttribute(VC);
+
+        String json = objectMapper.writeValueAsString(Map.of("content", List.of(stored)));
+
+        Assertions.assertEquals(objectMapper.readTree("{\"content\":[" + VC + "]}"), objectMapper.readTree(json));
+        Assertions.assertEquals(VC, converter.convertToDatabaseColumn(stored));
+    }
+
+    @Test
+    void builderAndSetterRenderTheCredentialTest() throws Exception {
+        VerifiableCredential verifiableCredential = new VerifiableCredential(objectMapper.readValue(VC, Map.class));
+
+        HoldersCredential built = HoldersCredential.builder().data(verifiableCredential).build();
+        HoldersCredential set = new HoldersCredential();
+        set.setData(verifiableCredential);
+
+        Assertions.assertSame(verifiableCredential, built.getData());
+        Assertions.assertEquals(built.getCredential(), set.getCredential());
+        Assertions.assertEquals(objectMapper.readTree(VC), objectMapper.readTree(converter.convertToDatabaseColumn(built.getCredential())));
+        Assertions.assertEquals(built.getCredential(), IssuersCredential.of(built).getCredential());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dao.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.tractusx.managedidentitywallets.utils.TestConstants;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WalletEntityTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void didDocumentIsParsedOnFirstAccessTest() {
+        Wallet wallet = Wallet.builder()
+                .bpn(TestConstants.BPN_1)
+                .didDocumentJson(DidDocument.fromJson(TestConstants.DID_JSON_STRING_1).toJson())
+                .build();
+
+        DidDocument didDocument = wallet.getDidDocument();
+
+        Assertions.assertEquals(DidDocument.fromJson(TestConstants.DID_JSON_STRING_1), didDocument);
+        Assertions.assertSame(didDocument, wallet.getDidDocument());
+    }
+
+    @Test
+    void didDocumentJsonFollowsSetterTest() {
+        Wallet wallet = new Wallet();
+
+        wallet.setDidDocument(DidDocument.fromJson(TestConstants.DID_JSON_STRING_1));
+
+        Assertions.assertEquals(DidDocument.fromJson(TestConstants.DID_JSON_STRING_1), DidDocument.fromJson(wallet.getDidDocumentJson()));
+    }
+
+    @Test
+    void didDocumentIsSerializedAsObjectTest() throws Exception {
+        Wallet wallet = Wallet.builder()
+                .bpn(TestConstants.BPN_1)
+                .didDocument(DidDocument.fromJson(TestConstants.DID_JSON_STRING_1))
+                .build();
+
+        String json = objectMapper.writeValueAsString(wallet);
+        Wallet read = objectMapper.readValue(json, Wallet.class);
+
+        Assertions.assertTrue(objectMapper.readTree(json).get("didDocument").isObject());
+        Assertions.assertEquals(wallet.getDidDocument(), read.getDidDocument());
+    }
+}
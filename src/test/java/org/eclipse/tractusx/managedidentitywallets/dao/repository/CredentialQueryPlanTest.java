@@ -0,0 +1,211 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dao.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.ManagedIdentityWalletsApplication;
+import org.eclipse.tractusx.managedidentitywallets.config.StatementCapture;
+import org.eclipse.tractusx.managedidentitywallets.config.TestContextInitializer;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.IssuersCredential;
+import org.eclipse.tractusx.managedidentitywallets.utils.KeysetPagination;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Seeds the credential tables with enough rows for the planner to prefer indexes, then calls the credential queries
+ * and checks with {@code EXPLAIN} that the SQL Hibernate generated for them does not scan the tables.
+ * <p>
+ * The statements are captured without their bind values, so they are explained as generic plans. These are also the
+ * plans PostgreSQL settles on for prepared statements the driver runs repeatedly.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, classes = { ManagedIdentityWalletsApplication.class })
+@ContextConfiguration(initializers = { TestContextInitializer.class })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CredentialQueryPlanTest {
+
+    private static final String DID_PREFIX = "did:web:plan-test:";
+
+    private static final int WALLETS = 1000;
+
+    private static final int ISSUERS = 20;
+
+    private static final int CREDENTIALS = 50000;
+
+    private static final String HOLDER_DID = DID_PREFIX + 7;
+
+    private static final String ISSUER_DID = DID_PREFIX + "issuer" + 7;
+
+    private static final String RARE_TYPE = "RareCredential";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @Autowired
+    private HoldersCredentialRepository holdersCredentialRepository;
+
+    @Autowired
+    private IssuersCredentialRepository issuersCredentialRepository;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO wallet (name, did, bpn, did_document_json)
+                SELECT 'plan-test', ? || i, 'PLANTEST' || i, '{}'::jsonb FROM generate_series(0, ?) i
+                """, DID_PREFIX, WALLETS - 1);
+        jdbcTemplate.update("""
+                INSERT INTO holders_credential (holder_did, issuer_did, credential_id, credential_json, credential_type, is_stored, created_at)
+                SELECT ? || (i % ?), ? || 'issuer' || (i % ?), 'urn:uuid:plan-test-' || i, jsonb_build_object('id', 'urn:uuid:plan-test-' || i),
+                       CASE WHEN i % 100 = 0 THEN ? ELSE 'Type' || (i % 5) || ',SummaryCredential' END, i % 2 = 0,
+                       now() - i * interval '1 minute'
+                FROM generate_series(1, ?) i
+                """, DID_PREFIX, WALLETS, DID_PREFIX, ISSUERS, RARE_TYPE, CREDENTIALS);
+        jdbcTemplate.update("""
+                INSERT INTO issuers_credential (holder_did, issuer_did, credential_id, credential_json, credential_type, created_at)
+                SELECT ? || (i % ?), ? || 'issuer' || (i % ?), 'urn:uuid:plan-test-' || i, jsonb_build_object('id', 'urn:uuid:plan-test-' || i),
+                       CASE WHEN i % 100 = 0 THEN ? ELSE 'Type' || (i % 5) || ',SummaryCredential' END,
+                       now() - i * interval '1 minute'
+                FROM generate_series(1, ?) i
+                """, DID_PREFIX, WALLETS, DID_PREFIX, ISSUERS, RARE_TYPE, CREDENTIALS);
+        jdbcTemplate.execute("ANALYZE wallet, holders_credential, issuers_credential");
+    }
+
+    @AfterAll
+    void clean() {
+        jdbcTemplate.update("DELETE FROM wallet WHERE did LIKE ?", DID_PREFIX + "%");
+    }
+
+    @Test
+    void holdersCredentialQueriesUseIndexesTest() {
+        Date since = Date.from(Instant.now().minus(1, ChronoUnit.DAYS));
+
+        assertIndexScans(() -> holdersCredentialRepository.getByHolderDid(HOLDER_DID));
+        assertIndexScans(() -> holdersCredentialRepository.getCredentialsByHolder(HOLDER_DID));
+        assertIndexScans(() -> transactionTemplate.executeWithoutResult(status -> holdersCredentialRepository.streamCredentialsByHolder(HOLDER_DID, since).close()));
+        assertIndexScans(() -> holdersCredentialRepository.getByHolderDidAndType(HOLDER_DID, RARE_TYPE));
+        assertIndexScans(() -> holdersCredentialRepository.getByHolderDidAndTypeIn(HOLDER_DID, List.of("Type1", "Type2", RARE_TYPE)));
+        assertIndexScans(() -> holdersCredentialRepository.getByHolderDidAndIssuerDidAndTypeAndStored(HOLDER_DID, ISSUER_DID, "SummaryCredential", false));
+        assertIndexScans(() -> holdersCredentialRepository.existsByHolderDidAndType(HOLDER_DID, "SummaryCredential"));
+        assertIndexScans(() -> holdersCredentialRepository.existsByHolderDidAndCredentialId(HOLDER_DID, "urn:uuid:plan-test-7"));
+        // HoldersCredentialService#getCredentials, filtered by type
+        Specification<HoldersCredential> filter = Specification.<HoldersCredential>where(KeysetPagination.equal(StringPool.HOLDER_DID, HOLDER_DID))
+                .and(KeysetPagination.containsAny(StringPool.TYPES, List.of("Type1", "Type2")));
+        assertIndexScans(() -> KeysetPagination.read(holdersCredentialRepository, filter, null, 10, "desc", false, HoldersCredential::getId));
+    }
+
+    @Test
+    void issuersCredentialQueriesUseIndexesTest() {
+        Date since = Date.from(Instant.now().minus(1, ChronoUnit.DAYS));
+
+        assertIndexScans(() -> issuersCredentialRepository.getByIssuerDidAndHolderDidAndType(ISSUER_DID, HOLDER_DID, "SummaryCredential"));
+        assertIndexScans(() -> transactionTemplate.executeWithoutResult(status -> issuersCredentialRepository.streamCredentialsByIssuer(ISSUER_DID, since).close()));
+        // SummaryCredentialRefresher#getLastIssuedSummaryCredential
+        Specification<IssuersCredential> lastIssued = Specification.<IssuersCredential>where(KeysetPagination.equal(StringPool.HOLDER_DID, HOLDER_DID))
+                .and(KeysetPagination.equal(StringPool.ISSUER_DID, ISSUER_DID))
+                .and(KeysetPagination.containsAny(StringPool.TYPES, List.of("SummaryCredential")));
+        assertIndexScans(() -> issuersCredentialRepository.findAll(lastIssued, PageRequest.of(0, 1, Sort.Direction.DESC, StringPool.CREATED_AT)));
+        // IssuersCredentialService#getCredentials
+        Specification<IssuersCredential> byIssuer = KeysetPagination.equal(StringPool.ISSUER_DID, ISSUER_DID);
+        assertIndexScans(() -> KeysetPagination.read(issuersCredentialRepository, byIssuer, null, 10, "desc", false, IssuersCredential::getId));
+        // IssuersCredentialService#getCredentials, filtered by a rare type
+        Specification<IssuersCredential> byIssuerAndType = byIssuer.and(KeysetPagination.containsAny(StringPool.TYPES, List.of(RARE_TYPE)));
+        assertIndexScans(() -> KeysetPagination.read(issuersCredentialRepository, byIssuerAndType, null, 10, "desc", false, IssuersCredential::getId));
+    }
+
+    @Test
+    void typeFilterUsesTypesIndexTest() {
+        List<String> statements = statementCapture.capture(() -> holdersCredentialRepository.findAll(KeysetPagination.containsAny(StringPool.TYPES, List.of(RARE_TYPE))));
+
+        Assertions.assertEquals(1, statements.size(), statements::toString);
+        String plan = explain(statements.get(0));
+        Assertions.assertTrue(plan.contains("holders_credential_types_idx"), plan);
+    }
+
+    private void assertIndexScans(Runnable query) {
+        List<String> statements = statementCapture.capture(query);
+        Assertions.assertFalse(statements.isEmpty(), "no statement was captured");
+        for (String sql : statements) {
+            String plan = explain(sql);
+            Assertions.assertFalse(plan.contains("Seq Scan"), () -> sql + "\n" + plan);
+            Assertions.assertTrue(plan.contains("Index"), () -> sql + "\n" + plan);
+        }
+    }
+
+    /**
+     * Explains the generic plan of a statement, its {@code ?} placeholders are numbered and left unbound.
+     */
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length());
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(c);
+            }
+        }
+        String arguments = parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE plan_test AS " + numbered);
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN EXECUTE plan_test" + arguments)) {
+                    List<String> lines = new ArrayList<>();
+                    while (resultSet.next()) {
+                        lines.add(resultSet.getString(1));
+                    }
+                    return String.join("\n", lines);
+                } finally {
+                    statement.execute("DEALLOCATE plan_test");
+                    statement.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+    }
+}
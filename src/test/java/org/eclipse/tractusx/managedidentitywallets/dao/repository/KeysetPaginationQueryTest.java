@@ -0,0 +1,120 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.dao.repository;
+
+import org.eclipse.tractusx.managedidentitywallets.ManagedIdentityWalletsApplication;
+import org.eclipse.tractusx.managedidentitywallets.config.TestContextInitializer;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dto.ContinuationPage;
+import org.eclipse.tractusx.managedidentitywallets.utils.KeysetPagination;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Pages through wallets that share one creation date, so the continuation token has to fall back to the id to keep
+ * its position.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, classes = { ManagedIdentityWalletsApplication.class })
+@ContextConfiguration(initializers = { TestContextInitializer.class })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPaginationQueryTest {
+
+    private static final String BPN_PREFIX = "KEYSETTEST";
+
+    private static final int WALLETS = 7;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @BeforeAll
+    void seed() {
+        // microseconds on purpose, the token has to keep them to match the stored value
+        jdbcTemplate.update("""
+                INSERT INTO wallet (name, did, bpn, did_document_json, created_at)
+                SELECT 'keyset-test', 'did:web:keyset-test:' || i, ? || i, '{}'::jsonb, timestamp '2024-01-01 00:00:00.123456'
+                FROM generate_series(1, ?) i
+                """, BPN_PREFIX, WALLETS);
+        jdbcTemplate.update("""
+                INSERT INTO wallet (name, did, bpn, did_document_json, created_at)
+                VALUES ('keyset-test', 'did:web:keyset-test:older', ? || 'OLDER', '{}'::jsonb, timestamp '2023-12-31 00:00:00')
+                """, BPN_PREFIX);
+    }
+
+    @AfterAll
+    void clean() {
+        jdbcTemplate.update("DELETE FROM wallet WHERE bpn LIKE ?", BPN_PREFIX + "%");
+    }
+
+    @Test
+    void descendingPagesVisitRowsWithSameCreationDateOnceTest() {
+        List<Wallet> wallets = readAll("desc");
+
+        Assertions.assertEquals(WALLETS + 1, wallets.size());
+        Assertions.assertEquals(BPN_PREFIX + "OLDER", wallets.get(WALLETS).getBpn());
+        List<Long> ids = wallets.subList(0, WALLETS).stream().map(Wallet::getId).toList();
+        Assertions.assertEquals(ids.stream().sorted(Comparator.reverseOrder()).distinct().toList(), ids);
+    }
+
+    @Test
+    void ascendingPagesVisitRowsWithSameCreationDateOnceTest() {
+        List<Wallet> wallets = readAll("asc");
+
+        Assertions.assertEquals(WALLETS + 1, wallets.size());
+        Assertions.assertEquals(BPN_PREFIX + "OLDER", wallets.get(0).getBpn());
+        List<Long> ids = wallets.subList(1, WALLETS + 1).stream().map(Wallet::getId).toList();
+        Assertions.assertEquals(ids.stream().sorted().distinct().toList(), ids);
+    }
+
+    private List<Wallet> readAll(String sortType) {
+        Specification<Wallet> filter = (root, query, cb) -> cb.like(root.get("bpn"), BPN_PREFIX + "%");
+        List<Wallet> wallets = new ArrayList<>();
+        String continuationToken = null;
+        int pages = 0;
+        do {
+            ContinuationPage<Wallet> page = KeysetPagination.read(walletRepository, filter, continuationToken, 2, sortType, pages == 0, Wallet::getId);
+            if (pages == 0) {
+                Assertions.assertEquals(WALLETS + 1, page.getTotalElements());
+            }
+            wallets.addAll(page.getContent());
+            continuationToken = page.getContinuationToken();
+            pages++;
+        } while (continuationToken != null && pages <= WALLETS);
+        Assertions.assertNull(continuationToken);
+        Assertions.assertEquals((WALLETS + 2) / 2, pages);
+        return wallets;
+    }
+}
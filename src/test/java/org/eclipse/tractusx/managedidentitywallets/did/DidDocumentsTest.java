@@ -29,11 +29,15 @@ import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
 import org.eclipse.tractusx.managedidentitywallets.dto.CreateWalletRequest;
 import org.eclipse.tractusx.managedidentitywallets.service.WalletService;
 import org.eclipse.tractusx.managedidentitywallets.utils.TestUtils;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
@@ -86,6 +90,26 @@ class DidDocumentsTest {
         Assertions.assertNotNull(response.getBody());
     }
 
+    @Test
+    void getDidResolveNotModified304() {
+
+        String bpn = TestUtils.getRandomBpmNumber();
+
+        createWallet(bpn);
+        ResponseEntity<String> response = restTemplate.getForEntity(RestURI.DID_RESOLVE, String.class, bpn);
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode().value());
+        String eTag = response.getHeaders().getETag();
+        Assertions.assertNotNull(eTag);
+        Assertions.assertNotNull(response.getHeaders().getCacheControl());
+        Assertions.assertEquals(walletService.getWalletByIdentifier(bpn, false, bpn).getDidDocument(), DidDocument.fromJson(response.getBody()));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        ResponseEntity<String> notModified = restTemplate.exchange(RestURI.DID_RESOLVE, HttpMethod.GET, new HttpEntity<>(headers), String.class, bpn);
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED.value(), notModified.getStatusCode().value());
+        Assertions.assertNull(notModified.getBody());
+    }
+
     private Wallet createWallet(String bpn) {
         CreateWalletRequest createWalletRequest = new CreateWalletRequest();
         createWalletRequest.setBusinessPartnerNumber(bpn);
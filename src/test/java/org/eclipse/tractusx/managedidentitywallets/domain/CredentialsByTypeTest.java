@@ -0,0 +1,51 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.domain;
+
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class CredentialsByTypeTest {
+
+    @Test
+    void missingTypesKeepRequestOrderTest() {
+        HoldersCredential membership = HoldersCredential.builder().type("MembershipCredential").build();
+        HoldersCredential summary = HoldersCredential.builder().type("SummaryCredential,BpnCredential").build();
+
+        CredentialsByType credentialsByType = CredentialsByType.of(
+                List.of("DismantlerCredential", "BpnCredential", "MembershipCredential", "PcfCredential"), List.of(membership, summary));
+
+        Assertions.assertEquals(List.of(membership, summary), credentialsByType.credentials());
+        Assertions.assertEquals(List.of("DismantlerCredential", "PcfCredential"), credentialsByType.missingTypes());
+    }
+
+    @Test
+    void allTypesMissingWithoutCredentialsTest() {
+        CredentialsByType credentialsByType = CredentialsByType.of(List.of("BpnCredential"), List.of());
+
+        Assertions.assertTrue(credentialsByType.credentials().isEmpty());
+        Assertions.assertEquals(List.of("BpnCredential"), credentialsByType.missingTypes());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.keystore;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.SigningHandle;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559PrivateKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+class DatabaseWalletKeyStoreTest {
+
+    private static final long WALLET_ID = 42L;
+
+    private static final List<byte[]> PAYLOADS = List.of("first".getBytes(StandardCharsets.UTF_8), "second".getBytes(StandardCharsets.UTF_8));
+
+    private WalletPrivateKeyCache walletPrivateKeyCache;
+
+    private DatabaseWalletKeyStore walletKeyStore;
+
+    @BeforeEach
+    void setUp() {
+        walletPrivateKeyCache = Mockito.mock(WalletPrivateKeyCache.class);
+        walletKeyStore = new DatabaseWalletKeyStore(walletPrivateKeyCache);
+    }
+
+    @Test
+    void signAllWithES256KKeyCreatesVerifiableJwsSignatures() throws Exception {
+        ECKey ecKey = generateES256KKey();
+        Mockito.when(walletPrivateKeyCache.getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K)).thenReturn(ecKey.toECPrivateKey());
+
+        SigningHandle signingHandle = walletKeyStore.getSigningHandle(WALLET_ID, SupportedAlgorithms.ES256K);
+        List<byte[]> signatures = signingHandle.signAll(PAYLOADS);
+
+        Assertions.assertEquals(PAYLOADS.size(), signatures.size());
+        for (int i = 0; i < PAYLOADS.size(); i++) {
+            Assertions.assertTrue(verifier(ecKey).verify(new JWSHeader(JWSAlgorithm.ES256K), PAYLOADS.get(i), Base64URL.encode(signatures.get(i))));
+        }
+    }
+
+    @Test
+    void signingHandleResolvesKeyOnceTest() throws Exception {
+        ECKey ecKey = generateES256KKey();
+        Mockito.when(walletPrivateKeyCache.getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K)).thenReturn(ecKey.toECPrivateKey());
+
+        SigningHandle signingHandle = walletKeyStore.getSigningHandle(WALLET_ID, SupportedAlgorithms.ES256K);
+        for (byte[] payload : PAYLOADS) {
+            Assertions.assertTrue(verifier(ecKey).verify(new JWSHeader(JWSAlgorithm.ES256K), payload, Base64URL.encode(signingHandle.sign(payload))));
+        }
+
+        Mockito.verify(walletPrivateKeyCache, Mockito.times(1)).getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K);
+    }
+
+    @Test
+    void signWithEd25519KeyCreatesVerifiableJwsSignature() throws Exception {
+        OctetKeyPair octetKeyPair = new OctetKeyPairGenerator(Curve.Ed25519).generate();
+        Mockito.when(walletPrivateKeyCache.getPrivateKey(WALLET_ID, SupportedAlgorithms.ED25519))
+                .thenReturn(new x21559PrivateKey(octetKeyPair.getD().decode()));
+
+        SigningHandle signingHandle = walletKeyStore.getSigningHandle(WALLET_ID, SupportedAlgorithms.ED25519);
+        byte[] signature = signingHandle.sign(PAYLOADS.get(0));
+
+        Ed25519Verifier verifier = new Ed25519Verifier(octetKeyPair.toPublicJWK());
+        Assertions.assertTrue(verifier.verify(new JWSHeader(JWSAlgorithm.EdDSA), PAYLOADS.get(0), Base64URL.encode(signature)));
+    }
+
+    private static ECKey generateES256KKey() throws Exception {
+        return new ECKeyGenerator(Curve.SECP256K1).provider(BouncyCastleProviderSingleton.getInstance()).generate();
+    }
+
+    private static ECDSAVerifier verifier(ECKey ecKey) throws Exception {
+        ECDSAVerifier verifier = new ECDSAVerifier(ecKey.toPublicJWK());
+        verifier.getJCAContext().setProvider(BouncyCastleProviderSingleton.getInstance());
+        return verifier;
+    }
+}
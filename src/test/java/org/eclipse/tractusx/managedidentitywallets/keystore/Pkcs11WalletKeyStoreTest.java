@@ -0,0 +1,117 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.keystore;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.eclipse.tractusx.managedidentitywallets.config.KeyStoreSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.WalletKey;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletKeyRepository;
+import org.eclipse.tractusx.managedidentitywallets.interfaces.SigningHandle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.Provider;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs against a SoftHSM token, e.g. after
+ * {@code softhsm2-util --init-token --free --label miw --pin 1234 --so-pin 1234} with
+ * {@code SOFTHSM2_LIBRARY=/usr/lib/softhsm/libsofthsm2.so SOFTHSM2_PIN=1234}.
+ */
+@EnabledIfEnvironmentVariable(named = "SOFTHSM2_LIBRARY", matches = ".+")
+class Pkcs11WalletKeyStoreTest {
+
+    private static final long WALLET_ID = 42L;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void signAllSignsInsideTheToken() throws Exception {
+        String pin = System.getenv().getOrDefault("SOFTHSM2_PIN", "1234");
+        Path configuration = Files.writeString(tempDir.resolve("softhsm.cfg"),
+                "name = SoftHSM\nlibrary = " + System.getenv("SOFTHSM2_LIBRARY") + "\nslotListIndex = 0\n");
+        String keyId = UUID.randomUUID().toString();
+        ECKey ecKey = new ECKeyGenerator(Curve.SECP256K1).provider(BouncyCastleProviderSingleton.getInstance()).generate();
+        importKey(configuration, pin, keyId, ecKey);
+
+        WalletKeyRepository walletKeyRepository = Mockito.mock(WalletKeyRepository.class);
+        Mockito.when(walletKeyRepository.getByWalletIdAndAlgorithm(WALLET_ID, SupportedAlgorithms.ES256K.toString()))
+                .thenReturn(WalletKey.builder().keyId(keyId).build());
+        KeyStoreSettings settings = new KeyStoreSettings("pkcs11", new KeyStoreSettings.Pkcs11(configuration.toString(), pin));
+        Pkcs11WalletKeyStore walletKeyStore = new Pkcs11WalletKeyStore(walletKeyRepository, settings);
+
+        List<byte[]> payloads = List.of("first".getBytes(StandardCharsets.UTF_8), "second".getBytes(StandardCharsets.UTF_8));
+        SigningHandle signingHandle = walletKeyStore.getSigningHandle(WALLET_ID, SupportedAlgorithms.ES256K);
+        List<byte[]> signatures = signingHandle.signAll(payloads);
+
+        ECDSAVerifier verifier = new ECDSAVerifier(ecKey.toPublicJWK());
+        verifier.getJCAContext().setProvider(BouncyCastleProviderSingleton.getInstance());
+        for (int i = 0; i < payloads.size(); i++) {
+            Assertions.assertTrue(verifier.verify(new JWSHeader(JWSAlgorithm.ES256K), payloads.get(i), Base64URL.encode(signatures.get(i))));
+        }
+    }
+
+    /**
+     * SunPKCS11 only lists private keys with a certificate, so the key is stored with a self-signed one.
+     */
+    private static void importKey(Path configuration, String pin, String alias, ECKey ecKey) throws Exception {
+        Provider provider = Security.getProvider("SunPKCS11").configure(configuration.toString());
+        KeyStore keyStore = KeyStore.getInstance("PKCS11", provider);
+        keyStore.load(null, pin.toCharArray());
+
+        Instant now = Instant.now();
+        X500Name subject = new X500Name("CN=" + alias);
+        JcaX509v3CertificateBuilder certificateBuilder = new JcaX509v3CertificateBuilder(subject, BigInteger.ONE,
+                Date.from(now), Date.from(now.plus(1, ChronoUnit.DAYS)), subject, ecKey.toECPublicKey());
+        X509Certificate certificate = new JcaX509CertificateConverter().setProvider(BouncyCastleProviderSingleton.getInstance())
+                .getCertificate(certificateBuilder.build(new JcaContentSignerBuilder("SHA256withECDSA")
+                        .setProvider(BouncyCastleProviderSingleton.getInstance()).build(ecKey.toECPrivateKey())));
+        keyStore.setKeyEntry(alias, ecKey.toECPrivateKey(), pin.toCharArray(), new X509Certificate[]{certificate});
+    }
+}
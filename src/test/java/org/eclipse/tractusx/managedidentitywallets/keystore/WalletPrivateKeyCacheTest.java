@@ -0,0 +1,97 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.keystore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemWriter;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.WalletKey;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletKeyRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+
+class WalletPrivateKeyCacheTest {
+
+    private static final long WALLET_ID = 42L;
+
+    private static final String ENCRYPTED = "encrypted";
+
+    private WalletKeyRepository walletKeyRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private WalletPrivateKeyCache walletPrivateKeyCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        StringWriter pem = new StringWriter();
+        try (PemWriter pemWriter = new PemWriter(pem)) {
+            pemWriter.writeObject(new PemObject("PRIVATE KEY", generator.generateKeyPair().getPrivate().getEncoded()));
+        }
+
+        WalletKey walletKey = WalletKey.builder().privateKey(ENCRYPTED).build();
+        walletKeyRepository = Mockito.mock(WalletKeyRepository.class);
+        Mockito.when(walletKeyRepository.getByWalletIdAndAlgorithm(WALLET_ID, SupportedAlgorithms.ES256K.toString())).thenReturn(walletKey);
+        EncryptionUtils encryptionUtils = Mockito.mock(EncryptionUtils.class);
+        Mockito.when(encryptionUtils.decryptToBuffer(ENCRYPTED)).thenAnswer(invocation -> ByteBuffer.wrap(pem.toString().getBytes()));
+
+        meterRegistry = new SimpleMeterRegistry();
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(10, Duration.ofMinutes(1));
+        CacheSettings cacheSettings = new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec);
+        walletPrivateKeyCache = new WalletPrivateKeyCache(walletKeyRepository, encryptionUtils, cacheSettings, meterRegistry);
+    }
+
+    @Test
+    void privateKeyIsDecryptedOnlyOnceTest() {
+        Object first = walletPrivateKeyCache.getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K);
+        Object second = walletPrivateKeyCache.getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K);
+
+        Assertions.assertSame(first, second);
+        Mockito.verify(walletKeyRepository, Mockito.times(1)).getByWalletIdAndAlgorithm(WALLET_ID, SupportedAlgorithms.ES256K.toString());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", WalletPrivateKeyCache.WALLET_KEYS_CACHE).tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", WalletPrivateKeyCache.WALLET_KEYS_CACHE).tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void privateKeyIsReloadedAfterKeyChangeTest() {
+        walletPrivateKeyCache.getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K);
+
+        walletPrivateKeyCache.onWalletKeyChanged(new WalletKeyChangedEvent(WALLET_ID));
+        walletPrivateKeyCache.getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K);
+
+        Mockito.verify(walletKeyRepository, Mockito.times(2)).getByWalletIdAndAlgorithm(WALLET_ID, SupportedAlgorithms.ES256K.toString());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.AuthorityWalletContext;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.utils.TestConstants;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class AuthorityWalletServiceTest {
+
+    private static final long WALLET_ID = 1L;
+
+    private static final String ALGORITHM = "ED25519";
+
+    private WalletRepository walletRepository;
+
+    private WalletKeyService walletKeyService;
+
+    private AuthorityWalletService authorityWalletService;
+
+    @BeforeEach
+    void setUp() {
+        MIWSettings miwSettings = Mockito.mock(MIWSettings.class);
+        Mockito.when(miwSettings.authorityWalletBpn()).thenReturn(TestConstants.BPN_1);
+        walletRepository = Mockito.mock(WalletRepository.class);
+        Mockito.when(walletRepository.getByBpn(TestConstants.BPN_1)).thenAnswer(invocation -> Wallet.builder()
+                .id(WALLET_ID)
+                .name("authority")
+                .bpn(TestConstants.BPN_1)
+                .did(TestConstants.DID_BPN_1)
+                .algorithm(ALGORITHM)
+                .didDocument(DidDocument.fromJson(TestConstants.DID_JSON_STRING_1))
+                .build());
+        walletKeyService = Mockito.mock(WalletKeyService.class);
+        Mockito.when(walletKeyService.getPrivateKeyByWalletIdentifierAsBytes(WALLET_ID, ALGORITHM)).thenAnswer(invocation -> new byte[]{ 1, 2, 3 });
+        authorityWalletService = new AuthorityWalletService(miwSettings, walletRepository, walletKeyService);
+    }
+
+    @Test
+    void contextIsLoadedOnceTest() {
+        AuthorityWalletContext first = authorityWalletService.getContext();
+        AuthorityWalletContext second = authorityWalletService.getContext();
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(TestConstants.DID_BPN_1, first.did());
+        Assertions.assertEquals(first.didDocument().getVerificationMethods().get(0).getId(), first.verificationMethod());
+        Mockito.verify(walletRepository, Mockito.times(1)).getByBpn(TestConstants.BPN_1);
+        Mockito.verify(walletKeyService, Mockito.times(1)).getPrivateKeyByWalletIdentifierAsBytes(WALLET_ID, ALGORITHM);
+    }
+
+    @Test
+    void privateKeyIsHandedOutAsCopyTest() {
+        AuthorityWalletContext context = authorityWalletService.getContext();
+
+        byte[] privateKey = context.privateKey();
+        privateKey[0] = 0;
+
+        Assertions.assertArrayEquals(new byte[]{ 1, 2, 3 }, context.privateKey());
+    }
+
+    @Test
+    void contextIsReloadedAfterAuthorityKeyChangeTest() {
+        AuthorityWalletContext first = authorityWalletService.getContext();
+
+        authorityWalletService.onWalletKeyChanged(new WalletKeyChangedEvent(WALLET_ID + 1));
+        Assertions.assertSame(first, authorityWalletService.getContext());
+
+        authorityWalletService.onWalletKeyChanged(new WalletKeyChangedEvent(WALLET_ID));
+        Assertions.assertNotSame(first, authorityWalletService.getContext());
+    }
+
+    @Test
+    void contextIsReloadedAfterAuthorityDidDocumentChangeTest() {
+        AuthorityWalletContext first = authorityWalletService.getContext();
+
+        authorityWalletService.onDidDocumentChanged(new DidDocumentChangedEvent(TestConstants.DID_BPN_2, TestConstants.BPN_2));
+        Assertions.assertSame(first, authorityWalletService.getContext());
+
+        authorityWalletService.onDidDocumentChanged(new DidDocumentChangedEvent(TestConstants.DID_BPN_1, TestConstants.BPN_1));
+        Assertions.assertNotSame(first, authorityWalletService.getContext());
+    }
+
+    @Test
+    void contextLoadedDuringRefreshIsNotPinnedTest() {
+        Mockito.when(walletKeyService.getPrivateKeyByWalletIdentifierAsBytes(WALLET_ID, ALGORITHM))
+                .thenAnswer(invocation -> {
+                    authorityWalletService.refresh();
+                    return new byte[]{ 1, 2, 3 };
+                })
+                .thenAnswer(invocation -> new byte[]{ 4, 5, 6 });
+
+        AuthorityWalletContext context = authorityWalletService.getContext();
+
+        Assertions.assertArrayEquals(new byte[]{ 4, 5, 6 }, context.privateKey());
+        Assertions.assertSame(context, authorityWalletService.getContext());
+        Mockito.verify(walletRepository, Mockito.times(2)).getByBpn(TestConstants.BPN_1);
+    }
+}
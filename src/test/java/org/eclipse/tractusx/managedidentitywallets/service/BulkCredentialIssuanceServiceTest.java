@@ -0,0 +1,80 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import org.eclipse.tractusx.managedidentitywallets.config.BulkIssuanceSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.dao.projection.WalletIdentity;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.CredentialBatchRepository;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.AuthorityWalletContext;
+import org.eclipse.tractusx.managedidentitywallets.domain.CredentialIssuanceResult;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+
+class BulkCredentialIssuanceServiceTest {
+
+    private static final String HOLDER_BPN = "BPNL000000000001";
+
+    @Test
+    void signingsFailAfterStopTest() {
+        WalletIdentity holder = Mockito.mock(WalletIdentity.class);
+        Mockito.when(holder.getBpn()).thenReturn(HOLDER_BPN);
+        Mockito.when(holder.getDid()).thenReturn("did:web:localhost:" + HOLDER_BPN);
+        WalletRepository walletRepository = Mockito.mock(WalletRepository.class);
+        Mockito.when(walletRepository.findIdentitiesByBpnInOrDidIn(anyCollection(), anyCollection())).thenReturn(List.of(holder));
+        AuthorityWalletService authorityWalletService = Mockito.mock(AuthorityWalletService.class);
+        Mockito.when(authorityWalletService.getContext()).thenReturn(new AuthorityWalletContext(1L, "authority", "did:web:localhost:BPNL000000000000",
+                "BPNL000000000000", null, URI.create("did:web:localhost:BPNL000000000000#key-1"), new byte[32]));
+        CredentialBatchRepository credentialBatchRepository = Mockito.mock(CredentialBatchRepository.class);
+        MIWSettings miwSettings = new MIWSettings("localhost", null, "BPNL000000000000", "did:web:localhost:BPNL000000000000", "authority",
+                List.of(), List.of(), new Date(), Set.of("PcfCredential"), false, null, List.of());
+
+        BulkCredentialIssuanceService service = new BulkCredentialIssuanceService(Mockito.mock(IssuersCredentialService.class), authorityWalletService,
+                walletRepository, credentialBatchRepository, Mockito.mock(SummaryCredentialRefresher.class), miwSettings,
+                new BulkIssuanceSettings(10, 1, 1), Mockito.mock(PlatformTransactionManager.class));
+        service.stop();
+
+        IssueFrameworkCredentialRequest request = IssueFrameworkCredentialRequest.builder().holderIdentifier(HOLDER_BPN).type("PcfCredential")
+                .contractTemplate("https://public.catena-x.org/contracts/pcf.v1.pdf").contractVersion("1.0.0").build();
+        List<CredentialIssuanceResult> results = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> service.issueFrameworkCredentials(List.of(request, request), "BPNL000000000000"));
+
+        Assertions.assertEquals(2, results.size());
+        results.forEach(result -> {
+            Assertions.assertFalse(result.isIssued());
+            Assertions.assertEquals("Credential could not be signed", result.error());
+        });
+        Mockito.verify(credentialBatchRepository).insertIssued(List.of());
+    }
+}
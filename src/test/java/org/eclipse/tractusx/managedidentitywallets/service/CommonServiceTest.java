@@ -0,0 +1,122 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.exception.WalletNotFoundProblem;
+import org.eclipse.tractusx.managedidentitywallets.utils.TestConstants;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+
+class CommonServiceTest {
+
+    private WalletRepository walletRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CommonService commonService;
+
+    @BeforeEach
+    void setUp() {
+        Wallet wallet = Wallet.builder()
+                .id(1L)
+                .name("wallet")
+                .bpn(TestConstants.BPN_1)
+                .did(TestConstants.DID_BPN_1)
+                .algorithm("ED25519")
+                .didDocument(DidDocument.fromJson(TestConstants.DID_JSON_STRING_1))
+                .build();
+        walletRepository = Mockito.mock(WalletRepository.class);
+        Mockito.when(walletRepository.getByBpn(TestConstants.BPN_1)).thenReturn(wallet);
+        Mockito.when(walletRepository.getByDid(TestConstants.DID_BPN_1)).thenReturn(wallet);
+
+        meterRegistry = new SimpleMeterRegistry();
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(10, Duration.ofMinutes(1));
+        commonService = new CommonService(walletRepository, new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec), meterRegistry);
+    }
+
+    @Test
+    void walletIsCachedByBpnAndDidTest() {
+        Wallet byBpn = commonService.getWalletByIdentifier(TestConstants.BPN_1);
+        Wallet byDid = commonService.getWalletByIdentifier(TestConstants.DID_BPN_1);
+        commonService.getWalletByIdentifier(TestConstants.BPN_1);
+        commonService.getWalletByIdentifier(TestConstants.DID_BPN_1);
+
+        Assertions.assertEquals(byBpn.getId(), byDid.getId());
+        Mockito.verify(walletRepository, Mockito.times(1)).getByBpn(TestConstants.BPN_1);
+        Mockito.verify(walletRepository, Mockito.times(1)).getByDid(TestConstants.DID_BPN_1);
+        Assertions.assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", CommonService.WALLETS_CACHE).tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", CommonService.WALLETS_CACHE).tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void cachedWalletIsNotSharedTest() {
+        Wallet first = commonService.getWalletByIdentifier(TestConstants.BPN_1);
+        first.setVerifiableCredentials(List.of());
+        first.getDidDocument().put("service", List.of());
+
+        Wallet second = commonService.getWalletByIdentifier(TestConstants.BPN_1);
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertNull(second.getVerifiableCredentials());
+        Assertions.assertFalse(second.getDidDocument().containsKey("service"));
+    }
+
+    @Test
+    void walletIsReloadedAfterDidDocumentChangeTest() {
+        commonService.getWalletByIdentifier(TestConstants.BPN_1);
+        commonService.getWalletByIdentifier(TestConstants.DID_BPN_1);
+
+        commonService.onDidDocumentChanged(new DidDocumentChangedEvent(TestConstants.DID_BPN_1, TestConstants.BPN_1));
+        commonService.getWalletByIdentifier(TestConstants.BPN_1);
+        commonService.getWalletByIdentifier(TestConstants.DID_BPN_1);
+
+        Mockito.verify(walletRepository, Mockito.times(2)).getByBpn(TestConstants.BPN_1);
+        Mockito.verify(walletRepository, Mockito.times(2)).getByDid(TestConstants.DID_BPN_1);
+    }
+
+    @Test
+    void didDocumentIsParsedOnAccessTest() {
+        Wallet wallet = commonService.getWalletByIdentifier(TestConstants.BPN_1);
+
+        Assertions.assertNotNull(wallet.getDidDocumentJson());
+        Assertions.assertEquals(DidDocument.fromJson(TestConstants.DID_JSON_STRING_1).getId(), wallet.getDidDocument().getId());
+    }
+
+    @Test
+    void missingWalletIsNotCachedTest() {
+        Assertions.assertThrows(WalletNotFoundProblem.class, () -> commonService.getWalletByIdentifier(TestConstants.BPN_2));
+        Assertions.assertThrows(WalletNotFoundProblem.class, () -> commonService.getWalletByIdentifier(TestConstants.BPN_2));
+
+        Mockito.verify(walletRepository, Mockito.times(2)).getByBpn(TestConstants.BPN_2);
+    }
+}
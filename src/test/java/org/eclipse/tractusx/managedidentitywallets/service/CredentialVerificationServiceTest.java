@@ -0,0 +1,133 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import org.eclipse.tractusx.managedidentitywallets.config.CredentialVerificationSettings;
+import org.eclipse.tractusx.managedidentitywallets.domain.CredentialVerificationResult;
+import org.eclipse.tractusx.ssi.lib.did.resolver.CompositeDidResolver;
+import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
+import org.eclipse.tractusx.ssi.lib.exception.DidResolverException;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.ssi.lib.model.proof.Proof;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+class CredentialVerificationServiceTest {
+
+    private static final String ISSUER_A = "did:web:localhost:BPNL000000000001";
+
+    private static final String ISSUER_B = "did:web:localhost:BPNL000000000002";
+
+    private CompositeDidResolver didResolver;
+
+    private CredentialVerificationService credentialVerificationService;
+
+    @BeforeEach
+    void setUp() {
+        didResolver = Mockito.mock(CompositeDidResolver.class);
+        DidDocumentResolverService didDocumentResolverService = Mockito.mock(DidDocumentResolverService.class);
+        Mockito.when(didDocumentResolverService.getCompositeDidResolver()).thenReturn(didResolver);
+        credentialVerificationService = new CredentialVerificationService(didDocumentResolverService, new CredentialVerificationSettings(2, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        credentialVerificationService.stop();
+    }
+
+    @Test
+    void verifyAllResolvesEachIssuerOnceAndReportsEveryCredential() throws DidResolverException {
+        Mockito.when(didResolver.resolve(Mockito.any(Did.class))).thenReturn(Mockito.mock(DidDocument.class));
+        VerifiableCredential validA1 = credential("urn:uuid:1", ISSUER_A + "#key-1");
+        VerifiableCredential invalidA2 = credential("urn:uuid:2", ISSUER_A + "#key-1");
+        VerifiableCredential validB = credential("urn:uuid:3", ISSUER_B + "#key-1");
+        VerifiableCredential validA3 = credential("urn:uuid:4", ISSUER_A + "#key-1");
+        VerifiableCredential withoutProof = credential("urn:uuid:5", null);
+
+        List<CredentialVerificationResult> results;
+        try (MockedStatic<LinkedDataProofValidation> utils = Mockito.mockStatic(LinkedDataProofValidation.class)) {
+            LinkedDataProofValidation proofValidation = Mockito.mock(LinkedDataProofValidation.class);
+            utils.when(() -> LinkedDataProofValidation.newInstance(Mockito.any(DidResolver.class))).thenReturn(proofValidation);
+            Mockito.when(proofValidation.verify(Mockito.any(VerifiableCredential.class))).thenAnswer(invocation -> invocation.getArgument(0) != invalidA2);
+
+            results = credentialVerificationService.verifyAll(List.of(validA1, invalidA2, validB, validA3, withoutProof));
+
+            // one validation per verification method
+            utils.verify(() -> LinkedDataProofValidation.newInstance(Mockito.any(DidResolver.class)), Mockito.times(2));
+        }
+
+        Assertions.assertEquals(List.of(true, false, true, true, false), results.stream().map(CredentialVerificationResult::valid).toList());
+        Assertions.assertEquals(List.of("urn:uuid:1", "urn:uuid:2", "urn:uuid:3", "urn:uuid:4", "urn:uuid:5"),
+                results.stream().map(result -> result.id().toString()).toList());
+        Assertions.assertNotNull(results.get(4).error());
+        Mockito.verify(didResolver, Mockito.times(2)).resolve(Mockito.any(Did.class));
+    }
+
+    @Test
+    void verifyAllMarksCredentialsOfUnresolvableIssuerInvalid() throws DidResolverException {
+        Mockito.when(didResolver.resolve(Mockito.any(Did.class))).thenThrow(new IllegalStateException("not found"));
+        VerifiableCredential first = credential("urn:uuid:1", ISSUER_A + "#key-1");
+        VerifiableCredential second = credential("urn:uuid:2", ISSUER_A + "#key-1");
+
+        List<CredentialVerificationResult> results = credentialVerificationService.verifyAll(List.of(first, second));
+
+        Assertions.assertTrue(results.stream().noneMatch(CredentialVerificationResult::valid));
+        Assertions.assertTrue(results.stream().allMatch(result -> result.error() != null));
+        Mockito.verify(didResolver, Mockito.times(1)).resolve(Mockito.any(Did.class));
+    }
+
+    @Test
+    void verificationsFailAfterStopTest() {
+        credentialVerificationService.stop();
+        VerifiableCredential credential = credential("urn:uuid:1", ISSUER_A + "#key-1");
+
+        List<CredentialVerificationResult> results = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> credentialVerificationService.verifyAll(List.of(credential)));
+
+        Assertions.assertEquals(1, results.size());
+        Assertions.assertFalse(results.get(0).valid());
+        Assertions.assertNotNull(results.get(0).error());
+        Mockito.verifyNoInteractions(didResolver);
+    }
+
+    private static VerifiableCredential credential(String id, String verificationMethod) {
+        VerifiableCredential credential = Mockito.mock(VerifiableCredential.class);
+        Mockito.when(credential.getId()).thenReturn(URI.create(id));
+        if (verificationMethod != null) {
+            Proof proof = Mockito.mock(Proof.class);
+            Mockito.when(proof.get("verificationMethod")).thenReturn(verificationMethod);
+            Mockito.when(credential.getProof()).thenReturn(proof);
+        }
+        return credential;
+    }
+}
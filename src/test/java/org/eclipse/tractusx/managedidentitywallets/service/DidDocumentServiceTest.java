@@ -0,0 +1,97 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.RenderedDidDocument;
+import org.eclipse.tractusx.managedidentitywallets.exception.WalletNotFoundProblem;
+import org.eclipse.tractusx.managedidentitywallets.utils.TestConstants;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Date;
+
+class DidDocumentServiceTest {
+
+    private WalletRepository walletRepository;
+
+    private DidDocumentService didDocumentService;
+
+    @BeforeEach
+    void setUp() {
+        walletRepository = Mockito.mock(WalletRepository.class);
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(10, Duration.ofHours(1));
+        didDocumentService = new DidDocumentService(Mockito.mock(CommonService.class), walletRepository, new ObjectMapper(),
+                new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void renderedDocumentIsReusedWhileWalletIsUnchangedTest() {
+        Date modifiedAt = new Date(1_000L);
+        mockWallet(TestConstants.DID_JSON_STRING_1, modifiedAt);
+
+        RenderedDidDocument first = didDocumentService.getRenderedDidDocument(TestConstants.BPN_1);
+        RenderedDidDocument second = didDocumentService.getRenderedDidDocument(TestConstants.BPN_1);
+
+        Assertions.assertSame(first, second);
+        Mockito.verify(walletRepository, Mockito.times(1)).getByBpn(TestConstants.BPN_1);
+    }
+
+    @Test
+    void documentIsRenderedAgainAfterWalletChangeTest() {
+        mockWallet(TestConstants.DID_JSON_STRING_1, new Date(1_000L));
+        RenderedDidDocument first = didDocumentService.getRenderedDidDocument(TestConstants.BPN_1);
+
+        // written by another replica, no event reaches this instance
+        mockWallet(TestConstants.DID_JSON_STRING_2, new Date(2_000L));
+        RenderedDidDocument second = didDocumentService.getRenderedDidDocument(TestConstants.BPN_1);
+
+        Assertions.assertNotEquals(first.eTag(), second.eTag());
+        Mockito.verify(walletRepository, Mockito.times(2)).getByBpn(TestConstants.BPN_1);
+    }
+
+    @Test
+    void missingWalletTest() {
+        Assertions.assertThrows(WalletNotFoundProblem.class, () -> didDocumentService.getRenderedDidDocument(TestConstants.BPN_2));
+    }
+
+    private void mockWallet(String didDocument, Date modifiedAt) {
+        Wallet wallet = Wallet.builder()
+                .id(1L)
+                .bpn(TestConstants.BPN_1)
+                .did(TestConstants.DID_BPN_1)
+                .didDocument(DidDocument.fromJson(didDocument))
+                .build();
+        wallet.setCreatedAt(new Date(0L));
+        wallet.setModifiedAt(modifiedAt);
+        Mockito.when(walletRepository.getLastModifiedByBpn(TestConstants.BPN_1)).thenReturn(modifiedAt);
+        Mockito.when(walletRepository.getByBpn(TestConstants.BPN_1)).thenReturn(wallet);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.ManagedIdentityWalletsApplication;
+import org.eclipse.tractusx.managedidentitywallets.config.IssuanceJobSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.TestContextInitializer;
+import org.eclipse.tractusx.managedidentitywallets.constant.IssuanceJobStatus;
+import org.eclipse.tractusx.managedidentitywallets.constant.IssuanceJobType;
+import org.eclipse.tractusx.managedidentitywallets.constant.MIWVerifiableCredentialType;
+import org.eclipse.tractusx.managedidentitywallets.constant.RestURI;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.IssuanceJob;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.IssuanceJobRepository;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssuanceJobResponse;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialRequest;
+import org.eclipse.tractusx.managedidentitywallets.utils.AuthenticationUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.TestUtils;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.eclipse.tractusx.managedidentitywallets.constant.StringPool.COLON_SEPARATOR;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, classes = { ManagedIdentityWalletsApplication.class })
+@ContextConfiguration(initializers = { TestContextInitializer.class })
+class IssuanceJobServiceTest {
+
+    @Autowired
+    private IssuanceJobService issuanceJobService;
+
+    @Autowired
+    private IssuanceJobRepository issuanceJobRepository;
+
+    @Autowired
+    private HoldersCredentialRepository holdersCredentialRepository;
+
+    @Autowired
+    private MIWSettings miwSettings;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void issueFrameworkCredentialAsyncTest202() throws JsonProcessingException {
+        Wallet wallet = createWallet();
+
+        ResponseEntity<String> response = submitFrameworkCredential(wallet.getBpn(), "PcfCredential");
+        Assertions.assertEquals(HttpStatus.ACCEPTED.value(), response.getStatusCode().value());
+        Map<String, Object> job = objectMapper.readValue(response.getBody(), Map.class);
+        Assertions.assertEquals(IssuanceJobStatus.PENDING.name(), job.get("status"));
+        Assertions.assertEquals(RestURI.API_CREDENTIALS_ISSUER_JOB.replace("{jobId}", job.get("id").toString()), response.getHeaders().getLocation().toString());
+
+        Assertions.assertEquals(IssuanceJobStatus.PENDING.name(), getJob(job.get("id").toString()).get("status"));
+        Assertions.assertTrue(holdersCredentialRepository.getByHolderDidAndType(wallet.getDid(), MIWVerifiableCredentialType.USE_CASE_FRAMEWORK_CONDITION).isEmpty());
+
+        processAll();
+
+        job = getJob(job.get("id").toString());
+        Assertions.assertEquals(IssuanceJobStatus.COMPLETED.name(), job.get("status"));
+        Assertions.assertNotNull(job.get("modifiedAt"));
+        VerifiableCredential credential = new VerifiableCredential((Map<String, Object>) job.get("credential"));
+        TestUtils.checkVC(credential, miwSettings);
+        Assertions.assertEquals("PcfCredential", credential.getCredentialSubject().get(0).get(StringPool.TYPE));
+        Assertions.assertEquals(1, holdersCredentialRepository.getByHolderDidAndType(wallet.getDid(), MIWVerifiableCredentialType.USE_CASE_FRAMEWORK_CONDITION).size());
+    }
+
+    @Test
+    void issueFrameworkCredentialAsyncWithInvalidTypeTest() throws JsonProcessingException {
+        Wallet wallet = createWallet();
+
+        ResponseEntity<String> response = submitFrameworkCredential(wallet.getBpn(), "cx-traceability1");
+        Assertions.assertEquals(HttpStatus.ACCEPTED.value(), response.getStatusCode().value());
+        String jobId = objectMapper.readValue(response.getBody(), Map.class).get("id").toString();
+
+        processAll();
+
+        Map<String, Object> job = getJob(jobId);
+        Assertions.assertEquals(IssuanceJobStatus.FAILED.name(), job.get("status"));
+        Assertions.assertTrue(job.get("error").toString().contains("is not supported"));
+        Assertions.assertNull(job.get("credential"));
+    }
+
+    @Test
+    void issueFrameworkCredentialAsyncWithInvalidBpnAccessTest403() {
+        String bpn = TestUtils.getRandomBpmNumber();
+        HttpHeaders headers = AuthenticationUtils.getValidUserHttpHeaders(bpn);
+        HttpEntity<IssueFrameworkCredentialRequest> entity = new HttpEntity<>(TestUtils.getIssueFrameworkCredentialRequest(bpn, "PcfCredential"), headers);
+
+        ResponseEntity<String> response = restTemplate.exchange(RestURI.API_CREDENTIALS_ISSUER_FRAMEWORK + "?async=true", HttpMethod.POST, entity, String.class);
+        Assertions.assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatusCode().value());
+    }
+
+    @Test
+    void getIssuanceJobTest404() {
+        HttpEntity<Void> entity = new HttpEntity<>(AuthenticationUtils.getValidUserHttpHeaders(miwSettings.authorityWalletBpn()));
+
+        ResponseEntity<String> response = restTemplate.exchange(RestURI.API_CREDENTIALS_ISSUER_JOB, HttpMethod.GET, entity, String.class, UUID.randomUUID());
+        Assertions.assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatusCode().value());
+    }
+
+    @Test
+    void lockedJobIsSkippedTest() throws Exception {
+        Wallet wallet = createWallet();
+        IssuanceJobResponse first = issuanceJobService.submitFrameworkCredential(TestUtils.getIssueFrameworkCredentialRequest(wallet.getBpn(), "PcfCredential"), miwSettings.authorityWalletBpn());
+        IssuanceJobResponse second = issuanceJobService.submitFrameworkCredential(TestUtils.getIssueFrameworkCredentialRequest(wallet.getBpn(), "QualityCredential"), miwSettings.authorityWalletBpn());
+
+        //another instance locks one of the jobs
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<UUID> lockedId = new AtomicReference<>();
+        CompletableFuture<Void> otherInstance = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            lockedId.set(issuanceJobRepository.lockNextPending().getId());
+            locked.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        Assertions.assertTrue(locked.await(30, TimeUnit.SECONDS));
+        UUID otherId = lockedId.get().equals(first.id()) ? second.id() : first.id();
+
+        Assertions.assertTrue(issuanceJobService.processNext());
+        Assertions.assertEquals(IssuanceJobStatus.COMPLETED, issuanceJobRepository.findById(otherId).map(IssuanceJob::getStatus).orElse(null));
+        Assertions.assertEquals(IssuanceJobStatus.PENDING, issuanceJobRepository.findById(lockedId.get()).map(IssuanceJob::getStatus).orElse(null));
+        Assertions.assertFalse(issuanceJobService.processNext());
+
+        //the job can be processed once the lock is released
+        release.countDown();
+        otherInstance.get(30, TimeUnit.SECONDS);
+        processAll();
+        Assertions.assertEquals(IssuanceJobStatus.COMPLETED, issuanceJobRepository.findById(lockedId.get()).map(IssuanceJob::getStatus).orElse(null));
+    }
+
+    @Test
+    void failedJobStaysPendingWhenStoppedTest() {
+        IssuanceJobRepository repository = Mockito.mock(IssuanceJobRepository.class);
+        Mockito.when(repository.lockNextPending()).thenAnswer(invocation -> IssuanceJob.builder()
+                .id(UUID.randomUUID())
+                .type(IssuanceJobType.FRAMEWORK)
+                .status(IssuanceJobStatus.PENDING)
+                .callerBpn(miwSettings.authorityWalletBpn())
+                .request(objectMapper.writeValueAsString(TestUtils.getIssueFrameworkCredentialRequest(TestUtils.getRandomBpmNumber(), "PcfCredential")))
+                .build());
+        IssuersCredentialService issuersCredentialService = Mockito.mock(IssuersCredentialService.class);
+        Mockito.when(issuersCredentialService.issueFrameworkCredential(Mockito.any(), Mockito.any())).thenThrow(new IllegalStateException("interrupted"));
+        IssuanceJobService service = new IssuanceJobService(repository, issuersCredentialService, null, objectMapper,
+                new IssuanceJobSettings(false, 1, Duration.ofSeconds(1), Duration.ofDays(1)), transactionManager, new SimpleMeterRegistry());
+
+        Assertions.assertTrue(service.processNext());
+        Mockito.verify(repository, Mockito.times(1)).markFailed(Mockito.any(), Mockito.eq("interrupted"));
+
+        service.stop();
+        Assertions.assertFalse(service.processNext());
+        Mockito.verify(repository, Mockito.times(1)).markFailed(Mockito.any(), Mockito.any());
+    }
+
+    private Wallet createWallet() throws JsonProcessingException {
+        String bpn = TestUtils.getRandomBpmNumber();
+        String baseBpn = miwSettings.authorityWalletBpn();
+        return TestUtils.getWalletFromString(TestUtils.createWallet(bpn, bpn, restTemplate, baseBpn, miwSettings.host() + COLON_SEPARATOR + bpn).getBody());
+    }
+
+    private ResponseEntity<String> submitFrameworkCredential(String bpn, String type) {
+        HttpHeaders headers = AuthenticationUtils.getValidUserHttpHeaders(miwSettings.authorityWalletBpn());
+        HttpEntity<IssueFrameworkCredentialRequest> entity = new HttpEntity<>(TestUtils.getIssueFrameworkCredentialRequest(bpn, type), headers);
+        return restTemplate.exchange(RestURI.API_CREDENTIALS_ISSUER_FRAMEWORK + "?async=true", HttpMethod.POST, entity, String.class);
+    }
+
+    private Map<String, Object> getJob(String jobId) throws JsonProcessingException {
+        HttpEntity<Void> entity = new HttpEntity<>(AuthenticationUtils.getValidUserHttpHeaders(miwSettings.authorityWalletBpn()));
+        ResponseEntity<String> response = restTemplate.exchange(RestURI.API_CREDENTIALS_ISSUER_JOB, HttpMethod.GET, entity, String.class, jobId);
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode().value());
+        return objectMapper.readValue(response.getBody(), Map.class);
+    }
+
+    private void processAll() {
+        while (issuanceJobService.processNext()) {
+            // process until there are no pending jobs left
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.SupportedAlgorithms;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.keystore.DatabaseWalletKeyStore;
+import org.eclipse.tractusx.managedidentitywallets.keystore.WalletPrivateKeyCache;
+import org.eclipse.tractusx.managedidentitywallets.utils.TestConstants;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+
+class JwtPresentationES256KServiceTest {
+
+    private static final long WALLET_ID = 1L;
+
+    private static final String AUDIENCE = "audience";
+
+    private WalletPrivateKeyCache walletPrivateKeyCache;
+
+    private WalletKeyService walletKeyService;
+
+    private JwtPresentationES256KService jwtPresentationES256KService;
+
+    private ECKey ecKey;
+
+    private Did issuer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ecKey = new ECKeyGenerator(Curve.SECP256K1).provider(BouncyCastleProviderSingleton.getInstance()).generate();
+        issuer = DidParser.parse(TestConstants.DID_BPN_1);
+
+        walletPrivateKeyCache = Mockito.mock(WalletPrivateKeyCache.class);
+        Mockito.when(walletPrivateKeyCache.getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K)).thenReturn(ecKey.toECPrivateKey());
+        DatabaseWalletKeyStore walletKeyStore = new DatabaseWalletKeyStore(walletPrivateKeyCache);
+        walletKeyService = Mockito.mock(WalletKeyService.class);
+        Mockito.when(walletKeyService.getSigningHandle(WALLET_ID, SupportedAlgorithms.ES256K))
+                .thenAnswer(invocation -> walletKeyStore.getSigningHandle(WALLET_ID, SupportedAlgorithms.ES256K));
+
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(10, Duration.ofMinutes(1));
+        jwtPresentationES256KService = new JwtPresentationES256KService(Mockito.mock(WalletRepository.class), Mockito.mock(WalletKeyPairPool.class),
+                walletKeyService, Mockito.mock(MIWSettings.class), Mockito.mock(ApplicationEventPublisher.class),
+                new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void signerIsReusedTest() throws Exception {
+        SignedJWT first = jwtPresentationES256KService.createPresentation(issuer, List.of(), AUDIENCE, WALLET_ID);
+        SignedJWT second = jwtPresentationES256KService.createPresentation(issuer, List.of(), AUDIENCE, WALLET_ID);
+
+        Assertions.assertTrue(first.verify(verifier()));
+        Assertions.assertTrue(second.verify(verifier()));
+        Mockito.verify(walletKeyService, Mockito.times(1)).getSigningHandle(WALLET_ID, SupportedAlgorithms.ES256K);
+        Mockito.verify(walletPrivateKeyCache, Mockito.times(1)).getPrivateKey(WALLET_ID, SupportedAlgorithms.ES256K);
+    }
+
+    @Test
+    void signerIsEvictedAfterKeyChangeTest() {
+        jwtPresentationES256KService.createPresentation(issuer, List.of(), AUDIENCE, WALLET_ID);
+
+        jwtPresentationES256KService.onWalletKeyChanged(new WalletKeyChangedEvent(WALLET_ID + 1));
+        jwtPresentationES256KService.createPresentation(issuer, List.of(), AUDIENCE, WALLET_ID);
+        Mockito.verify(walletKeyService, Mockito.times(1)).getSigningHandle(WALLET_ID, SupportedAlgorithms.ES256K);
+
+        jwtPresentationES256KService.onWalletKeyChanged(new WalletKeyChangedEvent(WALLET_ID));
+        jwtPresentationES256KService.createPresentation(issuer, List.of(), AUDIENCE, WALLET_ID);
+        Mockito.verify(walletKeyService, Mockito.times(2)).getSigningHandle(WALLET_ID, SupportedAlgorithms.ES256K);
+    }
+
+    private ECDSAVerifier verifier() throws Exception {
+        ECDSAVerifier verifier = new ECDSAVerifier(ecKey.toECPublicKey());
+        verifier.getJCAContext().setProvider(BouncyCastleProviderSingleton.getInstance());
+        return verifier;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.ManagedIdentityWalletsApplication;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.SummaryCredentialSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.TestContextInitializer;
+import org.eclipse.tractusx.managedidentitywallets.constant.MIWVerifiableCredentialType;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.HoldersCredential;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.IssuersCredentialRepository;
+import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
+import org.eclipse.tractusx.managedidentitywallets.domain.AuthorityWalletContext;
+import org.eclipse.tractusx.managedidentitywallets.utils.TestUtils;
+import org.eclipse.tractusx.ssi.lib.did.web.DidWebFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, classes = { ManagedIdentityWalletsApplication.class })
+@ContextConfiguration(initializers = { TestContextInitializer.class })
+class SummaryCredentialRefresherTest {
+
+    @Autowired
+    private SummaryCredentialRefresher summaryCredentialRefresher;
+
+    @Autowired
+    private AuthorityWalletService authorityWalletService;
+
+    @Autowired
+    private HoldersCredentialRepository holdersCredentialRepository;
+
+    @Autowired
+    private IssuersCredentialRepository issuersCredentialRepository;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private MIWSettings miwSettings;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AuthorityWalletContext issuer;
+
+    private String bpn;
+
+    private String did;
+
+    @BeforeEach
+    void createHolder() {
+        issuer = authorityWalletService.getContext();
+        bpn = TestUtils.getRandomBpmNumber();
+        did = DidWebFactory.fromHostnameAndPath(miwSettings.host(), bpn).toString();
+        TestUtils.createWallet(bpn, did, walletRepository);
+    }
+
+    @Test
+    void marksOfTransactionAreRegeneratedOnceTest() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            summaryCredentialRefresher.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.BPN_CREDENTIAL);
+            summaryCredentialRefresher.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.DISMANTLER_CREDENTIAL);
+            summaryCredentialRefresher.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.BPN_CREDENTIAL);
+        });
+
+        Assertions.assertEquals(List.of(MIWVerifiableCredentialType.BPN_CREDENTIAL, MIWVerifiableCredentialType.DISMANTLER_CREDENTIAL), getSummaryItems());
+        Assertions.assertEquals(1, issuersCredentialRepository.getByIssuerDidAndHolderDidAndType(issuer.did(), did, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL).size());
+    }
+
+    @Test
+    void itemsOfLastSummaryAreKeptTest() {
+        summaryCredentialRefresher.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.BPN_CREDENTIAL);
+        summaryCredentialRefresher.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.MEMBERSHIP_CREDENTIAL);
+
+        Assertions.assertEquals(List.of(MIWVerifiableCredentialType.BPN_CREDENTIAL, MIWVerifiableCredentialType.MEMBERSHIP_CREDENTIAL), getSummaryItems());
+    }
+
+    @Test
+    void marksOfRolledBackTransactionAreDroppedTest() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            summaryCredentialRefresher.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.BPN_CREDENTIAL);
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertTrue(holdersCredentialRepository.getByHolderDidAndType(did, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL).isEmpty());
+    }
+
+    @Test
+    void debouncedMarksAreRegeneratedOnceTest() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SummaryCredentialRefresher debounced = new SummaryCredentialRefresher(issuersCredentialRepository, holdersCredentialRepository, miwSettings,
+                new SummaryCredentialSettings(Duration.ofMillis(500)), transactionManager, meterRegistry);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    debounced.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.BPN_CREDENTIAL));
+            debounced.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.DISMANTLER_CREDENTIAL);
+
+            Assertions.assertEquals(1.0, meterRegistry.get("miw.summary.credential.queued").gauge().value());
+            Assertions.assertTrue(holdersCredentialRepository.getByHolderDidAndType(did, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL).isEmpty());
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (holdersCredentialRepository.getByHolderDidAndType(did, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL).isEmpty()
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+
+            Assertions.assertEquals(List.of(MIWVerifiableCredentialType.BPN_CREDENTIAL, MIWVerifiableCredentialType.DISMANTLER_CREDENTIAL), getSummaryItems());
+            Assertions.assertEquals(0.0, meterRegistry.get("miw.summary.credential.queued").gauge().value());
+            Assertions.assertEquals(1.0, meterRegistry.get("miw.summary.credential.coalesced").counter().count());
+        } finally {
+            debounced.stop();
+        }
+    }
+
+    @Test
+    void queuedMarksAreRegeneratedOnStopTest() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SummaryCredentialRefresher debounced = new SummaryCredentialRefresher(issuersCredentialRepository, holdersCredentialRepository, miwSettings,
+                new SummaryCredentialSettings(Duration.ofMinutes(10)), transactionManager, meterRegistry);
+        debounced.markDirty(issuer, bpn, did, MIWVerifiableCredentialType.BPN_CREDENTIAL);
+        Assertions.assertTrue(holdersCredentialRepository.getByHolderDidAndType(did, MIWVerifiableCredentialType.SUMMARY_CREDENTIAL).isEmpty());
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), debounced::stop);
+
+        Assertions.assertEquals(List.of(MIWVerifiableCredentialType.BPN_CREDENTIAL), getSummaryItems());
+        Assertions.assertEquals(0.0, meterRegistry.get("miw.summary.credential.queued").gauge().value());
+    }
+
+    private List<String> getSummaryItems() {
+        List<HoldersCredential> summaries = holdersCredentialRepository.getByHolderDidAndIssuerDidAndTypeAndStored(did, issuer.did(),
+                MIWVerifiableCredentialType.SUMMARY_CREDENTIAL, false);
+        Assertions.assertEquals(1, summaries.size());
+        return (List<String>) summaries.get(0).getData().getCredentialSubject().get(0).get(StringPool.ITEMS);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.service;
+
+import com.nimbusds.jose.jwk.ECKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.KeyPairPoolSettings;
+import org.eclipse.tractusx.managedidentitywallets.domain.PooledKeyPair;
+import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.eclipse.tractusx.managedidentitywallets.utils.PemUtils;
+import org.eclipse.tractusx.ssi.lib.crypt.KeyPair;
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+class WalletKeyPairPoolTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private WalletKeyPairPool walletKeyPairPool;
+
+    private final Map<String, byte[]> encrypted = new ConcurrentHashMap<>();
+
+    private EncryptionUtils encryptionUtils;
+
+    @BeforeEach
+    void setUp() {
+        encryptionUtils = Mockito.mock(EncryptionUtils.class);
+        Mockito.when(encryptionUtils.encrypt(Mockito.any(byte[].class))).thenAnswer(invocation -> {
+            String text = "encrypted-" + UUID.randomUUID();
+            encrypted.put(text, ((byte[]) invocation.getArgument(0)).clone());
+            return text;
+        });
+        Mockito.when(encryptionUtils.decryptToBuffer(Mockito.anyString())).thenAnswer(invocation -> ByteBuffer.wrap(encrypted.get(invocation.getArgument(0, String.class)).clone()));
+        meterRegistry = new SimpleMeterRegistry();
+        walletKeyPairPool = new WalletKeyPairPool(encryptionUtils, new KeyPairPoolSettings(2), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        walletKeyPairPool.stop();
+    }
+
+    @Test
+    void inlineGenerationWhenPoolIsEmptyTest() {
+        PooledKeyPair<ECKey> keyPair = walletKeyPairPool.takeES256K();
+
+        Assertions.assertFalse(keyPair.keyPair().isPrivate());
+        Assertions.assertEquals(keyPair.keyId(), keyPair.keyPair().getKeyID());
+        Assertions.assertTrue(encrypted.containsKey(keyPair.encryptedPrivateKey()));
+        Assertions.assertEquals(1.0, takenCount("ES256K", "inline"));
+    }
+
+    @Test
+    void ed25519PrivateKeyIsDecryptedWhenTakenTest() {
+        PooledKeyPair<KeyPair> keyPair = walletKeyPairPool.takeEd25519();
+
+        byte[] privateKey = PemUtils.decodeToBytes(ByteBuffer.wrap(encrypted.get(keyPair.encryptedPrivateKey())));
+        Assertions.assertArrayEquals(privateKey, keyPair.keyPair().getPrivateKey().asByte());
+        Assertions.assertArrayEquals(new Ed25519PrivateKeyParameters(privateKey, 0).generatePublicKey().getEncoded(),
+                keyPair.keyPair().getPublicKey().asByte());
+        Mockito.verify(encryptionUtils, Mockito.times(1)).decryptToBuffer(keyPair.encryptedPrivateKey());
+    }
+
+    @Test
+    void keyPairsAreTakenFromFilledPoolTest() throws InterruptedException {
+        walletKeyPairPool.fill();
+        for (int i = 0; i < 100 && available("ED25519") < 2; i++) {
+            Thread.sleep(50);
+        }
+
+        PooledKeyPair<?> first = walletKeyPairPool.takeEd25519();
+        PooledKeyPair<?> second = walletKeyPairPool.takeEd25519();
+
+        Assertions.assertNotEquals(first.keyId(), second.keyId());
+        Assertions.assertEquals(2.0, takenCount("ED25519", "pool"));
+        Assertions.assertEquals(0.0, takenCount("ED25519", "inline"));
+    }
+
+    private double takenCount(String algorithm, String source) {
+        return meterRegistry.get("miw.key.pair.pool.taken").tag("algorithm", algorithm).tag("source", source).counter().count();
+    }
+
+    private double available(String algorithm) {
+        return meterRegistry.get("miw.key.pair.pool.available").tag("algorithm", algorithm).gauge().value();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.sts;
+
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.StringPool;
+import org.eclipse.tractusx.managedidentitywallets.domain.DID;
+import org.eclipse.tractusx.managedidentitywallets.domain.KeyPair;
+import org.eclipse.tractusx.managedidentitywallets.domain.WalletKeyChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.utils.EncryptionUtils;
+import org.eclipse.tractusx.ssi.lib.crypt.IKeyGenerator;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559Generator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.eclipse.tractusx.managedidentitywallets.utils.CommonUtils.getKeyString;
+import static org.eclipse.tractusx.managedidentitywallets.utils.TestConstants.DID_BPN_1;
+import static org.eclipse.tractusx.managedidentitywallets.utils.TestConstants.DID_BPN_2;
+
+class SecureTokenIssuerImplTest {
+
+    private static final String KEY_ID = "58cb4b32-c2e4-46f0-a3ad-3286e34765ed";
+
+    private EncryptionUtils encryptionUtils;
+
+    private SecureTokenIssuerImpl secureTokenIssuer;
+
+    private KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        IKeyGenerator keyGenerator = new x21559Generator();
+        String privateKey = getKeyString(keyGenerator.generateKey().getPrivateKey().asByte(), StringPool.PRIVATE_KEY);
+        keyPair = new KeyPair(KEY_ID, "encrypted", "public");
+
+        encryptionUtils = Mockito.mock(EncryptionUtils.class);
+        Mockito.when(encryptionUtils.decryptToBuffer(Mockito.anyString())).thenAnswer(invocation -> ByteBuffer.wrap(privateKey.getBytes()));
+
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(10, Duration.ofMinutes(1));
+        secureTokenIssuer = new SecureTokenIssuerImpl(encryptionUtils, new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void signerIsSharedBetweenTokensTest() {
+        Instant expirationTime = Instant.now().plusSeconds(60);
+        JWT accessToken = secureTokenIssuer.createAccessToken(keyPair, new DID(DID_BPN_1), new DID(DID_BPN_2), expirationTime, Set.of("scope"));
+        JWT idToken = secureTokenIssuer.createIdToken(keyPair, new DID(DID_BPN_1), new DID(DID_BPN_2), expirationTime, accessToken);
+
+        Assertions.assertEquals(KEY_ID, ((SignedJWT) idToken).getHeader().getKeyID());
+        Mockito.verify(encryptionUtils, Mockito.times(1)).decryptToBuffer("encrypted");
+    }
+
+    @Test
+    void signerIsRecreatedForChangedKeyTest() {
+        Instant expirationTime = Instant.now().plusSeconds(60);
+        secureTokenIssuer.createAccessToken(keyPair, new DID(DID_BPN_1), new DID(DID_BPN_2), expirationTime, Set.of("scope"));
+
+        KeyPair reEncrypted = new KeyPair(KEY_ID, "re-encrypted", "public");
+        secureTokenIssuer.createAccessToken(reEncrypted, new DID(DID_BPN_1), new DID(DID_BPN_2), expirationTime, Set.of("scope"));
+        secureTokenIssuer.onWalletKeyChanged(new WalletKeyChangedEvent(1L));
+        secureTokenIssuer.createAccessToken(reEncrypted, new DID(DID_BPN_1), new DID(DID_BPN_2), expirationTime, Set.of("scope"));
+
+        Mockito.verify(encryptionUtils, Mockito.times(1)).decryptToBuffer("encrypted");
+        Mockito.verify(encryptionUtils, Mockito.times(2)).decryptToBuffer("re-encrypted");
+    }
+}
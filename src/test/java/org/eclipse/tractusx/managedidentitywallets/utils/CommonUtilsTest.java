@@ -0,0 +1,143 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.utils;
+
+import com.apicatalog.jsonld.loader.HttpLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.JsonLdSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.eclipse.tractusx.managedidentitywallets.constant.MIWVerifiableCredentialType;
+import org.eclipse.tractusx.ssi.lib.crypt.KeyPair;
+import org.eclipse.tractusx.ssi.lib.crypt.jwk.JsonWebKey;
+import org.eclipse.tractusx.ssi.lib.crypt.x21559.x21559Generator;
+import org.eclipse.tractusx.ssi.lib.did.resolver.DidResolver;
+import org.eclipse.tractusx.ssi.lib.did.web.DidWebFactory;
+import org.eclipse.tractusx.ssi.lib.model.did.Did;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocumentBuilder;
+import org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethod;
+import org.eclipse.tractusx.ssi.lib.model.did.JWKVerificationMethodBuilder;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredential;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialSubject;
+import org.eclipse.tractusx.ssi.lib.model.verifiable.credential.VerifiableCredentialType;
+import org.eclipse.tractusx.ssi.lib.proof.LinkedDataProofValidation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+class CommonUtilsTest {
+
+    private static final URI CREDENTIALS_CONTEXT = URI.create("https://www.w3.org/2018/credentials/v1");
+
+    private static final URI BUSINESS_PARTNER_DATA_CONTEXT = URI.create("https://catenax-ng.github.io/product-core-schemas/businessPartnerData.json");
+
+    private JsonLdContextLoader contextLoader;
+
+    private KeyPair keyPair;
+
+    private JWKVerificationMethod verificationMethod;
+
+    private DidDocument issuerDocument;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // the bundled contexts, the others are fetched so the proofs are checked against the published contexts
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(10, Duration.ofMinutes(1));
+        MIWSettings miwSettings = new MIWSettings("localhost", null, null, null, null, List.of(), List.of(), null,
+                null, true, null, List.of());
+        contextLoader = new JsonLdContextLoader(new JsonLdSettings(null, true), miwSettings,
+                new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec), new SimpleMeterRegistry(),
+                HttpLoader.defaultInstance());
+        contextLoader.install();
+
+        keyPair = new x21559Generator().generateKey();
+        Did did = DidWebFactory.fromHostnameAndPath("localhost", "BPNL000000000000");
+        verificationMethod = new JWKVerificationMethodBuilder().did(did)
+                .jwk(new JsonWebKey("key-1", keyPair.getPublicKey(), keyPair.getPrivateKey())).build();
+        issuerDocument = new DidDocumentBuilder().id(did.toUri()).verificationMethods(List.of(verificationMethod)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        contextLoader.uninstall();
+    }
+
+    @Test
+    void withJwsContextAppendsContextOnceTest() {
+        List<URI> contexts = List.of(CREDENTIALS_CONTEXT, BUSINESS_PARTNER_DATA_CONTEXT);
+
+        List<URI> completed = CommonUtils.withJwsContext(contexts);
+
+        Assertions.assertEquals(List.of(CREDENTIALS_CONTEXT, BUSINESS_PARTNER_DATA_CONTEXT, CommonUtils.JWS_2020_CONTEXT), completed);
+        Assertions.assertEquals(completed, CommonUtils.withJwsContext(completed));
+        Assertions.assertEquals(List.of(CREDENTIALS_CONTEXT, BUSINESS_PARTNER_DATA_CONTEXT), contexts);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> completed.add(CREDENTIALS_CONTEXT));
+    }
+
+    @Test
+    void createVerifiableCredentialKeepsContextsAndIsVerifiableTest() throws Exception {
+        List<URI> contexts = List.of(CREDENTIALS_CONTEXT, BUSINESS_PARTNER_DATA_CONTEXT);
+
+        VerifiableCredential credential = createBpnCredential(contexts);
+
+        Assertions.assertEquals(List.of(CREDENTIALS_CONTEXT, BUSINESS_PARTNER_DATA_CONTEXT), contexts);
+        Assertions.assertEquals(1, Collections.frequency(credential.getContext(), CommonUtils.JWS_2020_CONTEXT));
+        Assertions.assertTrue(verify(credential));
+    }
+
+    @Test
+    void createVerifiableCredentialDoesNotRepeatJwsContextTest() throws Exception {
+        List<URI> contexts = List.of(CREDENTIALS_CONTEXT, CommonUtils.JWS_2020_CONTEXT, BUSINESS_PARTNER_DATA_CONTEXT);
+
+        VerifiableCredential credential = createBpnCredential(contexts);
+
+        Assertions.assertEquals(contexts, credential.getContext());
+        Assertions.assertTrue(verify(credential));
+    }
+
+    private VerifiableCredential createBpnCredential(List<URI> contexts) {
+        VerifiableCredentialSubject subject = new VerifiableCredentialSubject(Map.of("type", MIWVerifiableCredentialType.BPN_CREDENTIAL,
+                "id", "did:web:localhost:BPNL000000000001", "bpn", "BPNL000000000001"));
+        return CommonUtils.createVerifiableCredential(issuerDocument, verificationMethod.getId(),
+                List.of(VerifiableCredentialType.VERIFIABLE_CREDENTIAL, MIWVerifiableCredentialType.BPN_CREDENTIAL), subject,
+                keyPair.getPrivateKey().asByte(), contexts, Date.from(Instant.now().plus(1, ChronoUnit.DAYS)));
+    }
+
+    private boolean verify(VerifiableCredential credential) throws Exception {
+        DidResolver didResolver = Mockito.mock(DidResolver.class);
+        Mockito.when(didResolver.isResolvable(Mockito.any(Did.class))).thenReturn(true);
+        Mockito.when(didResolver.resolve(Mockito.any(Did.class))).thenReturn(issuerDocument);
+        return LinkedDataProofValidation.newInstance(didResolver).verify(credential);
+    }
+}
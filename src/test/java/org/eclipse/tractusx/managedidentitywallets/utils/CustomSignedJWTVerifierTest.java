@@ -0,0 +1,88 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.utils;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.domain.DidDocumentChangedEvent;
+import org.eclipse.tractusx.managedidentitywallets.service.DidDocumentService;
+import org.eclipse.tractusx.ssi.lib.model.did.DidDocument;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.text.ParseException;
+import java.time.Duration;
+
+import static org.eclipse.tractusx.managedidentitywallets.utils.TestConstants.BPN_1;
+import static org.eclipse.tractusx.managedidentitywallets.utils.TestConstants.DID_BPN_1;
+import static org.eclipse.tractusx.managedidentitywallets.utils.TestConstants.DID_JSON_STRING_1;
+import static org.eclipse.tractusx.managedidentitywallets.utils.TestConstants.JWK_INNER;
+import static org.eclipse.tractusx.managedidentitywallets.utils.TestConstants.JWK_OUTER;
+
+class CustomSignedJWTVerifierTest {
+
+    private DidDocumentService didDocumentService;
+
+    private CustomSignedJWTVerifier customSignedJWTVerifier;
+
+    @BeforeEach
+    void setUp() {
+        didDocumentService = Mockito.mock(DidDocumentService.class);
+        Mockito.when(didDocumentService.getDidDocument(DID_BPN_1)).thenAnswer(invocation -> DidDocument.fromJson(DID_JSON_STRING_1));
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(10, Duration.ofMinutes(1));
+        customSignedJWTVerifier = new CustomSignedJWTVerifier(didDocumentService,
+                new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void verifyReusesVerifierUntilDidDocumentChanges() throws JOSEException, ParseException {
+        SignedJWT jwt = buildJwt(JWK_OUTER);
+
+        Assertions.assertTrue(customSignedJWTVerifier.verify(DID_BPN_1, jwt));
+        Assertions.assertTrue(customSignedJWTVerifier.verify(DID_BPN_1, buildJwt(JWK_OUTER)));
+        Mockito.verify(didDocumentService, Mockito.times(1)).getDidDocument(DID_BPN_1);
+
+        customSignedJWTVerifier.onDidDocumentChanged(new DidDocumentChangedEvent(DID_BPN_1, BPN_1));
+
+        Assertions.assertTrue(customSignedJWTVerifier.verify(DID_BPN_1, jwt));
+        Mockito.verify(didDocumentService, Mockito.times(2)).getDidDocument(DID_BPN_1);
+    }
+
+    @Test
+    void verifyRejectsSignatureOfOtherKeyWithCachedVerifier() throws JOSEException, ParseException {
+        Assertions.assertTrue(customSignedJWTVerifier.verify(DID_BPN_1, buildJwt(JWK_OUTER)));
+
+        OctetKeyPair otherKeyWithSameKid = new OctetKeyPair.Builder(JWK_INNER).keyID(JWK_OUTER.getKeyID()).build();
+        Assertions.assertFalse(customSignedJWTVerifier.verify(DID_BPN_1, buildJwt(otherKeyWithSameKid)));
+    }
+
+    private static SignedJWT buildJwt(OctetKeyPair jwk) throws JOSEException, ParseException {
+        JWTClaimsSet claimsSet = new JWTClaimsSet.Builder().issuer(DID_BPN_1).subject(DID_BPN_1).build();
+        return SignedJWT.parse(TestUtils.buildJWTToken(jwk, claimsSet));
+    }
+}
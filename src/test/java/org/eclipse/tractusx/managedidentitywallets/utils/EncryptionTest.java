@@ -22,6 +22,8 @@
 package org.eclipse.tractusx.managedidentitywallets.utils;
 
 import org.eclipse.tractusx.managedidentitywallets.ManagedIdentityWalletsApplication;
+import org.eclipse.tractusx.managedidentitywallets.config.EncryptionSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
 import org.eclipse.tractusx.managedidentitywallets.config.TestContextInitializer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ContextConfiguration;
 
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT, classes = {ManagedIdentityWalletsApplication.class})
 @ContextConfiguration(initializers = {TestContextInitializer.class})
 class EncryptionTest {
@@ -36,6 +50,9 @@ class EncryptionTest {
     @Autowired
     private EncryptionUtils encryptionUtils;
 
+    @Autowired
+    private MIWSettings miwSettings;
+
     @Test
     void encryptionTest() {
         String originalMassage = "Dummy test message";
@@ -44,4 +61,113 @@ class EncryptionTest {
         Assertions.assertEquals(originalMassage, decrypt);
     }
 
+    @Test
+    void byteEncryptionTest() {
+        byte[] originalMassage = "Dummy test message".getBytes();
+        String encrypt = encryptionUtils.encrypt(originalMassage);
+        Assertions.assertArrayEquals(originalMassage, encryptionUtils.decryptToBytes(encrypt));
+    }
+
+    @Test
+    void bufferDecryptionTest() {
+        byte[] originalMassage = "Dummy test message".getBytes();
+        ByteBuffer decrypted = encryptionUtils.decryptToBuffer(encryptionUtils.encrypt(originalMassage));
+
+        byte[] decryptedBytes = new byte[decrypted.remaining()];
+        decrypted.get(decryptedBytes);
+        Assertions.assertArrayEquals(originalMassage, decryptedBytes);
+    }
+
+    @Test
+    void envelopeEncryptionTest() {
+        String encrypt = encryptionUtils.encrypt("Dummy test message");
+
+        Assertions.assertTrue(encrypt.startsWith(EncryptionUtils.ENVELOPE_VERSION + "." + encryptionUtils.getKeyId() + "."));
+        Assertions.assertTrue(encryptionUtils.isEncryptedWithCurrentKey(encrypt));
+        Assertions.assertNotEquals(encrypt, encryptionUtils.encrypt("Dummy test message"));
+    }
+
+    @Test
+    void tamperedEnvelopeTest() {
+        String encrypt = encryptionUtils.encrypt("Dummy test message");
+        int payloadStart = encrypt.lastIndexOf('.') + 1;
+        byte[] payload = Base64.getDecoder().decode(encrypt.substring(payloadStart));
+        payload[payload.length - 1] ^= 1;
+        String tampered = encrypt.substring(0, payloadStart) + Base64.getEncoder().encodeToString(payload);
+
+        Assertions.assertThrows(AEADBadTagException.class, () -> encryptionUtils.decrypt(tampered));
+    }
+
+    @Test
+    void legacyDecryptionTest() throws Exception {
+        String originalMassage = "Dummy test message";
+        Cipher cipher = Cipher.getInstance(EncryptionUtils.AES);
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(miwSettings.encryptionKey().getBytes(), EncryptionUtils.AES));
+        String legacy = Base64.getEncoder().encodeToString(cipher.doFinal(originalMassage.getBytes()));
+
+        Assertions.assertFalse(encryptionUtils.isEncryptedWithCurrentKey(legacy));
+        Assertions.assertEquals(originalMassage, encryptionUtils.decrypt(legacy));
+    }
+
+    @Test
+    void previousKeyDecryptionTest() {
+        String previousKey = "bah3Quah0ahrahZ8";
+        EncryptionUtils previous = new EncryptionUtils(settings(previousKey), new EncryptionSettings(List.of(), null, false));
+        String encrypt = previous.encrypt("Dummy test message");
+
+        EncryptionUtils rotated = new EncryptionUtils(settings("eiKoh7oa2quaiQu6"), new EncryptionSettings(List.of(previousKey), null, false));
+
+        Assertions.assertNotEquals(previous.getKeyId(), rotated.getKeyId());
+        Assertions.assertFalse(rotated.isEncryptedWithCurrentKey(encrypt));
+        Assertions.assertEquals("Dummy test message", rotated.decrypt(encrypt));
+    }
+
+    @Test
+    void keyIdIsDerivedFromKeyTest() throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(miwSettings.encryptionKey().getBytes());
+
+        Assertions.assertEquals(HexFormat.of().formatHex(digest, 0, 8), encryptionUtils.getKeyId());
+    }
+
+    @Test
+    void configuredKeyIdDecryptionTest() throws Exception {
+        // values written while the key id was configured carry that id
+        String previousKey = "bah3Quah0ahrahZ8";
+        String encrypt = encryptWithKeyId(new SecretKeySpec(previousKey.getBytes(), EncryptionUtils.AES), "1", "Dummy test message");
+
+        EncryptionUtils rotated = new EncryptionUtils(settings("eiKoh7oa2quaiQu6"), new EncryptionSettings(List.of("1=" + previousKey), null, false));
+
+        Assertions.assertFalse(rotated.isEncryptedWithCurrentKey(encrypt));
+        Assertions.assertEquals("Dummy test message", rotated.decrypt(encrypt));
+    }
+
+    @Test
+    void keyIdOfAnotherKeyIsRejectedTest() {
+        EncryptionSettings settings = new EncryptionSettings(List.of("1=bah3Quah0ahrahZ8", "1=eiKoh7oa2quaiQu6"), null, false);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new EncryptionUtils(settings("eiKoh7oa2quaiQu6"), settings));
+    }
+
+    @Test
+    void currentKeyIdOfAnotherKeyIsRejectedTest() {
+        EncryptionSettings settings = new EncryptionSettings(List.of(encryptionUtils.getKeyId() + "=bah3Quah0ahrahZ8"), null, false);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new EncryptionUtils(miwSettings, settings));
+    }
+
+    private static String encryptWithKeyId(SecretKeySpec key, String keyId, String plain) throws Exception {
+        String header = EncryptionUtils.ENVELOPE_VERSION + "." + keyId + ".";
+        byte[] iv = new byte[12];
+        new SecureRandom().nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(EncryptionUtils.AES_GCM);
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        cipher.updateAAD(header.getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer envelope = ByteBuffer.allocate(iv.length + cipher.getOutputSize(plain.length()));
+        envelope.put(iv).put(cipher.doFinal(plain.getBytes()));
+        return header + Base64.getEncoder().encodeToString(envelope.array());
+    }
+
+    private static MIWSettings settings(String encryptionKey) {
+        return new MIWSettings(null, encryptionKey, null, null, null, null, null, null, null, false, null, null);
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.utils;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdErrorCode;
+import com.apicatalog.jsonld.document.Document;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.loader.DocumentLoader;
+import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
+import com.apicatalog.jsonld.loader.SchemeRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.json.Json;
+import org.eclipse.tractusx.managedidentitywallets.config.CacheSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.JsonLdSettings;
+import org.eclipse.tractusx.managedidentitywallets.config.MIWSettings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class JsonLdContextLoaderTest {
+
+    private static final URI STORED_CONTEXT = URI.create("https://example.org/contexts/stored/v1");
+
+    private static final URI MISSING_CONTEXT = URI.create("https://example.org/contexts/missing/v1");
+
+    private static final String CHECKSUMS = "checksums.properties";
+
+    @TempDir
+    private Path contextDirectory;
+
+    private final AtomicInteger remoteLoads = new AtomicInteger();
+
+    private final DocumentLoader remoteLoader = (url, options) -> {
+        remoteLoads.incrementAndGet();
+        return JsonDocument.of(Json.createObjectBuilder().add("@context", Json.createObjectBuilder()).build());
+    };
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(contextDirectory.resolve(JsonLdContextLoader.INDEX), "stored-v1.jsonld=" + STORED_CONTEXT);
+        Files.writeString(contextDirectory.resolve("stored-v1.jsonld"), """
+                {"@context": {"name": "https://schema.org/name"}}
+                """);
+    }
+
+    @Test
+    void storedContextIsParsedOnceTest() throws JsonLdError {
+        JsonLdContextLoader loader = loader(remoteLoader);
+
+        Document document = loader.loadDocument(STORED_CONTEXT, new DocumentLoaderOptions());
+
+        Assertions.assertEquals(STORED_CONTEXT, document.getDocumentUrl());
+        Assertions.assertTrue(document.getJsonContent().orElseThrow().asJsonObject().containsKey("@context"));
+        Assertions.assertSame(document, loader.loadDocument(STORED_CONTEXT, new DocumentLoaderOptions()));
+        Assertions.assertEquals(0, remoteLoads.get());
+    }
+
+    @Test
+    void missingContextIsFetchedOnceTest() throws JsonLdError {
+        JsonLdContextLoader loader = loader(remoteLoader);
+
+        Document document = loader.loadDocument(MISSING_CONTEXT, new DocumentLoaderOptions());
+
+        Assertions.assertSame(document, loader.loadDocument(MISSING_CONTEXT, new DocumentLoaderOptions()));
+        Assertions.assertEquals(1, remoteLoads.get());
+    }
+
+    @Test
+    void missingContextFailsWithoutRemoteFetchTest() {
+        JsonLdContextLoader loader = loader(null);
+
+        JsonLdError error = Assertions.assertThrows(JsonLdError.class, () -> loader.loadDocument(MISSING_CONTEXT, new DocumentLoaderOptions()));
+
+        Assertions.assertEquals(JsonLdErrorCode.LOADING_DOCUMENT_FAILED, error.getCode());
+    }
+
+    @Test
+    void configuredContextsArePreloadedTest() throws IOException, JsonLdError {
+        JsonLdContextLoader loader = loader(null);
+
+        loader.preload();
+        Files.delete(contextDirectory.resolve("stored-v1.jsonld"));
+
+        Assertions.assertNotNull(loader.loadDocument(STORED_CONTEXT, new DocumentLoaderOptions()));
+    }
+
+    @Test
+    void storedContextDoesNotExpireTest() throws InterruptedException, JsonLdError {
+        JsonLdContextLoader loader = loader(contextDirectory.toString(), List.of(STORED_CONTEXT), Duration.ofMillis(1), remoteLoader);
+
+        Document stored = loader.loadDocument(STORED_CONTEXT, new DocumentLoaderOptions());
+        loader.loadDocument(MISSING_CONTEXT, new DocumentLoaderOptions());
+        Thread.sleep(10);
+
+        Assertions.assertSame(stored, loader.loadDocument(STORED_CONTEXT, new DocumentLoaderOptions()));
+        loader.loadDocument(MISSING_CONTEXT, new DocumentLoaderOptions());
+        Assertions.assertEquals(2, remoteLoads.get());
+    }
+
+    @Test
+    void bundledContextsMatchTheirChecksumsTest() throws IOException, NoSuchAlgorithmException, JsonLdError {
+        JsonLdContextLoader loader = loader(null, List.of(), Duration.ofMinutes(1), null);
+        Properties index = bundled(JsonLdContextLoader.INDEX);
+        Properties checksums = bundled(CHECKSUMS);
+
+        for (String name : index.stringPropertyNames()) {
+            ClassPathResource file = new ClassPathResource(JsonLdContextLoader.BUNDLED_CONTEXTS + name);
+            if (!file.exists()) {
+                Assertions.assertFalse(checksums.containsKey(name), name + " has a checksum but no file");
+                continue;
+            }
+            byte[] content;
+            try (InputStream inputStream = file.getInputStream()) {
+                content = inputStream.readAllBytes();
+            }
+            Assertions.assertEquals(checksums.getProperty(name), HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)),
+                    name + " is not the downloaded context, run jsonLdContextsDownload");
+            URI url = URI.create(index.getProperty(name));
+            Assertions.assertEquals(url, loader.loadDocument(url, new DocumentLoaderOptions()).getDocumentUrl());
+        }
+        for (String name : checksums.stringPropertyNames()) {
+            Assertions.assertTrue(index.containsKey(name), name + " has a checksum but is not listed in the index");
+        }
+    }
+
+    @Test
+    void uninstallKeepsPreviouslyInstalledLoaderTest() throws JsonLdError {
+        JsonLdContextLoader first = loader(null);
+        JsonLdContextLoader second = loader(null);
+        first.install();
+        try {
+            second.install();
+            second.uninstall();
+
+            Document document = SchemeRouter.defaultInstance().loadDocument(STORED_CONTEXT, new DocumentLoaderOptions());
+
+            Assertions.assertSame(first.loadDocument(STORED_CONTEXT, new DocumentLoaderOptions()), document);
+        } finally {
+            first.uninstall();
+        }
+    }
+
+    private JsonLdContextLoader loader(DocumentLoader remoteLoader) {
+        return loader(contextDirectory.toString(), List.of(STORED_CONTEXT), Duration.ofMinutes(1), remoteLoader);
+    }
+
+    private static Properties bundled(String name) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = new ClassPathResource(JsonLdContextLoader.BUNDLED_CONTEXTS + name).getInputStream()) {
+            properties.load(inputStream);
+        }
+        return properties;
+    }
+
+    private JsonLdContextLoader loader(String contextDirectory, List<URI> vcContexts, Duration expireAfterWrite, DocumentLoader remoteLoader) {
+        CacheSettings.CacheSpec cacheSpec = new CacheSettings.CacheSpec(10, expireAfterWrite);
+        CacheSettings cacheSettings = new CacheSettings(cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec, cacheSpec);
+        MIWSettings miwSettings = new MIWSettings("localhost", null, null, null, null, vcContexts, List.of(), null,
+                null, true, null, List.of());
+        return new JsonLdContextLoader(new JsonLdSettings(contextDirectory, remoteLoader != null), miwSettings, cacheSettings,
+                new SimpleMeterRegistry(), remoteLoader);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * *******************************************************************************
+ *  Copyright (c) 2021,2024 Contributors to the Eclipse Foundation
+ *
+ *  See the NOTICE file(s) distributed with this work for additional
+ *  information regarding copyright ownership.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ * ******************************************************************************
+ */
+
+package org.eclipse.tractusx.managedidentitywallets.utils;
+
+import org.eclipse.tractusx.managedidentitywallets.dao.entity.Wallet;
+import org.eclipse.tractusx.managedidentitywallets.dto.ContinuationPage;
+import org.eclipse.tractusx.managedidentitywallets.exception.BadDataException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeysetPaginationTest {
+
+    @Test
+    void continuationTokenRoundTrip() {
+        KeysetPagination.Position position = new KeysetPagination.Position(Instant.parse("2024-01-02T03:04:05.123456Z"), 42);
+
+        Assertions.assertEquals(position, KeysetPagination.decode(KeysetPagination.encode(position)));
+    }
+
+    @Test
+    void invalidContinuationTokenIsRejected() {
+        Assertions.assertThrows(BadDataException.class, () -> KeysetPagination.decode("not a token"));
+        Assertions.assertThrows(BadDataException.class, () -> KeysetPagination.decode("Zm9v"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readReturnsTokenOfLastRowWithoutCounting() {
+        JpaSpecificationExecutor<Wallet> repository = mock(JpaSpecificationExecutor.class);
+        List<Wallet> rows = List.of(wallet(3L, "2024-01-03T00:00:00Z"), wallet(2L, "2024-01-02T00:00:00Z"), wallet(1L, "2024-01-01T00:00:00Z"));
+        when(repository.findBy(any(Specification.class), any())).thenReturn(rows);
+
+        ContinuationPage<Wallet> page = KeysetPagination.read(repository, Specification.where(null), "", 2, "desc", false, Wallet::getId);
+
+        Assertions.assertEquals(2, page.getContent().size());
+        Assertions.assertTrue(page.hasNext());
+        Assertions.assertEquals(new KeysetPagination.Position(Instant.parse("2024-01-02T00:00:00Z"), 2L), KeysetPagination.decode(page.getContinuationToken()));
+        Assertions.assertEquals(-1, page.getTotalElements());
+        Assertions.assertEquals(-1, page.getTotalPages());
+        verify(repository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readCountsOnRequestAndEndsOnLastPage() {
+        JpaSpecificationExecutor<Wallet> repository = mock(JpaSpecificationExecutor.class);
+        when(repository.findBy(any(Specification.class), any())).thenReturn(List.of(wallet(1L, "2024-01-01T00:00:00Z")));
+        when(repository.count(any(Specification.class))).thenReturn(3L);
+
+        ContinuationPage<Wallet> page = KeysetPagination.read(repository, Specification.where(null),
+                KeysetPagination.encode(new KeysetPagination.Position(Instant.parse("2024-01-02T00:00:00Z"), 2L)), 2, "desc", true, Wallet::getId);
+
+        Assertions.assertEquals(1, page.getContent().size());
+        Assertions.assertFalse(page.hasNext());
+        Assertions.assertNull(page.getContinuationToken());
+        Assertions.assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    void readRejectsEmptyPages() {
+        Assertions.assertThrows(BadDataException.class, () -> KeysetPagination.read(null, Specification.where(null), "", 0, "desc", false, Wallet::getId));
+    }
+
+    @Test
+    void readRejectsUnknownSortType() {
+        Assertions.assertThrows(BadDataException.class, () -> KeysetPagination.read(null, Specification.where(null), "", 2, "sideways", false, Wallet::getId));
+    }
+
+    private static Wallet wallet(long id, String createdAt) {
+        Wallet wallet = Wallet.builder().id(id).build();
+        wallet.setCreatedAt(Date.from(Instant.parse(createdAt)));
+        return wallet;
+    }
+}
@@ -36,6 +36,7 @@ import org.eclipse.tractusx.managedidentitywallets.dao.repository.HoldersCredent
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.IssuersCredentialRepository;
 import org.eclipse.tractusx.managedidentitywallets.dao.repository.WalletRepository;
 import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialRequest;
+import org.eclipse.tractusx.managedidentitywallets.dto.IssueFrameworkCredentialsRequest;
 import org.eclipse.tractusx.managedidentitywallets.dto.IssueMembershipCredentialRequest;
 import org.eclipse.tractusx.managedidentitywallets.service.IssuersCredentialService;
 import org.eclipse.tractusx.managedidentitywallets.utils.AuthenticationUtils;
@@ -191,6 +192,75 @@ class FrameworkHoldersCredentialTest {
 
     }
 
+    @Test
+    void issueFrameworkCredentialsWithInvalidBpnAccessTest403() {
+        String bpn = TestUtils.getRandomBpmNumber();
+        String did = DidWebFactory.fromHostnameAndPath(miwSettings.host(), bpn).toString();
+        TestUtils.createWallet(bpn, did, walletRepository);
+
+        HttpHeaders headers = AuthenticationUtils.getValidUserHttpHeaders(bpn);
+
+        IssueFrameworkCredentialsRequest request = new IssueFrameworkCredentialsRequest(List.of(TestUtils.getIssueFrameworkCredentialRequest(bpn, "PcfCredential")));
+
+        HttpEntity<IssueFrameworkCredentialsRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<String> response = restTemplate.exchange(RestURI.API_CREDENTIALS_ISSUER_FRAMEWORK_BULK, HttpMethod.POST, entity, String.class);
+        Assertions.assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatusCode().value());
+    }
+
+    @Test
+    void issueFrameworkCredentialsTest200() throws JsonProcessingException {
+        String baseBpn = miwSettings.authorityWalletBpn();
+        String bpn1 = TestUtils.getRandomBpmNumber();
+        String bpn2 = TestUtils.getRandomBpmNumber();
+        Wallet wallet1 = TestUtils.getWalletFromString(TestUtils.createWallet(bpn1, bpn1, restTemplate, baseBpn, miwSettings.host() + COLON_SEPARATOR + bpn1).getBody());
+        Wallet wallet2 = TestUtils.getWalletFromString(TestUtils.createWallet(bpn2, bpn2, restTemplate, baseBpn, miwSettings.host() + COLON_SEPARATOR + bpn2).getBody());
+        generateBpnCredential(wallet1);
+        generateBpnCredential(wallet2);
+        String oldSummaryCredentialId1 = TestUtils.getSummaryCredentialId(wallet1.getDid(), holdersCredentialRepository);
+        String oldSummaryCredentialId2 = TestUtils.getSummaryCredentialId(wallet2.getDid(), holdersCredentialRepository);
+
+        HttpHeaders headers = AuthenticationUtils.getValidUserHttpHeaders(baseBpn);
+
+        IssueFrameworkCredentialsRequest request = new IssueFrameworkCredentialsRequest(List.of(
+                TestUtils.getIssueFrameworkCredentialRequest(bpn1, "PcfCredential"),
+                TestUtils.getIssueFrameworkCredentialRequest(wallet2.getDid(), "TraceabilityCredential"),
+                TestUtils.getIssueFrameworkCredentialRequest(bpn1, "QualityCredential"),
+                TestUtils.getIssueFrameworkCredentialRequest(TestUtils.getRandomBpmNumber(), "PcfCredential"),
+                TestUtils.getIssueFrameworkCredentialRequest(bpn2, "cx-traceability1")));
+
+        HttpEntity<IssueFrameworkCredentialsRequest> entity = new HttpEntity<>(request, headers);
+
+        ResponseEntity<String> response = restTemplate.exchange(RestURI.API_CREDENTIALS_ISSUER_FRAMEWORK_BULK, HttpMethod.POST, entity, String.class);
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatusCode().value());
+
+        List<Map<String, Object>> results = new ObjectMapper().readValue(response.getBody(), List.class);
+        Assertions.assertEquals(5, results.size());
+        Assertions.assertEquals(List.of(true, true, true, false, false), results.stream().map(result -> result.get("issued")).toList());
+        Assertions.assertTrue(results.get(3).get("error").toString().startsWith("Wallet not found"));
+        Assertions.assertTrue(results.get(4).get("error").toString().contains("is not supported"));
+
+        VerifiableCredential verifiableCredential = new VerifiableCredential((Map<String, Object>) results.get(1).get("credential"));
+        TestUtils.checkVC(verifiableCredential, miwSettings);
+        Assertions.assertEquals("TraceabilityCredential", verifiableCredential.getCredentialSubject().get(0).get(StringPool.TYPE));
+        Assertions.assertEquals(wallet2.getDid(), verifiableCredential.getCredentialSubject().get(0).get(StringPool.ID));
+
+        List<HoldersCredential> credentials = holdersCredentialRepository.getByHolderDidAndType(wallet1.getDid(), MIWVerifiableCredentialType.USE_CASE_FRAMEWORK_CONDITION);
+        Assertions.assertEquals(2, credentials.size());
+        credentials.forEach(credential -> {
+            TestUtils.checkVC(credential.getData(), miwSettings);
+            Assertions.assertFalse(credential.isStored());
+            Assertions.assertFalse(credential.isSelfIssued());
+        });
+        Assertions.assertEquals(2, issuersCredentialRepository.getByIssuerDidAndHolderDidAndType(miwSettings.authorityWalletDid(), wallet1.getDid(), MIWVerifiableCredentialType.USE_CASE_FRAMEWORK_CONDITION).size());
+        Assertions.assertEquals(1, issuersCredentialRepository.getByIssuerDidAndHolderDidAndType(miwSettings.authorityWalletDid(), wallet2.getDid(), MIWVerifiableCredentialType.USE_CASE_FRAMEWORK_CONDITION).size());
+
+        //check summary credential, holding all issued types
+        TestUtils.checkSummaryCredential(miwSettings.authorityWalletDid(), wallet1.getDid(), holdersCredentialRepository, issuersCredentialRepository, "PcfCredential", oldSummaryCredentialId1);
+        TestUtils.checkSummaryCredential(miwSettings.authorityWalletDid(), wallet1.getDid(), holdersCredentialRepository, issuersCredentialRepository, "QualityCredential", oldSummaryCredentialId1);
+        TestUtils.checkSummaryCredential(miwSettings.authorityWalletDid(), wallet2.getDid(), holdersCredentialRepository, issuersCredentialRepository, "TraceabilityCredential", oldSummaryCredentialId2);
+    }
+
     private void createAndValidateVC(String bpn, String did, String type) throws JsonProcessingException {
         //create wallet
         String baseBpn = miwSettings.authorityWalletBpn();
@@ -56,10 +56,12 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -240,6 +242,34 @@ class WalletTest {
         Assertions.assertFalse(vc.get(0).isSelfIssued());
     }
 
+    @Test
+    void storeCredentialWithSeveralTypesTest201() throws JsonProcessingException {
+
+        String bpn = TestUtils.getRandomBpmNumber();
+        String did = DidWebFactory.fromHostnameAndPath(miwSettings.host(), bpn).toString();
+        String baseBpn = miwSettings.authorityWalletBpn();
+
+        String defaultLocation = miwSettings.host() + COLON_SEPARATOR + bpn;
+        TestUtils.createWallet(bpn, "name", restTemplate, baseBpn, defaultLocation);
+        HttpHeaders headers = AuthenticationUtils.getValidUserHttpHeaders(bpn);
+
+        ResponseEntity<Map> response = storeCredential(bpn, did, headers, List.of("University-Degree-Credential", "Alumni-Credential", "VerifiableCredential"));
+        Assertions.assertEquals(HttpStatus.CREATED.value(), response.getStatusCode().value());
+
+        Assertions.assertEquals(1, holdersCredentialRepository.getByHolderDidAndType(did, "University-Degree-Credential").size());
+        Assertions.assertEquals(1, holdersCredentialRepository.getByHolderDidAndType(did, "Alumni-Credential").size());
+        Assertions.assertTrue(holdersCredentialRepository.getByHolderDidAndType(did, "Alumni").isEmpty());
+
+        HttpEntity<Map> entity = new HttpEntity<>(headers);
+        ResponseEntity<String> credentials = restTemplate.exchange(RestURI.CREDENTIALS + "?type={type}", HttpMethod.GET, entity, String.class, "Alumni-Credential");
+        Assertions.assertEquals(HttpStatus.OK.value(), credentials.getStatusCode().value());
+        Assertions.assertEquals(1, Objects.requireNonNull(TestUtils.getVerifiableCredentials(credentials, objectMapper)).size());
+
+        credentials = restTemplate.exchange(RestURI.CREDENTIALS + "?type={type}", HttpMethod.GET, entity, String.class, "Credential");
+        Assertions.assertEquals(HttpStatus.OK.value(), credentials.getStatusCode().value());
+        Assertions.assertTrue(Objects.requireNonNull(TestUtils.getVerifiableCredentials(credentials, objectMapper)).isEmpty());
+    }
+
 
     @Test
     void storeCredentialsWithDifferentBPNAccess403() throws JsonProcessingException {
@@ -414,6 +444,51 @@ class WalletTest {
         Assertions.assertEquals(body.getBpn(), bpn);
     }
 
+    @Test
+    void exportCredentialsTest200() throws JsonProcessingException {
+        String bpn = TestUtils.getRandomBpmNumber();
+        String did = DidWebFactory.fromHostnameAndPath(miwSettings.host(), bpn).toString();
+        String baseBpn = miwSettings.authorityWalletBpn();
+
+        //Create entry
+        String defaultLocation = miwSettings.host() + COLON_SEPARATOR + bpn;
+        TestUtils.createWallet(bpn, "Sample Name", restTemplate, baseBpn, defaultLocation);
+
+        //store credentials
+        ResponseEntity<Map> response = storeCredential(bpn, did);
+        Assertions.assertEquals(HttpStatus.CREATED.value(), response.getStatusCode().value());
+
+        HttpHeaders headers = AuthenticationUtils.getValidUserHttpHeaders(bpn);
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<String> exportResponse = restTemplate.exchange(RestURI.API_WALLETS_IDENTIFIER_CREDENTIALS_EXPORT, HttpMethod.GET, entity, String.class, bpn);
+        Assertions.assertEquals(HttpStatus.OK.value(), exportResponse.getStatusCode().value());
+        Assertions.assertEquals(MediaType.APPLICATION_NDJSON, exportResponse.getHeaders().getContentType());
+        String[] lines = Objects.requireNonNull(exportResponse.getBody()).split("\n");
+        Assertions.assertEquals(1, lines.length);
+        Assertions.assertEquals("http://example.edu/credentials/3732", objectMapper.readValue(lines[0], Map.class).get("id"));
+
+        //nothing created after now
+        ResponseEntity<String> sinceResponse = restTemplate.exchange(RestURI.API_WALLETS_IDENTIFIER_CREDENTIALS_EXPORT + "?since={since}", HttpMethod.GET, entity, String.class, bpn, Instant.now().plusSeconds(60).toString());
+        Assertions.assertEquals(HttpStatus.OK.value(), sinceResponse.getStatusCode().value());
+        Assertions.assertTrue(sinceResponse.getBody() == null || sinceResponse.getBody().isEmpty());
+    }
+
+    @Test
+    void exportCredentialsWithDifferentBPNAccess403() {
+        String bpn = TestUtils.getRandomBpmNumber();
+        String baseBpn = miwSettings.authorityWalletBpn();
+
+        String defaultLocation = miwSettings.host() + COLON_SEPARATOR + bpn;
+        TestUtils.createWallet(bpn, "Sample Name", restTemplate, baseBpn, defaultLocation);
+
+        HttpHeaders headers = AuthenticationUtils.getValidUserHttpHeaders("invalid BPN");
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<String> response = restTemplate.exchange(RestURI.API_WALLETS_IDENTIFIER_CREDENTIALS_EXPORT, HttpMethod.GET, entity, String.class, bpn);
+        Assertions.assertEquals(HttpStatus.FORBIDDEN.value(), response.getStatusCode().value());
+    }
+
     @Test
     @Disabled("the endpoint has an issue that prevents resolving did with a port number")
     void getWalletByIdentifierDidTest200() throws JsonProcessingException {
@@ -481,6 +556,10 @@ class WalletTest {
 
 
     private ResponseEntity<Map> storeCredential(String bpn, String did, HttpHeaders headers) throws JsonProcessingException {
+        return storeCredential(bpn, did, headers, List.of("University-Degree-Credential", "VerifiableCredential"));
+    }
+
+    private ResponseEntity<Map> storeCredential(String bpn, String did, HttpHeaders headers, List<String> types) throws JsonProcessingException {
         String vc = """
                                 {
                                     "id": "http://example.edu/credentials/3732",
@@ -489,10 +568,7 @@ class WalletTest {
                                         "https://www.w3.org/2018/credentials/v1",
                                         "https://www.w3.org/2018/credentials/examples/v1"
                                     ],
-                                    "type":
-                                    [
-                                        "University-Degree-Credential", "VerifiableCredential"
-                                    ],
+                                    "type": ##types,
                                     "issuer": "did:example:76e12ec712ebc6f1c221ebfeb1f",
                                     "issuanceDate": "2019-06-16T18:56:59Z",
                                     "expirationDate": "2019-06-17T18:56:59Z",
@@ -522,7 +598,7 @@ class WalletTest {
                                 }
                 """;
 
-        Map<String, Objects> map = objectMapper.readValue(vc.replace("##did", did), Map.class);
+        Map<String, Objects> map = objectMapper.readValue(vc.replace("##did", did).replace("##types", objectMapper.writeValueAsString(types)), Map.class);
         HttpEntity<Map> entity = new HttpEntity<>(map, headers);
 
         ResponseEntity<Map> response = restTemplate.exchange(RestURI.API_WALLETS_IDENTIFIER_CREDENTIALS, HttpMethod.POST, entity, Map.class, bpn);